@@ -3,9 +3,15 @@ package com.bvhfve.aethelon.client;
 import com.bvhfve.aethelon.Aethelon;
 import com.bvhfve.aethelon.client.model.ModEntityModelLayers;
 import com.bvhfve.aethelon.client.render.AethelonEntityRenderer;
+import com.bvhfve.aethelon.entity.AethelonEntity;
+import com.bvhfve.aethelon.entity.TurtleRegistry;
+import com.bvhfve.aethelon.network.IslandSyncPayload;
 import com.bvhfve.aethelon.registry.ModEntityTypes;
 import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientEntityEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 import net.fabricmc.fabric.api.client.rendering.v1.EntityRendererRegistry;
+import net.minecraft.entity.Entity;
 
 /**
  * Client-side initialization for Aethelon mod
@@ -29,6 +35,15 @@ public class AethelonClient implements ClientModInitializer {
             // Register entity renderers
             registerEntityRenderers();
             
+            // Register network receivers
+            registerNetworking();
+            
+            // Track loaded turtles for the per-entity collision pre-check
+            registerEntityEvents();
+            
+            // Virtual island targeting and outline
+            IslandTargeting.register();
+            
             // TODO: Register particle factories (Phase 4+)
             // TODO: Register key bindings (Phase 3+)
             // TODO: Register screen handlers (Phase 4+)
@@ -61,4 +76,36 @@ public class AethelonClient implements ClientModInitializer {
         
         Aethelon.LOGGER.debug("Successfully registered {} entity renderers", 1);
     }
+    
+    /**
+     * Keeps the client turtle set of the turtle registry in step with loaded entities
+     */
+    private void registerEntityEvents() {
+        ClientEntityEvents.ENTITY_LOAD.register((entity, world) -> {
+            if (entity instanceof AethelonEntity turtle) {
+                TurtleRegistry.addClientTurtle(world, turtle);
+            }
+        });
+        ClientEntityEvents.ENTITY_UNLOAD.register((entity, world) -> {
+            if (entity instanceof AethelonEntity turtle) {
+                TurtleRegistry.removeClientTurtle(world, turtle);
+            }
+        });
+    }
+    
+    /**
+     * Registers client-side payload receivers
+     */
+    private void registerNetworking() {
+        Aethelon.LOGGER.debug("Registering network receivers");
+        
+        ClientPlayNetworking.registerGlobalReceiver(IslandSyncPayload.ID, (payload, context) -> {
+            if (context.client().world == null) return;
+            
+            Entity entity = context.client().world.getEntityById(payload.entityId());
+            if (entity instanceof AethelonEntity turtle && turtle.getIslandManager() != null) {
+                turtle.getIslandManager().setClientVirtualIsland(payload.island());
+            }
+        });
+    }
 }
\ No newline at end of file
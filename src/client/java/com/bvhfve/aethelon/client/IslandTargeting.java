@@ -0,0 +1,192 @@
+package com.bvhfve.aethelon.client;
+
+import com.bvhfve.aethelon.entity.AethelonEntity;
+import com.bvhfve.aethelon.island.VirtualIsland;
+import com.bvhfve.aethelon.island.VirtualIslandTracker;
+import com.bvhfve.aethelon.network.IslandBreakPayload;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderContext;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderEvents;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.render.VertexRendering;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.Hand;
+import net.minecraft.util.hit.BlockHitResult;
+import net.minecraft.util.hit.HitResult;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.EmptyBlockView;
+
+import java.util.List;
+
+/**
+ * Crosshair targeting and block breaking for virtual islands
+ *
+ * Virtual islands are not in the world, so vanilla never targets them:
+ * - After the vanilla crosshair update, islands in reach are raycast and win when they are closer
+ * - Holding attack on an island block runs mining progress here; the server breaks the block
+ * - Using an item on an island block does nothing instead of acting on the air behind it
+ */
+public class IslandTargeting {
+
+    // Ticks between two breaks, as vanilla waits after a finished block
+    private static final int BREAK_COOLDOWN = 5;
+
+    private static final int OUTLINE_COLOR = 0x66000000;
+
+    /**
+     * Crosshair hit on a virtual island block
+     * getBlockPos() is the world cell the block would materialize in; getCell() is the capture-frame cell
+     */
+    public static class IslandHitResult extends BlockHitResult {
+        private final AethelonEntity turtle;
+        private final VirtualIsland island;
+        private final BlockPos cell;
+
+        IslandHitResult(BlockHitResult localHit, AethelonEntity turtle, VirtualIsland island) {
+            super(localHit.getPos(), localHit.getSide(),
+                    localHit.getBlockPos().add(island.getBlockOffset(turtle.getPos())), localHit.isInsideBlock());
+            this.turtle = turtle;
+            this.island = island;
+            this.cell = localHit.getBlockPos().toImmutable();
+        }
+
+        public AethelonEntity getTurtle() {
+            return turtle;
+        }
+
+        public BlockPos getCell() {
+            return cell;
+        }
+
+        public BlockState getIslandState() {
+            return island.getVolume().get(cell);
+        }
+    }
+
+    private static int miningTurtle = -1;
+    private static BlockPos miningCell = null;
+    private static float miningProgress = 0.0f;
+    private static int breakCooldown = 0;
+
+    /**
+     * Register the island block outline
+     */
+    public static void register() {
+        WorldRenderEvents.BEFORE_BLOCK_OUTLINE.register((context, hitResult) -> {
+            if (hitResult instanceof IslandHitResult islandHit) {
+                renderOutline(context, islandHit);
+                return false;
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Replace the crosshair target with the nearest island block in reach (called after the vanilla update)
+     */
+    public static void updateCrosshairTarget(MinecraftClient client, float tickDelta) {
+        Entity camera = client.getCameraEntity();
+        if (camera == null || client.world == null || client.player == null) return;
+
+        List<AethelonEntity> turtles = VirtualIslandTracker.getVirtualIslands(client.world);
+        if (turtles.isEmpty()) return;
+
+        Vec3d start = camera.getCameraPosVec(tickDelta);
+        Vec3d end = start.add(camera.getRotationVec(tickDelta).multiply(client.player.getBlockInteractionRange()));
+        HitResult current = client.crosshairTarget;
+        double nearest = current != null && current.getType() != HitResult.Type.MISS
+                ? current.getPos().squaredDistanceTo(start) : Double.MAX_VALUE;
+
+        IslandHitResult best = null;
+        for (AethelonEntity turtle : turtles) {
+            VirtualIsland island = turtle.getIslandManager() != null ? turtle.getIslandManager().getVirtualIsland() : null;
+            if (island == null || turtle.isRemoved()) continue;
+
+            BlockHitResult hit = turtle.getIslandManager().raycastIsland(start, end);
+            if (hit != null && hit.getPos().squaredDistanceTo(start) < nearest) {
+                nearest = hit.getPos().squaredDistanceTo(start);
+                best = new IslandHitResult(hit, turtle, island);
+            }
+        }
+
+        if (best != null) {
+            client.crosshairTarget = best;
+            client.targetedEntity = null;
+        }
+    }
+
+    /**
+     * Run island block breaking for this tick
+     *
+     * @return whether the crosshair is on an island, in which case vanilla block breaking is skipped
+     */
+    public static boolean handleBlockBreaking(MinecraftClient client, boolean breaking) {
+        if (breakCooldown > 0) {
+            breakCooldown--;
+        }
+        if (!(client.crosshairTarget instanceof IslandHitResult hit) || client.player == null) {
+            resetMining();
+            return false;
+        }
+        if (!breaking || client.player.isUsingItem()) {
+            resetMining();
+            return true;
+        }
+        if (breakCooldown > 0) return true;
+
+        int turtleId = hit.getTurtle().getId();
+        if (turtleId != miningTurtle || !hit.getCell().equals(miningCell)) {
+            miningTurtle = turtleId;
+            miningCell = hit.getCell();
+            miningProgress = 0.0f;
+            ClientPlayNetworking.send(new IslandBreakPayload(turtleId, miningCell, false));
+        }
+
+        BlockState state = hit.getIslandState();
+        miningProgress += client.player.isCreative() ? 1.0f
+                : state.calcBlockBreakingDelta(client.player, EmptyBlockView.INSTANCE, miningCell);
+        client.player.swingHand(Hand.MAIN_HAND);
+
+        if (miningProgress >= 1.0f) {
+            ClientPlayNetworking.send(new IslandBreakPayload(turtleId, miningCell, true));
+            resetMining();
+            breakCooldown = BREAK_COOLDOWN;
+        }
+        return true;
+    }
+
+    /**
+     * Item use on an island block is swallowed; the world cell behind it is usually air or water
+     */
+    public static boolean isTargetingIsland(MinecraftClient client) {
+        return client.crosshairTarget instanceof IslandHitResult;
+    }
+
+    private static void resetMining() {
+        miningTurtle = -1;
+        miningCell = null;
+        miningProgress = 0.0f;
+    }
+
+    private static void renderOutline(WorldRenderContext context, IslandHitResult hit) {
+        MatrixStack matrices = context.matrixStack();
+        VertexConsumerProvider consumers = context.consumers();
+        if (matrices == null || consumers == null) return;
+
+        // Follow the interpolated turtle, like the island mesh does
+        VirtualIsland island = hit.island;
+        Vec3d offset = island.getOffset(hit.getTurtle().getLerpedPos(context.tickCounter().getTickDelta(false)));
+        Vec3d camera = context.camera().getPos();
+        BlockPos cell = hit.getCell();
+
+        VertexRendering.drawOutline(matrices, consumers.getBuffer(RenderLayer.getLines()),
+                hit.getIslandState().getOutlineShape(EmptyBlockView.INSTANCE, cell),
+                cell.getX() + offset.x - camera.x, cell.getY() + offset.y - camera.y, cell.getZ() + offset.z - camera.z,
+                OUTLINE_COLOR);
+    }
+}
@@ -0,0 +1,14 @@
+package com.bvhfve.aethelon.client.render;
+
+import com.bvhfve.aethelon.island.VirtualIsland;
+import net.minecraft.client.render.entity.state.LivingEntityRenderState;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Render state for the Aethelon entity
+ * Carries the virtual island (if any) so it can be drawn with the turtle while it travels
+ */
+public class AethelonEntityRenderState extends LivingEntityRenderState {
+    @Nullable
+    public VirtualIsland virtualIsland;
+}
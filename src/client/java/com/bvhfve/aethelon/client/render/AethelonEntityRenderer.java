@@ -3,16 +3,24 @@ package com.bvhfve.aethelon.client.render;
 import com.bvhfve.aethelon.Aethelon;
 import com.bvhfve.aethelon.client.model.AethelonEntityModel;
 import com.bvhfve.aethelon.entity.AethelonEntity;
+import com.bvhfve.aethelon.island.VirtualIsland;
+import net.minecraft.client.render.Frustum;
+import net.minecraft.client.render.VertexConsumerProvider;
 import net.minecraft.client.render.entity.EntityRendererFactory;
 import net.minecraft.client.render.entity.MobEntityRenderer;
 import net.minecraft.client.render.entity.state.LivingEntityRenderState;
+import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.util.Identifier;
 
+import java.util.Map;
+import java.util.WeakHashMap;
+
 /**
  * Renderer for the Aethelon entity
  * Handles the visual representation of the world turtle
  * Updated for Minecraft 1.21.4 render state system
  * Performance optimized with distance-based rendering and shadow management
+ * Also draws the turtle's virtual island while it travels, from a mesh built once per island
  */
 public class AethelonEntityRenderer extends MobEntityRenderer<AethelonEntity, LivingEntityRenderState, AethelonEntityModel> {
     
@@ -24,6 +32,9 @@ public class AethelonEntityRenderer extends MobEntityRenderer<AethelonEntity, Li
     private static final float LOD_SWITCH_DISTANCE = 64.0f;
     private static final float SHADOW_DISTANCE = 32.0f;
     
+    // Island meshes, rebuilt only when an island's blocks change
+    private final Map<VirtualIsland, VirtualIslandMesh> islandMeshes = new WeakHashMap<>();
+    
     public AethelonEntityRenderer(EntityRendererFactory.Context context) {
         // Reduced shadow radius for performance
         super(context, new AethelonEntityModel(context.getPart(com.bvhfve.aethelon.client.model.ModEntityModelLayers.AETHELON)), 8.0f);
@@ -31,7 +42,49 @@ public class AethelonEntityRenderer extends MobEntityRenderer<AethelonEntity, Li
     
     @Override
     public LivingEntityRenderState createRenderState() {
-        return new LivingEntityRenderState();
+        return new AethelonEntityRenderState();
+    }
+    
+    @Override
+    public void updateRenderState(AethelonEntity entity, LivingEntityRenderState renderState, float tickDelta) {
+        super.updateRenderState(entity, renderState, tickDelta);
+        if (renderState instanceof AethelonEntityRenderState aethelonState) {
+            aethelonState.virtualIsland = entity.getIslandManager() != null ? entity.getIslandManager().getVirtualIsland() : null;
+        }
+    }
+    
+    @Override
+    public boolean shouldRender(AethelonEntity entity, Frustum frustum, double x, double y, double z) {
+        if (super.shouldRender(entity, frustum, x, y, z)) {
+            return true;
+        }
+        
+        // The virtual island extends far beyond the turtle's hitbox
+        VirtualIsland island = entity.getIslandManager() != null ? entity.getIslandManager().getVirtualIsland() : null;
+        return island != null && frustum.isVisible(island.getWorldBounds(entity.getPos()));
+    }
+    
+    @Override
+    public void render(LivingEntityRenderState renderState, MatrixStack matrices, VertexConsumerProvider vertexConsumers, int light) {
+        super.render(renderState, matrices, vertexConsumers, light);
+        
+        if (renderState instanceof AethelonEntityRenderState aethelonState && aethelonState.virtualIsland != null
+                && getDistanceToCamera(renderState) <= MAX_RENDER_DISTANCE) {
+            renderVirtualIsland(aethelonState.virtualIsland, matrices, vertexConsumers, light);
+        }
+    }
+    
+    /**
+     * Draw the virtual island relative to the turtle
+     * The matrix stack is at the interpolated turtle position, the mesh is stored relative to the captured turtle position
+     */
+    private void renderVirtualIsland(VirtualIsland island, MatrixStack matrices, VertexConsumerProvider vertexConsumers, int light) {
+        VirtualIslandMesh mesh = islandMeshes.get(island);
+        if (mesh == null || !mesh.isCurrent(island)) {
+            mesh = VirtualIslandMesh.build(island);
+            islandMeshes.put(island, mesh);
+        }
+        mesh.render(island, matrices, vertexConsumers, light);
     }
     
     @Override
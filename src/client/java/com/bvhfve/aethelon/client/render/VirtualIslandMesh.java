@@ -0,0 +1,207 @@
+package com.bvhfve.aethelon.client.render;
+
+import com.bvhfve.aethelon.island.IslandVolume;
+import com.bvhfve.aethelon.island.VirtualIsland;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.block.BlockRenderType;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.color.block.BlockColors;
+import net.minecraft.client.render.OverlayTexture;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.RenderLayers;
+import net.minecraft.client.render.TexturedRenderLayers;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.render.block.BlockRenderManager;
+import net.minecraft.client.render.model.BakedModel;
+import net.minecraft.client.render.model.BakedQuad;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.math.random.Random;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Vertex data of a virtual island, built once per island and redrawn with the turtle's transform
+ *
+ * - Vertices are stored relative to the turtle, so a frame is one matrix transform per vertex
+ *   instead of a model lookup and matrix push per block
+ * - Faces covered by an opaque island neighbour are dropped while building
+ * - Blocks without a plain model (chests, banners...) keep the per-frame entity-style path
+ */
+class VirtualIslandMesh {
+
+    // x, y, z, u, v, normal x, normal y, normal z
+    private static final int FLOATS_PER_VERTEX = 8;
+
+    private final Map<RenderLayer, FloatArrayList> vertices = new HashMap<>();
+    private final Map<RenderLayer, IntArrayList> colors = new HashMap<>();
+    private final List<BlockPos> specialCells = new ArrayList<>();
+    private int revision;
+
+    /**
+     * Build the mesh of an island (render thread)
+     */
+    static VirtualIslandMesh build(VirtualIsland island) {
+        MinecraftClient client = MinecraftClient.getInstance();
+        BlockRenderManager blockRenderManager = client.getBlockRenderManager();
+        BlockColors blockColors = client.getBlockColors();
+        IslandVolume volume = island.getVolume();
+        Vec3d capturePos = island.getCaptureTurtlePos();
+
+        VirtualIslandMesh mesh = new VirtualIslandMesh();
+        mesh.revision = island.getRevision();
+        MatrixStack matrices = new MatrixStack();
+        Random random = Random.create();
+        BlockPos.Mutable neighbour = new BlockPos.Mutable();
+
+        for (BlockPos cell : island.getExposedCells()) {
+            BlockState state = volume.get(cell);
+            if (state.getRenderType() != BlockRenderType.MODEL) {
+                if (state.getRenderType() != BlockRenderType.INVISIBLE) {
+                    mesh.specialCells.add(cell);
+                }
+                continue;
+            }
+
+            BakedModel model = blockRenderManager.getModel(state);
+            int tint = blockColors.getColor(state, null, null, 0);
+            Recorder recorder = mesh.recorder(getLayer(state));
+
+            matrices.push();
+            matrices.translate(cell.getX() - capturePos.x, cell.getY() - capturePos.y, cell.getZ() - capturePos.z);
+            for (Direction direction : Direction.values()) {
+                neighbour.set(cell, direction);
+                if (volume.get(neighbour).isOpaque()) continue;
+                random.setSeed(42L);
+                emitQuads(recorder, matrices.peek(), model.getQuads(state, direction, random), tint);
+            }
+            random.setSeed(42L);
+            emitQuads(recorder, matrices.peek(), model.getQuads(state, null, random), tint);
+            matrices.pop();
+        }
+        return mesh;
+    }
+
+    /**
+     * Check if the mesh still matches the island's blocks
+     */
+    boolean isCurrent(VirtualIsland island) {
+        return revision == island.getRevision();
+    }
+
+    /**
+     * Draw the mesh; the matrix stack is at the interpolated turtle position
+     */
+    void render(VirtualIsland island, MatrixStack matrices, VertexConsumerProvider vertexConsumers, int light) {
+        MatrixStack.Entry entry = matrices.peek();
+        for (Map.Entry<RenderLayer, FloatArrayList> layer : vertices.entrySet()) {
+            VertexConsumer consumer = vertexConsumers.getBuffer(layer.getKey());
+            float[] data = layer.getValue().elements();
+            int[] vertexColors = colors.get(layer.getKey()).elements();
+            int count = colors.get(layer.getKey()).size();
+            for (int i = 0; i < count; i++) {
+                int base = i * FLOATS_PER_VERTEX;
+                consumer.vertex(entry, data[base], data[base + 1], data[base + 2])
+                        .color(vertexColors[i])
+                        .texture(data[base + 3], data[base + 4])
+                        .overlay(OverlayTexture.DEFAULT_UV)
+                        .light(light)
+                        .normal(entry, data[base + 5], data[base + 6], data[base + 7]);
+            }
+        }
+
+        if (!specialCells.isEmpty()) {
+            BlockRenderManager blockRenderManager = MinecraftClient.getInstance().getBlockRenderManager();
+            Vec3d capturePos = island.getCaptureTurtlePos();
+            for (BlockPos cell : specialCells) {
+                matrices.push();
+                matrices.translate(cell.getX() - capturePos.x, cell.getY() - capturePos.y, cell.getZ() - capturePos.z);
+                blockRenderManager.renderBlockAsEntity(island.getVolume().get(cell), matrices, vertexConsumers, light, OverlayTexture.DEFAULT_UV);
+                matrices.pop();
+            }
+        }
+    }
+
+    private Recorder recorder(RenderLayer layer) {
+        return new Recorder(vertices.computeIfAbsent(layer, key -> new FloatArrayList()),
+                colors.computeIfAbsent(layer, key -> new IntArrayList()));
+    }
+
+    private static void emitQuads(Recorder recorder, MatrixStack.Entry entry, List<BakedQuad> quads, int tint) {
+        for (BakedQuad quad : quads) {
+            float red = quad.hasColor() ? (tint >> 16 & 0xFF) / 255.0f : 1.0f;
+            float green = quad.hasColor() ? (tint >> 8 & 0xFF) / 255.0f : 1.0f;
+            float blue = quad.hasColor() ? (tint & 0xFF) / 255.0f : 1.0f;
+            recorder.quad(entry, quad, red, green, blue, 1.0f, 0, OverlayTexture.DEFAULT_UV);
+        }
+    }
+
+    /**
+     * Entity-compatible layer, as BlockRenderManager.renderBlockAsEntity would pick
+     */
+    private static RenderLayer getLayer(BlockState state) {
+        return RenderLayers.getBlockLayer(state) == RenderLayer.getTranslucent()
+                ? TexturedRenderLayers.getEntityTranslucentCull()
+                : TexturedRenderLayers.getEntityCutout();
+    }
+
+    /**
+     * Vertex consumer that stores position, color, texture and normal; light and overlay are applied per frame
+     */
+    private static class Recorder implements VertexConsumer {
+        private final FloatArrayList vertices;
+        private final IntArrayList colors;
+
+        Recorder(FloatArrayList vertices, IntArrayList colors) {
+            this.vertices = vertices;
+            this.colors = colors;
+        }
+
+        @Override
+        public VertexConsumer vertex(float x, float y, float z) {
+            vertices.add(x);
+            vertices.add(y);
+            vertices.add(z);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer color(int red, int green, int blue, int alpha) {
+            colors.add(alpha << 24 | red << 16 | green << 8 | blue);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer texture(float u, float v) {
+            vertices.add(u);
+            vertices.add(v);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer overlay(int u, int v) {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer light(int u, int v) {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer normal(float x, float y, float z) {
+            vertices.add(x);
+            vertices.add(y);
+            vertices.add(z);
+            return this;
+        }
+    }
+}
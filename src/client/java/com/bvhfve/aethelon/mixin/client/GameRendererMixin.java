@@ -0,0 +1,27 @@
+package com.bvhfve.aethelon.mixin.client;
+
+import com.bvhfve.aethelon.client.IslandTargeting;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.GameRenderer;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Lets virtual island blocks win the crosshair target when they are closer than the vanilla hit
+ */
+@Mixin(GameRenderer.class)
+public abstract class GameRendererMixin {
+
+    @Shadow
+    @Final
+    private MinecraftClient client;
+
+    @Inject(method = "updateCrosshairTarget", at = @At("TAIL"))
+    private void aethelon$targetVirtualIslands(float tickDelta, CallbackInfo ci) {
+        IslandTargeting.updateCrosshairTarget(client, tickDelta);
+    }
+}
@@ -0,0 +1,29 @@
+package com.bvhfve.aethelon.mixin.client;
+
+import com.bvhfve.aethelon.client.IslandTargeting;
+import net.minecraft.client.MinecraftClient;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Routes block breaking and item use on a targeted virtual island away from the world blocks behind it
+ */
+@Mixin(MinecraftClient.class)
+public abstract class MinecraftClientMixin {
+
+    @Inject(method = "handleBlockBreaking", at = @At("HEAD"), cancellable = true)
+    private void aethelon$breakIslandBlocks(boolean breaking, CallbackInfo ci) {
+        if (IslandTargeting.handleBlockBreaking((MinecraftClient) (Object) this, breaking)) {
+            ci.cancel();
+        }
+    }
+
+    @Inject(method = "doItemUse", at = @At("HEAD"), cancellable = true)
+    private void aethelon$skipIslandItemUse(CallbackInfo ci) {
+        if (IslandTargeting.isTargetingIsland((MinecraftClient) (Object) this)) {
+            ci.cancel();
+        }
+    }
+}
@@ -2,13 +2,32 @@ package com.bvhfve.aethelon;
 
 import com.bvhfve.aethelon.compat.ModCompatibility;
 import com.bvhfve.aethelon.config.AethelonConfig;
+import com.bvhfve.aethelon.entity.TurtlePopulationLedger;
+import com.bvhfve.aethelon.entity.TurtleRegistry;
+import com.bvhfve.aethelon.entity.TurtleSleepManager;
+import com.bvhfve.aethelon.island.IslandWorkQueue;
+import com.bvhfve.aethelon.island.VirtualIslandTracker;
 import com.bvhfve.aethelon.registry.ModBiomeModifications;
+import com.bvhfve.aethelon.registry.ModDataComponents;
 import com.bvhfve.aethelon.registry.ModEntityTypes;
 import com.bvhfve.aethelon.registry.ModItemGroups;
 import com.bvhfve.aethelon.items.ModItems;
+import com.bvhfve.aethelon.migration.OceanMigrationSimulator;
+import com.bvhfve.aethelon.navigation.AsyncRoutePlanner;
+import com.bvhfve.aethelon.navigation.OceanFlowField;
+import com.bvhfve.aethelon.navigation.OceanNavigationGraph;
+import com.bvhfve.aethelon.navigation.RouteChunkPrewarmer;
+import com.bvhfve.aethelon.ocean.OceanDepthField;
+import com.bvhfve.aethelon.ocean.SpawnSuitabilityMap;
+import com.bvhfve.aethelon.network.ModNetworking;
 import com.bvhfve.aethelon.structure.StructureRegistry;
 import com.bvhfve.aethelon.structure.DatapackStructureManager;
+import com.bvhfve.aethelon.structure.IslandTemplateLibrary;
 import com.bvhfve.aethelon.upgrade.AnvilUpgradeHandler;
+import com.bvhfve.aethelon.upgrade.WeaponUpgradeSystem;
+import com.bvhfve.aethelon.util.EntityHookFlags;
+import com.bvhfve.aethelon.util.PerformanceGovernor;
+import com.bvhfve.aethelon.util.PlayerProximityService;
 import net.fabricmc.api.ModInitializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,20 +52,41 @@ public class Aethelon implements ModInitializer {
             
             // Register mod content (entities must be registered before items that reference them)
             ModEntityTypes.initialize();
+            ModDataComponents.initialize();
             ModItems.registerModItems();
             ModItems.registerSpawnEggs(); // Register spawn eggs after entity types
             ModItemGroups.registerItemGroups();
             ModBiomeModifications.registerSpawnConditions();
+            TurtleRegistry.initialize();
+            PlayerProximityService.initialize();
+            PerformanceGovernor.initialize();
+            OceanMigrationSimulator.initialize();
+            OceanDepthField.initialize();
+            SpawnSuitabilityMap.initialize();
+            TurtlePopulationLedger.initialize();
+            OceanNavigationGraph.initialize();
+            OceanFlowField.initialize();
+            AsyncRoutePlanner.initialize();
+            RouteChunkPrewarmer.initialize();
+            TurtleSleepManager.initialize();
+            
+            // Register network payloads
+            ModNetworking.initialize();
             
             // Initialize structure system
             StructureRegistry.initialize();
             DatapackStructureManager.initialize();
+            IslandTemplateLibrary.initialize();
+            IslandWorkQueue.initialize();
+            VirtualIslandTracker.initialize();
             
             // Initialize mod compatibility system
             ModCompatibility.initialize();
+            EntityHookFlags.initialize();
             
             // Initialize weapon upgrade system
             AnvilUpgradeHandler.register();
+            WeaponUpgradeSystem.initialize();
             
             LOGGER.info("Aethelon mod initialized successfully!");
             
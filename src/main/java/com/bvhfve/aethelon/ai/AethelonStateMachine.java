@@ -2,8 +2,19 @@ package com.bvhfve.aethelon.ai;
 
 import com.bvhfve.aethelon.entity.AethelonEntity;
 import com.bvhfve.aethelon.config.AethelonConfig;
+import com.bvhfve.aethelon.navigation.OceanFlowField;
+import com.bvhfve.aethelon.navigation.RouteChunkPrewarmer;
+import com.bvhfve.aethelon.ocean.OceanDepthField;
+import com.bvhfve.aethelon.util.PlayerProximityService;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.math.random.Random;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * State machine for managing Aethelon turtle behavior
@@ -13,6 +24,8 @@ import net.minecraft.util.math.Vec3d;
  */
 public class AethelonStateMachine {
     
+    private static final Logger LOGGER = LoggerFactory.getLogger("AethelonStateMachine");
+    
     private final AethelonEntity turtle;
     private AethelonEntity.AethelonState currentState;
     private AethelonEntity.AethelonState previousState;
@@ -24,9 +37,13 @@ public class AethelonStateMachine {
     // Configuration-driven timing
     private static final int MIN_IDLE_TIME = 20 * 60 * 20; // 20 minutes in ticks
     private static final int MAX_IDLE_TIME = 20 * 60 * 60; // 60 minutes in ticks
-    private static final int TRANSITION_TIME = 20 * 10; // 10 seconds
+    public static final int TRANSITION_TIME = 20 * 10; // 10 seconds
     private static final int DAMAGE_RESPONSE_TIME = 20 * 3; // 3 seconds (shorter)
-    private static final int MIN_MOVEMENT_TIME = 20 * 30; // Minimum 30 seconds of movement
+    public static final int MIN_MOVEMENT_TIME = 20 * 30; // Minimum 30 seconds of movement
+    public static final int MAX_MOVEMENT_TIME = 20 * 120; // 2 minutes max per journey
+    public static final double ARRIVAL_DISTANCE = 20.0;
+    private static final double FRONTIER_LOOKAHEAD = 48.0; // Chunk this far ahead must be loaded to keep swimming
+    private static final int CAPTURE_RETRY_INTERVAL = 20; // Ticks between island capture retries
     
     public AethelonStateMachine(AethelonEntity turtle) {
         this.turtle = turtle;
@@ -41,16 +58,25 @@ public class AethelonStateMachine {
      * Main state machine update - called every tick
      */
     public void tick() {
-        stateTimer++;
+        tick(1);
+    }
+    
+    /**
+     * State machine update covering several ticks at once (tick-LOD catch-up)
+     * Timers advance by the elapsed ticks and periodic checks fire if their period was crossed
+     */
+    public void tick(int elapsed) {
+        int previousTimer = stateTimer;
+        stateTimer += elapsed;
         
-        // Debug: Print state information every 5 seconds
-        if (stateTimer % (20 * 5) == 0) {
-            System.out.println("Aethelon State: " + currentState + " (timer: " + stateTimer + ", idle remaining: " + idleTimeRemaining + ")");
+        // Debug: Log state information every 5 seconds
+        if (crossed(previousTimer, 20 * 5)) {
+            LOGGER.debug("Aethelon State: {} (timer: {}, idle remaining: {})", currentState, stateTimer, idleTimeRemaining);
         }
         
         // Check for damage-triggered state changes
         if (damageTriggered && currentState == AethelonEntity.AethelonState.IDLE) {
-            System.out.println("Damage triggered! Transitioning to DAMAGED state");
+            LOGGER.debug("Damage triggered! Transitioning to DAMAGED state");
             transitionToState(AethelonEntity.AethelonState.DAMAGED);
             damageTriggered = false;
             return;
@@ -58,8 +84,8 @@ public class AethelonStateMachine {
         
         // State-specific logic
         switch (currentState) {
-            case IDLE -> tickIdleState();
-            case MOVING -> tickMovingState();
+            case IDLE -> tickIdleState(previousTimer, elapsed);
+            case MOVING -> tickMovingState(previousTimer);
             case TRANSITIONING -> tickTransitioningState();
             case DAMAGED -> tickDamagedState();
         }
@@ -68,18 +94,26 @@ public class AethelonStateMachine {
     /**
      * IDLE state: Turtle is stationary, occasionally checking for movement triggers
      */
-    private void tickIdleState() {
-        idleTimeRemaining--;
+    private void tickIdleState(int previousTimer, int elapsed) {
+        idleTimeRemaining -= elapsed;
+        
+        // An island that could not be written back yet (unloaded chunks, terrain in the way) stays virtual - retry
+        if (turtle.getIslandManager() != null && turtle.getIslandManager().isVirtual()
+                && crossed(previousTimer, CAPTURE_RETRY_INTERVAL)) {
+            turtle.getIslandManager().materializeIsland(turtle.getWorld());
+        }
         
         // Check if idle time is up
         if (idleTimeRemaining <= 0) {
-            // Start transition to moving
+            // Start transition to moving, keeping the ticks we overshot by
+            int overshoot = -idleTimeRemaining;
             transitionToState(AethelonEntity.AethelonState.TRANSITIONING);
+            stateTimer = overshoot;
             return;
         }
         
         // Occasional player proximity checks (every 5 seconds)
-        if (stateTimer % (20 * 5) == 0) {
+        if (crossed(previousTimer, 20 * 5)) {
             checkPlayerProximity();
         }
         
@@ -92,22 +126,42 @@ public class AethelonStateMachine {
     /**
      * MOVING state: Turtle is actively traveling to destination
      */
-    private void tickMovingState() {
+    private void tickMovingState(int previousTimer) {
+        // The island is still placed because its chunks were not all loaded - stay with it and retry the capture
+        if (turtle.getIslandManager() != null && turtle.getIslandManager().isDematerializePending()) {
+            turtle.setVelocity(turtle.getVelocity().multiply(0.5, 1.0, 0.5));
+            if (crossed(previousTimer, CAPTURE_RETRY_INTERVAL)) {
+                turtle.getIslandManager().dematerializeIsland(turtle.getWorld());
+            }
+            return;
+        }
+        
         // Ensure minimum movement time before allowing transition
         if (stateTimer < MIN_MOVEMENT_TIME) {
-            System.out.println("Moving state - time remaining: " + (MIN_MOVEMENT_TIME - stateTimer) + " ticks");
+            LOGGER.debug("Moving state - time remaining: {} ticks", MIN_MOVEMENT_TIME - stateTimer);
             return; // Don't check destination until minimum time passes
         }
         
         // Check if we've reached destination
         if (targetDestination != null) {
             double distanceToTarget = turtle.getPos().distanceTo(targetDestination);
-            System.out.println("Distance to target: " + distanceToTarget + " blocks");
+            LOGGER.debug("Distance to target: {} blocks", distanceToTarget);
             
             // If close to destination OR moved for long enough, start transitioning back to idle
-            if (distanceToTarget < 20.0 || stateTimer > 20 * 120) { // 20 blocks or 2 minutes max
-                System.out.println("Reached destination or timeout, transitioning to idle");
+            if (distanceToTarget < ARRIVAL_DISTANCE || stateTimer > MAX_MOVEMENT_TIME) {
+                LOGGER.debug("Reached destination or timeout, transitioning to idle");
+                int overshoot = Math.max(0, stateTimer - MAX_MOVEMENT_TIME);
                 transitionToState(AethelonEntity.AethelonState.TRANSITIONING);
+                stateTimer = overshoot;
+                return;
+            }
+        }
+        
+        // Hold at the loaded frontier - never push into chunks that are still loading
+        if (targetDestination != null && turtle.getWorld() instanceof ServerWorld serverWorld) {
+            Vec3d ahead = turtle.getPos().add(targetDestination.subtract(turtle.getPos()).normalize().multiply(FRONTIER_LOOKAHEAD));
+            if (!RouteChunkPrewarmer.isLoaded(serverWorld, ahead)) {
+                turtle.setVelocity(turtle.getVelocity().multiply(0.5, 1.0, 0.5));
                 return;
             }
         }
@@ -134,7 +188,7 @@ public class AethelonStateMachine {
                 turtle.headYaw = targetYaw;
             }
             
-            System.out.println("Applied velocity: " + velocity + " towards " + targetDestination);
+            LOGGER.debug("Applied velocity: {} towards {}", velocity, targetDestination);
         }
     }
     
@@ -144,15 +198,17 @@ public class AethelonStateMachine {
     private void tickTransitioningState() {
         // Transition duration complete
         if (stateTimer >= TRANSITION_TIME) {
+            int overshoot = stateTimer - TRANSITION_TIME;
             if (previousState == AethelonEntity.AethelonState.IDLE) {
                 // Transition from idle to moving
                 selectDestination();
                 transitionToState(AethelonEntity.AethelonState.MOVING);
             } else {
                 // Transition from moving to idle
-                idleTimeRemaining = generateRandomIdleTime();
+                idleTimeRemaining = generateRandomIdleTime() - overshoot;
                 transitionToState(AethelonEntity.AethelonState.IDLE);
             }
+            stateTimer = overshoot;
         }
         
         // TODO: Add transition effects
@@ -168,14 +224,17 @@ public class AethelonStateMachine {
         // Damage response duration complete
         if (stateTimer >= DAMAGE_RESPONSE_TIME) {
             // Start moving away from damage source
+            int overshoot = stateTimer - DAMAGE_RESPONSE_TIME;
             selectEscapeDestination();
-            System.out.println("Damage response complete, starting escape movement");
+            LOGGER.debug("Damage response complete, starting escape movement");
             transitionToState(AethelonEntity.AethelonState.MOVING); // Go directly to MOVING
+            stateTimer = overshoot;
+            return;
         }
         
         // Show agitation during damage response
         if (stateTimer % 10 == 0) {
-            System.out.println("Turtle is agitated! Time remaining: " + (DAMAGE_RESPONSE_TIME - stateTimer));
+            LOGGER.debug("Turtle is agitated! Time remaining: {}", DAMAGE_RESPONSE_TIME - stateTimer);
         }
     }
     
@@ -184,7 +243,7 @@ public class AethelonStateMachine {
      */
     private void transitionToState(AethelonEntity.AethelonState newState) {
         if (currentState != newState) {
-            System.out.println("State transition: " + currentState + " -> " + newState);
+            LOGGER.debug("State transition: {} -> {}", currentState, newState);
             previousState = currentState;
             currentState = newState;
             stateTimer = 0;
@@ -202,10 +261,26 @@ public class AethelonStateMachine {
         }
     }
     
+    /**
+     * Whether stateTimer passed a multiple of period since previousTimer
+     */
+    private boolean crossed(int previousTimer, int period) {
+        return stateTimer / period != previousTimer / period;
+    }
+    
     /**
      * Generate random idle time based on configuration
      */
     private int generateRandomIdleTime() {
+        int idleTime = randomIdleTime(turtle.getRandom());
+        LOGGER.debug("Generated idle time: {} ticks ({} minutes)", idleTime, idleTime / 1200.0);
+        return idleTime;
+    }
+    
+    /**
+     * Random idle duration in ticks from the configured range (shared with the far-field migration simulator)
+     */
+    public static int randomIdleTime(Random random) {
         int minTime = AethelonConfig.INSTANCE != null ? 
             (int)(AethelonConfig.INSTANCE.min_idle_time * 20 * 60) : MIN_IDLE_TIME;
         int maxTime = AethelonConfig.INSTANCE != null ? 
@@ -216,9 +291,7 @@ public class AethelonStateMachine {
             maxTime = minTime + 1200; // Add 1 minute minimum
         }
         
-        int idleTime = minTime + turtle.getRandom().nextInt(maxTime - minTime);
-        System.out.println("Generated idle time: " + idleTime + " ticks (" + (idleTime / 1200.0) + " minutes)");
-        return idleTime;
+        return minTime + random.nextInt(maxTime - minTime);
     }
     
     /**
@@ -231,12 +304,22 @@ public class AethelonStateMachine {
         // - Consider coastal proximity
         // - Respect world boundaries
         
-        // Placeholder: Random direction, 100-500 blocks away
-        double angle = turtle.getRandom().nextDouble() * 2 * Math.PI;
-        double distance = 100 + turtle.getRandom().nextDouble() * 400;
+        targetDestination = randomDestination(turtle.getPos(), turtle.getRandom());
         
-        Vec3d currentPos = turtle.getPos();
-        targetDestination = new Vec3d(
+        // Let the shared flow field pull the destination off coasts and shallows
+        if (turtle.getWorld() instanceof ServerWorld serverWorld) {
+            targetDestination = OceanFlowField.settle(serverWorld, targetDestination, 8, 16.0);
+        }
+    }
+    
+    /**
+     * Placeholder: Random direction, 100-500 blocks away
+     */
+    public static Vec3d randomDestination(Vec3d currentPos, Random random) {
+        double angle = random.nextDouble() * 2 * Math.PI;
+        double distance = 100 + random.nextDouble() * 400;
+        
+        return new Vec3d(
             currentPos.x + Math.cos(angle) * distance,
             currentPos.y, // Keep same Y level for now
             currentPos.z + Math.sin(angle) * distance
@@ -248,7 +331,7 @@ public class AethelonStateMachine {
      */
     private void selectEscapeDestination() {
         Vec3d turtlePos = turtle.getPos();
-        PlayerEntity nearestPlayer = turtle.getWorld().getClosestPlayer(turtle, 100.0);
+        PlayerEntity nearestPlayer = PlayerProximityService.getNearestPlayer(turtle, 100.0);
         
         if (nearestPlayer != null) {
             Vec3d playerPos = nearestPlayer.getPos();
@@ -264,7 +347,7 @@ public class AethelonStateMachine {
             double escapeDistance = 300 + turtle.getRandom().nextDouble() * 200;
             targetDestination = turtlePos.add(combinedDirection.multiply(escapeDistance));
             
-            System.out.println("Escape destination selected: " + targetDestination + " (distance: " + escapeDistance + ")");
+            LOGGER.debug("Escape destination selected: {} (distance: {})", targetDestination, escapeDistance);
         } else {
             // No player found, just head to deep water
             Vec3d deepWaterDirection = findDeepWaterDirection(turtlePos);
@@ -276,7 +359,15 @@ public class AethelonStateMachine {
      * Find direction towards deeper water (away from land)
      */
     private Vec3d findDeepWaterDirection(Vec3d currentPos) {
-        // Sample water depth in 8 directions around turtle
+        // Shared flow field first - one lookup instead of eight depth probes
+        if (turtle.getWorld() instanceof ServerWorld serverWorld) {
+            Vec3d flow = OceanFlowField.getFlow(serverWorld, currentPos);
+            if (flow.horizontalLength() > 0.05) {
+                return flow.normalize();
+            }
+        }
+        
+        // Open water around us: sample water depth in 8 directions around turtle
         Vec3d bestDirection = Vec3d.ZERO;
         double bestDepth = 0;
         
@@ -305,26 +396,15 @@ public class AethelonStateMachine {
      * Get water depth at a position
      */
     private double getWaterDepthAt(Vec3d pos) {
-        int depth = 0;
-        int startY = (int)pos.y;
-        
-        for (int y = startY; y > startY - 20 && y > turtle.getWorld().getBottomY(); y--) {
-            if (turtle.getWorld().getBlockState(new net.minecraft.util.math.BlockPos((int)pos.x, y, (int)pos.z))
-                .getFluidState().isIn(net.minecraft.registry.tag.FluidTags.WATER)) {
-                depth++;
-            } else {
-                break;
-            }
-        }
-        
-        return depth;
+        // Heightmap-backed depth lookup, capped at 20 blocks
+        return OceanDepthField.getWaterDepth(turtle.getWorld(), BlockPos.ofFloored(pos), 20);
     }
     
     /**
      * Check for nearby players and react accordingly
      */
     private void checkPlayerProximity() {
-        PlayerEntity nearestPlayer = turtle.getWorld().getClosestPlayer(turtle, 64.0);
+        PlayerEntity nearestPlayer = PlayerProximityService.getNearestPlayer(turtle, 64.0);
         if (nearestPlayer != null) {
             // TODO: Add player interaction logic
             // - Curious behavior when players approach
@@ -335,6 +415,15 @@ public class AethelonStateMachine {
     
     // State entry methods
     private void onEnterIdle() {
+        if (turtle.getIslandManager() != null) {
+            turtle.getIslandManager().cancelDeferredDematerialize();
+        }
+        
+        // Virtual islands become real blocks again while the turtle rests
+        if (turtle.getIslandManager() != null && turtle.getIslandManager().isVirtual()) {
+            turtle.getIslandManager().materializeIsland(turtle.getWorld());
+        }
+        
         // TODO: Initialize idle state
         // - Stop movement
         // - Reset pathfinding
@@ -342,6 +431,11 @@ public class AethelonStateMachine {
     }
     
     private void onEnterMoving() {
+        // Islands travel as virtual volumes: no block writes while moving
+        if (turtle.getIslandManager() != null && turtle.hasIsland()) {
+            turtle.getIslandManager().dematerializeIsland(turtle.getWorld());
+        }
+        
         // TODO: Initialize moving state
         // - Start movement sounds
         // - Begin pathfinding
@@ -379,10 +473,53 @@ public class AethelonStateMachine {
         return targetDestination;
     }
     
+    /**
+     * Save the current state so a reloaded (or re-materialized) turtle carries on where it left off
+     */
+    public NbtCompound writeNbt() {
+        NbtCompound nbt = new NbtCompound();
+        nbt.putString("State", currentState.name());
+        nbt.putString("PreviousState", previousState.name());
+        nbt.putInt("Timer", stateTimer);
+        nbt.putInt("IdleRemaining", idleTimeRemaining);
+        if (targetDestination != null) {
+            nbt.putDouble("DestinationX", targetDestination.x);
+            nbt.putDouble("DestinationY", targetDestination.y);
+            nbt.putDouble("DestinationZ", targetDestination.z);
+        }
+        return nbt;
+    }
+    
+    /**
+     * Restore state saved with writeNbt (no state entry actions are run)
+     */
+    public void readNbt(NbtCompound nbt) {
+        currentState = parseState(nbt.getString("State"), AethelonEntity.AethelonState.IDLE);
+        previousState = parseState(nbt.getString("PreviousState"), AethelonEntity.AethelonState.IDLE);
+        stateTimer = nbt.getInt("Timer");
+        idleTimeRemaining = nbt.contains("IdleRemaining", NbtElement.INT_TYPE) ? nbt.getInt("IdleRemaining") : generateRandomIdleTime();
+        targetDestination = nbt.contains("DestinationX", NbtElement.DOUBLE_TYPE)
+                ? new Vec3d(nbt.getDouble("DestinationX"), nbt.getDouble("DestinationY"), nbt.getDouble("DestinationZ"))
+                : null;
+        turtle.setState(currentState);
+    }
+    
+    private static AethelonEntity.AethelonState parseState(String name, AethelonEntity.AethelonState fallback) {
+        try {
+            return AethelonEntity.AethelonState.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+    
     public void triggerDamageResponse() {
         this.damageTriggered = true;
     }
     
+    public boolean isDamageResponsePending() {
+        return damageTriggered;
+    }
+    
     public boolean isMoving() {
         return currentState == AethelonEntity.AethelonState.MOVING;
     }
@@ -1,6 +1,7 @@
 package com.bvhfve.aethelon.ai.goals;
 
 import com.bvhfve.aethelon.entity.AethelonEntity;
+import com.bvhfve.aethelon.util.PlayerProximityService;
 import net.minecraft.entity.ai.goal.Goal;
 import java.util.EnumSet;
 
@@ -126,7 +127,7 @@ public class AethelonIdleGoal extends Goal {
      */
     private void performIdleChecks() {
         // Check for nearby players
-        var nearbyPlayer = turtle.getWorld().getClosestPlayer(turtle, 32.0);
+        var nearbyPlayer = PlayerProximityService.getNearestPlayer(turtle, 32.0);
         if (nearbyPlayer != null) {
             // TODO: Implement player awareness
             // - Look towards player occasionally
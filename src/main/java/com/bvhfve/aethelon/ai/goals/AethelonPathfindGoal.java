@@ -2,12 +2,19 @@ package com.bvhfve.aethelon.ai.goals;
 
 import com.bvhfve.aethelon.entity.AethelonEntity;
 import com.bvhfve.aethelon.config.AethelonConfig;
+import com.bvhfve.aethelon.navigation.AsyncRoutePlanner;
+import com.bvhfve.aethelon.navigation.OceanFlowField;
+import com.bvhfve.aethelon.navigation.OceanNavigationGraph;
+import com.bvhfve.aethelon.navigation.RouteChunkPrewarmer;
+import com.bvhfve.aethelon.ocean.OceanDepthField;
 import net.minecraft.entity.ai.goal.Goal;
 import net.minecraft.entity.ai.pathing.Path;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 import java.util.EnumSet;
+import java.util.List;
 
 /**
  * AI Goal for Aethelon pathfinding and movement
@@ -20,6 +27,11 @@ public class AethelonPathfindGoal extends Goal {
     private final AethelonEntity turtle;
     private Vec3d targetDestination;
     private Path currentPath;
+    private OceanNavigationGraph.Route route; // Coarse chunk-level route for long journeys, possibly partial
+    private Vec3d routeDestination;
+    private boolean unreachable; // A replanned partial route could not get any closer to the destination
+    private AsyncRoutePlanner.RouteRequest pendingRoute; // Route search running off-thread
+    private int waypointIndex;
     private int pathfindingTimer;
     private int movementTimer;
     private int stuckTimer;
@@ -37,7 +49,13 @@ public class AethelonPathfindGoal extends Goal {
     private static final double ARRIVAL_DISTANCE = 10.0; // Close enough to destination
     private static final int PATHFINDING_INTERVAL = 20 * 10; // Recalculate every 10 seconds
     private static final int STUCK_THRESHOLD = 20 * 30; // 30 seconds without movement
-    private static final int MIN_WATER_DEPTH = 10; // Minimum water depth required
+    private static final int MIN_WATER_DEPTH = OceanNavigationGraph.MIN_NAV_DEPTH; // Minimum water depth required
+    private static final double LOCAL_PATH_RANGE = 48.0; // Block-level pathing only for the final segment
+    private static final double WAYPOINT_REACHED_DISTANCE = 16.0; // One chunk
+    private static final int DEEP_WATER_SEARCH_RADIUS = 8; // In chunks
+    private static final double FLOW_WEIGHT = 0.35; // Flow field influence on steering
+    private static final double FRONTIER_LOOKAHEAD = 48.0; // Wait if the chunk this far ahead isn't loaded
+    private static final int PREWARM_INTERVAL = 20; // Refresh route chunk tickets every second
     
     public AethelonPathfindGoal(AethelonEntity turtle) {
         this.turtle = turtle;
@@ -70,10 +88,13 @@ public class AethelonPathfindGoal extends Goal {
         movementTimer = 0;
         stuckTimer = 0;
         lastPosition = turtle.getPos();
+        unreachable = false;
         
         // Get destination from state machine
-        // TODO: Get from AethelonStateMachine
-        targetDestination = generateTemporaryDestination();
+        targetDestination = turtle.getStateMachine() != null ? turtle.getStateMachine().getTargetDestination() : null;
+        if (targetDestination == null) {
+            targetDestination = generateTemporaryDestination();
+        }
         
         // Calculate initial path
         calculatePath();
@@ -84,8 +105,20 @@ public class AethelonPathfindGoal extends Goal {
         pathfindingTimer++;
         movementTimer++;
         
-        // Recalculate path periodically
-        if (pathfindingTimer >= PATHFINDING_INTERVAL) {
+        // Pick up a route finished by the planner since the last tick
+        applyPendingRoute();
+        
+        // Keep the chunks ahead loading before we get there
+        if (movementTimer % PREWARM_INTERVAL == 1 && turtle.getWorld() instanceof ServerWorld serverWorld) {
+            RouteChunkPrewarmer.update(serverWorld, turtle, getRemainingWaypoints());
+        }
+        
+        // Recalculate path periodically, once when the coarse route reaches the final segment,
+        // and at the end of a partial route to carry on from there
+        if (pathfindingTimer >= PATHFINDING_INTERVAL
+                || route != null && turtle.getPos().distanceTo(targetDestination) <= LOCAL_PATH_RANGE
+                || route != null && !route.complete() && pendingRoute == null
+                        && horizontalDistance(turtle.getPos(), route.getEnd()) < WAYPOINT_REACHED_DISTANCE) {
             calculatePath();
             pathfindingTimer = 0;
         }
@@ -95,17 +128,21 @@ public class AethelonPathfindGoal extends Goal {
         
         // Check if stuck
         checkIfStuck();
-        
-        // Update entities on shell
-        updateShellEntities();
     }
     
     @Override
     public void stop() {
         // Clean up pathfinding
         turtle.getNavigation().stop();
+        cancelPendingRoute();
+        if (turtle.getWorld() instanceof ServerWorld serverWorld) {
+            RouteChunkPrewarmer.release(serverWorld, turtle);
+        }
         currentPath = null;
+        route = null;
+        routeDestination = null;
         targetDestination = null;
+        unreachable = false;
     }
     
     /**
@@ -125,7 +162,27 @@ public class AethelonPathfindGoal extends Goal {
             }
         }
         
-        // Use Minecraft's pathfinding with custom constraints
+        // Long range: A* over the chunk graph on the planner's worker threads
+        if (turtle.getWorld() instanceof ServerWorld serverWorld
+                && turtle.getPos().distanceTo(targetDestination) > LOCAL_PATH_RANGE) {
+            turtle.getNavigation().stop();
+            currentPath = null;
+            cancelPendingRoute();
+            
+            // A route to the same destination stays in use until its replacement arrives
+            if (!targetDestination.equals(routeDestination)) {
+                route = null;
+                routeDestination = null;
+                unreachable = false;
+            }
+            pendingRoute = AsyncRoutePlanner.request(serverWorld, turtle.getPos(), targetDestination);
+            return;
+        }
+        
+        // Final local segment: Minecraft's block-level pathfinding with custom constraints
+        cancelPendingRoute();
+        route = null;
+        routeDestination = null;
         BlockPos targetPos = BlockPos.ofFloored(targetDestination);
         currentPath = turtle.getNavigation().findPathTo(targetPos, 1);
         
@@ -143,11 +200,33 @@ public class AethelonPathfindGoal extends Goal {
     private void executeMovement() {
         if (targetDestination == null) return;
         
+        // The placed island could not be captured yet - stay exactly where it was placed until it is,
+        // so the virtual island is not stored relative to a drifted shell
+        if (turtle.getIslandManager() != null && turtle.getIslandManager().isDematerializePending()) {
+            turtle.getNavigation().stop();
+            Vec3d velocity = turtle.getVelocity();
+            turtle.setVelocity(0.0, velocity.y, 0.0);
+            stuckTimer = 0; // Waiting on chunks is not being stuck
+            return;
+        }
+        
         Vec3d currentPos = turtle.getPos();
-        Vec3d direction = targetDestination.subtract(currentPos).normalize();
+        Vec3d direction = getSteeringTarget().subtract(currentPos).normalize();
+        
+        // Bend the heading away from shallows along the shared flow field
+        if (turtle.getWorld() instanceof ServerWorld serverWorld) {
+            direction = direction.add(OceanFlowField.getFlow(serverWorld, currentPos).multiply(FLOW_WEIGHT)).normalize();
+            
+            // Wait at the loaded frontier instead of swimming into chunks that are still loading
+            if (!RouteChunkPrewarmer.isLoaded(serverWorld, currentPos.add(direction.multiply(FRONTIER_LOOKAHEAD)))) {
+                turtle.setVelocity(turtle.getVelocity().multiply(0.5, 1.0, 0.5));
+                updateTurtleRotation(direction);
+                return;
+            }
+        }
         
         // Apply movement with momentum and realistic constraints
-        double actualSpeed = calculateMovementSpeed();
+        double actualSpeed = calculateMovementSpeed(direction);
         Vec3d movement = direction.multiply(actualSpeed);
         
         // Apply movement with water resistance
@@ -167,10 +246,68 @@ public class AethelonPathfindGoal extends Goal {
         updateTurtleRotation(direction);
     }
     
+    /**
+     * Take over a finished route search, unless it failed or was requested for another destination
+     * A partial route is followed as far as it goes while the destination stays unchanged
+     */
+    private void applyPendingRoute() {
+        if (pendingRoute == null || !pendingRoute.isDone()) return;
+        
+        AsyncRoutePlanner.RouteRequest request = pendingRoute;
+        pendingRoute = null;
+        OceanNavigationGraph.Route result = request.getResult();
+        if (result == null || !request.getDestination().equals(targetDestination)) return;
+        
+        if (!result.complete() && result.getEnd() != null
+                && horizontalDistance(turtle.getPos(), result.getEnd()) < WAYPOINT_REACHED_DISTANCE) {
+            // Already at the closest point the graph can find - the destination is out of reach
+            unreachable = true;
+        }
+        route = result;
+        waypointIndex = 0;
+        routeDestination = targetDestination;
+    }
+    
+    /**
+     * Route points still ahead, nearest first
+     */
+    private List<Vec3d> getRemainingWaypoints() {
+        if (route == null || waypointIndex >= route.waypoints().size()) {
+            return targetDestination != null ? List.of(targetDestination) : List.of();
+        }
+        return route.waypoints().subList(waypointIndex, route.waypoints().size());
+    }
+    
+    private void cancelPendingRoute() {
+        if (pendingRoute != null) {
+            pendingRoute.cancel();
+            pendingRoute = null;
+        }
+    }
+    
+    /**
+     * Next route waypoint, the current heading while a route is being planned,
+     * or the destination itself when there is no coarse route
+     */
+    private Vec3d getSteeringTarget() {
+        if (route == null) {
+            return pendingRoute != null
+                    ? turtle.getPos().add(Vec3d.fromPolar(0, turtle.getYaw()).multiply(WAYPOINT_REACHED_DISTANCE))
+                    : targetDestination;
+        }
+        
+        List<Vec3d> waypoints = route.waypoints();
+        while (waypointIndex < waypoints.size() - 1
+                && horizontalDistance(turtle.getPos(), waypoints.get(waypointIndex)) < WAYPOINT_REACHED_DISTANCE) {
+            waypointIndex++;
+        }
+        return waypointIndex < waypoints.size() ? waypoints.get(waypointIndex) : targetDestination;
+    }
+    
     /**
      * Calculate appropriate movement speed based on conditions
      */
-    private double calculateMovementSpeed() {
+    private double calculateMovementSpeed(Vec3d targetDirection) {
         double baseSpeed = getConfiguredMovementSpeed();
         
         // Reduce speed in shallow water
@@ -180,7 +317,6 @@ public class AethelonPathfindGoal extends Goal {
         
         // Reduce speed when turning
         Vec3d currentDirection = Vec3d.fromPolar(0, turtle.getYaw());
-        Vec3d targetDirection = targetDestination.subtract(turtle.getPos()).normalize();
         double alignment = currentDirection.dotProduct(targetDirection);
         if (alignment < 0.8) { // Turning
             baseSpeed *= 0.7;
@@ -250,20 +386,6 @@ public class AethelonPathfindGoal extends Goal {
         }
     }
     
-    /**
-     * Update entities standing on turtle shell during movement
-     */
-    private void updateShellEntities() {
-        // TODO: Implement shell entity updates
-        // - Move entities with turtle
-        // - Handle entities falling off
-        // - Maintain stable platform
-        // - Apply movement momentum to entities
-        
-        // This will be handled by the collision mixin for now
-        // But we might need additional logic for smooth movement
-    }
-    
     /**
      * Attempt direct movement when pathfinding fails
      */
@@ -289,25 +411,21 @@ public class AethelonPathfindGoal extends Goal {
     
     private boolean hasReachedDestination() {
         return targetDestination != null && 
-               turtle.getPos().distanceTo(targetDestination) < ARRIVAL_DISTANCE;
+               (unreachable || turtle.getPos().distanceTo(targetDestination) < ARRIVAL_DISTANCE);
     }
     
     private boolean isValidOceanDestination(Vec3d destination) {
+        // Unloaded destinations are judged from the navigation graph, never by loading the chunk
+        if (turtle.getWorld() instanceof ServerWorld serverWorld && !RouteChunkPrewarmer.isLoaded(serverWorld, destination)) {
+            return OceanNavigationGraph.isNavigable(serverWorld, destination);
+        }
         return isInDeepWater(destination) && 
                isInOceanBiome(destination);
     }
     
     private boolean isInDeepWater(Vec3d position) {
-        World world = turtle.getWorld();
-        BlockPos pos = BlockPos.ofFloored(position);
-        
-        // Check water depth
-        for (int i = 0; i < MIN_WATER_DEPTH; i++) {
-            if (!world.getBlockState(pos.down(i)).getFluidState().isIn(net.minecraft.registry.tag.FluidTags.WATER)) {
-                return false;
-            }
-        }
-        return true;
+        // Heightmap-backed depth lookup, O(1) for open water
+        return OceanDepthField.hasWaterDepth(turtle.getWorld(), BlockPos.ofFloored(position), MIN_WATER_DEPTH);
     }
     
     private boolean isInOceanBiome(Vec3d position) {
@@ -317,27 +435,27 @@ public class AethelonPathfindGoal extends Goal {
     }
     
     private boolean isDirectPathClear(Vec3d start, Vec3d end) {
-        // TODO: Implement path clearance check
-        // - Check for major obstacles
-        // - Verify water depth along path
-        // - Check for terrain that would block massive turtle
-        return true; // Placeholder
+        // Every chunk along the line must be deep enough ocean
+        if (!(turtle.getWorld() instanceof ServerWorld serverWorld)) return true;
+        return OceanNavigationGraph.isLineNavigable(serverWorld, start, end);
     }
     
     private Vec3d findNearbyDeepWater(Vec3d center) {
-        // TODO: Implement deep water search
-        // - Search in expanding radius
-        // - Prioritize ocean biomes
-        // - Ensure minimum water depth
-        return null; // Placeholder
+        // Expanding ring search over the navigation graph
+        if (!(turtle.getWorld() instanceof ServerWorld serverWorld)) return null;
+        return OceanNavigationGraph.findNearestNavigable(serverWorld, center, DEEP_WATER_SEARCH_RADIUS);
     }
     
     private Vec3d findAlternativeDestination() {
-        // TODO: Implement alternative destination finding
-        // - Try different directions
-        // - Avoid previous stuck locations
-        // - Prefer coastal areas
-        return null; // Placeholder
+        // A reachable destination in another direction, away from the one we got stuck on
+        if (!(turtle.getWorld() instanceof ServerWorld serverWorld)) return null;
+        return OceanNavigationGraph.findAlternativeDestination(serverWorld, turtle.getPos(), targetDestination, turtle.getRandom());
+    }
+    
+    private static double horizontalDistance(Vec3d a, Vec3d b) {
+        double dx = a.x - b.x;
+        double dz = a.z - b.z;
+        return Math.sqrt(dx * dx + dz * dz);
     }
     
     private double getConfiguredMovementSpeed() {
@@ -1,10 +1,14 @@
 package com.bvhfve.aethelon.compat;
 
 import com.bvhfve.aethelon.entity.AethelonEntity;
+import com.bvhfve.aethelon.entity.TurtleRegistry;
 import com.bvhfve.aethelon.items.ModItems;
+import com.bvhfve.aethelon.util.EntityHookFlags;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
+import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import org.slf4j.Logger;
@@ -149,8 +153,8 @@ public class AlexsMobsCompat {
      */
     public static int getSpawnWeightModifier(String mobId, World world, BlockPos pos) {
         // Check if near a turtle island
-        List<AethelonEntity> nearbyTurtles = world.getEntitiesByClass(
-            AethelonEntity.class,
+        List<AethelonEntity> nearbyTurtles = TurtleRegistry.getTurtlesInBox(
+            world,
             new net.minecraft.util.math.Box(pos).expand(64.0),
             entity -> entity.isAlive()
         );
@@ -173,14 +177,18 @@ public class AlexsMobsCompat {
         // Turtle shell armor provides protection against Alex's hostile mobs
     }
     
+    /**
+     * Check if an entity type id is one of the Alex's mobs turtle shell armor protects against
+     */
+    public static boolean isHostileAlexsMob(Identifier id) {
+        return HOSTILE_ALEXS_MOBS.contains(id.toString());
+    }
+    
     /**
      * Check if player has turtle shell protection against Alex's mob
      */
     public static boolean hasTurtleShellProtection(PlayerEntity player, Entity attacker) {
-        if (attacker == null) return false;
-        
-        String attackerId = attacker.getType().toString();
-        if (!HOSTILE_ALEXS_MOBS.contains(attackerId)) return false;
+        if (attacker == null || !EntityHookFlags.has(attacker, EntityHookFlags.ALEXS_MOBS_HOSTILE)) return false;
         
         // Count turtle shell armor pieces
         int turtleArmorPieces = 0;
@@ -198,7 +206,7 @@ public class AlexsMobsCompat {
     public static float getTurtleShellDamageReduction(PlayerEntity player, Entity attacker) {
         if (!hasTurtleShellProtection(player, attacker)) return 0.0f;
         
-        String attackerId = attacker.getType().toString();
+        String attackerId = EntityType.getId(attacker.getType()).toString();
         
         // Count turtle shell armor pieces
         int turtleArmorPieces = 0;
@@ -238,8 +246,8 @@ public class AlexsMobsCompat {
         if (!ALEXS_AQUATIC_MOBS.contains(mobId)) return ItemStack.EMPTY;
         
         // Check if near turtle island
-        List<AethelonEntity> nearbyTurtles = world.getEntitiesByClass(
-            AethelonEntity.class,
+        List<AethelonEntity> nearbyTurtles = TurtleRegistry.getTurtlesInBox(
+            world,
             mob.getBoundingBox().expand(64.0),
             entity -> entity.isAlive()
         );
@@ -1,6 +1,7 @@
 package com.bvhfve.aethelon.compat;
 
 import com.bvhfve.aethelon.entity.AethelonEntity;
+import com.bvhfve.aethelon.entity.TurtleRegistry;
 import com.bvhfve.aethelon.items.ModItems;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
@@ -90,7 +91,7 @@ public class AquacultureCompat {
      * Check if player is near an Aethelon turtle for enhanced fishing
      */
     public static boolean isNearAethelonTurtle(PlayerEntity player) {
-        return player.getWorld().getEntitiesByClass(AethelonEntity.class, 
+        return TurtleRegistry.getTurtlesInBox(player.getWorld(), 
             player.getBoundingBox().expand(64.0), 
             entity -> entity.isAlive()).size() > 0;
     }
@@ -156,8 +157,8 @@ public class AquacultureCompat {
      */
     public static boolean isFishingOnTurtleIsland(PlayerEntity player) {
         // Check if player is within turtle island bounds
-        List<AethelonEntity> nearbyTurtles = player.getWorld().getEntitiesByClass(
-            AethelonEntity.class, 
+        List<AethelonEntity> nearbyTurtles = TurtleRegistry.getTurtlesInBox(
+            player.getWorld(), 
             player.getBoundingBox().expand(32.0), 
             entity -> entity.isAlive()
         );
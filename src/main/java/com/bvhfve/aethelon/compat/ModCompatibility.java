@@ -1,7 +1,11 @@
 package com.bvhfve.aethelon.compat;
 
 import com.bvhfve.aethelon.Aethelon;
+import com.bvhfve.aethelon.entity.AethelonEntity;
+import com.bvhfve.aethelon.util.PerformanceGovernor;
 import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -140,4 +144,22 @@ public class ModCompatibility {
     public static boolean hasOceanMods() {
         return modPresence.values().stream().anyMatch(Boolean::booleanValue);
     }
+    
+    /**
+     * Apply the ambient turtle behaviors of every loaded compat mod (server side, called periodically)
+     * Optional effects - skipped entirely while the server is under load
+     */
+    public static void applyTurtleEffects(AethelonEntity turtle) {
+        if (!hasOceanMods() || PerformanceGovernor.shouldDeferCompatEffects()) return;
+        
+        World world = turtle.getWorld();
+        BlockPos pos = turtle.getBlockPos();
+        if (isModLoaded(AQUATIC_TORCHES)) AquaticTorchesCompat.applyBioluminescentEffects(turtle, world);
+        if (isModLoaded(DEEPER_AND_DARKER)) DeeperAndDarkerCompat.applyDeepDarkBehaviors(turtle, world, pos);
+        if (isModLoaded(ECOLOGICS)) EcologicsCompat.handleEcologicsBehaviors(turtle, world, pos);
+        if (isModLoaded(FINS_AND_TAILS)) FinsAndTailsCompat.applySymbioticRelationships(turtle, world);
+        if (isModLoaded(NATURALIST)) NaturalistCompat.handleNaturalistInteractions(turtle, world, pos);
+        if (isModLoaded(TERRALITH)) TerrablenderCompat.applyTerralithBehaviors(turtle, world, pos);
+        if (isModLoaded(WILLIAM_WYTHERS)) WilliamWythersCompat.applyWWOOBehaviors(turtle, world, pos);
+    }
 }
\ No newline at end of file
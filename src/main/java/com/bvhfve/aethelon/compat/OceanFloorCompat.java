@@ -1,6 +1,7 @@
 package com.bvhfve.aethelon.compat;
 
 import com.bvhfve.aethelon.entity.AethelonEntity;
+import com.bvhfve.aethelon.entity.TurtleRegistry;
 import com.bvhfve.aethelon.items.ModItems;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
@@ -90,8 +91,8 @@ public class OceanFloorCompat {
      */
     public static float getEnhancedGenerationChance(World world, BlockPos pos) {
         // Check if near an Aethelon turtle
-        List<AethelonEntity> nearbyTurtles = world.getEntitiesByClass(
-            AethelonEntity.class,
+        List<AethelonEntity> nearbyTurtles = TurtleRegistry.getTurtlesInBox(
+            world,
             new net.minecraft.util.math.Box(pos).expand(128.0),
             entity -> entity.isAlive()
         );
@@ -269,8 +270,8 @@ public class OceanFloorCompat {
         if (world == null) return 1.0f;
         
         // Check if near turtle path (areas where turtles have been)
-        List<AethelonEntity> nearbyTurtles = world.getEntitiesByClass(
-            AethelonEntity.class,
+        List<AethelonEntity> nearbyTurtles = TurtleRegistry.getTurtlesInBox(
+            world,
             player.getBoundingBox().expand(64.0),
             entity -> entity.isAlive()
         );
@@ -299,8 +300,8 @@ public class OceanFloorCompat {
         World world = player.getWorld();
         if (world == null) return false;
         
-        List<AethelonEntity> nearbyTurtles = world.getEntitiesByClass(
-            AethelonEntity.class,
+        List<AethelonEntity> nearbyTurtles = TurtleRegistry.getTurtlesInBox(
+            world,
             player.getBoundingBox().expand(32.0),
             entity -> entity.isAlive()
         );
@@ -342,8 +343,8 @@ public class OceanFloorCompat {
     public static int getSpawnWeightModifier(String blockId, World world, BlockPos pos) {
         if (!OCEAN_FLOOR_BLOCKS.contains(blockId)) return 1;
         
-        List<AethelonEntity> nearbyTurtles = world.getEntitiesByClass(
-            AethelonEntity.class,
+        List<AethelonEntity> nearbyTurtles = TurtleRegistry.getTurtlesInBox(
+            world,
             new net.minecraft.util.math.Box(pos).expand(64.0),
             entity -> entity.isAlive()
         );
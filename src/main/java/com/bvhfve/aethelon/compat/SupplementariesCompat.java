@@ -1,6 +1,7 @@
 package com.bvhfve.aethelon.compat;
 
 import com.bvhfve.aethelon.entity.AethelonEntity;
+import com.bvhfve.aethelon.entity.TurtleRegistry;
 import com.bvhfve.aethelon.island.IslandManager;
 import com.bvhfve.aethelon.items.ModItems;
 import net.minecraft.entity.player.PlayerEntity;
@@ -258,7 +259,7 @@ public class SupplementariesCompat {
         if (world == null) return false;
         
         // Check for nearby turtle with navigation aids
-        return world.getEntitiesByClass(AethelonEntity.class, 
+        return TurtleRegistry.getTurtlesInBox(world, 
             player.getBoundingBox().expand(32.0), 
             entity -> entity.isAlive() && hasNavigationAids(entity)).size() > 0;
     }
@@ -1,6 +1,7 @@
 package com.bvhfve.aethelon.compat;
 
 import com.bvhfve.aethelon.entity.AethelonEntity;
+import com.bvhfve.aethelon.entity.TurtleRegistry;
 import com.bvhfve.aethelon.items.ModItems;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
@@ -97,8 +98,8 @@ public class UpgradeAquaticCompat {
     public static float getGenerationMultiplier(String blockId, World world, BlockPos pos) {
         if (!UPGRADE_AQUATIC_BLOCKS.contains(blockId)) return 1.0f;
         
-        List<AethelonEntity> nearbyTurtles = world.getEntitiesByClass(
-            AethelonEntity.class,
+        List<AethelonEntity> nearbyTurtles = TurtleRegistry.getTurtlesInBox(
+            world,
             new net.minecraft.util.math.Box(pos).expand(64.0),
             entity -> entity.isAlive()
         );
@@ -197,8 +198,8 @@ public class UpgradeAquaticCompat {
     public static int getSpawnWeightModifier(String mobId, World world, BlockPos pos) {
         if (!UPGRADE_AQUATIC_MOBS.contains(mobId)) return 1;
         
-        List<AethelonEntity> nearbyTurtles = world.getEntitiesByClass(
-            AethelonEntity.class,
+        List<AethelonEntity> nearbyTurtles = TurtleRegistry.getTurtlesInBox(
+            world,
             new net.minecraft.util.math.Box(pos).expand(48.0),
             entity -> entity.isAlive()
         );
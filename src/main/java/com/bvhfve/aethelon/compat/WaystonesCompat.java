@@ -1,6 +1,7 @@
 package com.bvhfve.aethelon.compat;
 
 import com.bvhfve.aethelon.entity.AethelonEntity;
+import com.bvhfve.aethelon.entity.TurtleRegistry;
 import com.bvhfve.aethelon.items.ModItems;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
@@ -138,8 +139,8 @@ public class WaystonesCompat {
         double nearestDistance = Double.MAX_VALUE;
         
         // Check all turtles with mobile waystones
-        List<AethelonEntity> turtles = world.getEntitiesByClass(
-            AethelonEntity.class,
+        List<AethelonEntity> turtles = TurtleRegistry.getTurtlesInBox(
+            world,
             new net.minecraft.util.math.Box(playerPos).expand(1000.0),
             entity -> entity.isAlive() && hasMobileWaystone(entity)
         );
@@ -222,8 +223,8 @@ public class WaystonesCompat {
      */
     private static boolean isOverWaterOrTurtleIsland(World world, BlockPos pos) {
         // Check if on turtle island
-        List<AethelonEntity> nearbyTurtles = world.getEntitiesByClass(
-            AethelonEntity.class,
+        List<AethelonEntity> nearbyTurtles = TurtleRegistry.getTurtlesInBox(
+            world,
             new net.minecraft.util.math.Box(pos).expand(32.0),
             entity -> entity.isAlive()
         );
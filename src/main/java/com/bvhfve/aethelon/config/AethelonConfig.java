@@ -71,6 +71,7 @@ public class AethelonConfig {
     public double large_island_chance = 0.15; // 15% chance for large islands
     public boolean preserve_island_entities = true; // Keep entities on islands during movement
     public boolean enable_custom_islands = true; // Allow loading custom island structures
+    public boolean enable_virtual_islands = true; // Keep islands as virtual (non-block) volumes while turtles travel
     
     // Phase 3: Enhanced Damage & Death Configuration
     public boolean enable_enhanced_damage = true; // Enable enhanced damage system
@@ -98,6 +99,19 @@ public class AethelonConfig {
     public int island_y_offset = 2; // Blocks above turtle
     public String default_island_structure = "small_island";
     public int movement_blocks_per_tick = 5; // For gradual movement
+    public double island_work_budget_ms = 5.0; // Max milliseconds per world tick spent placing/removing island blocks
+    
+    // Performance Governor Configuration
+    public boolean enable_performance_governor = true; // Scale turtle work back automatically when the server lags
+    public double target_mspt = 40.0; // Server tick time (ms) the governor tries to stay under
+    
+    // Far-Field Migration Configuration
+    public boolean enable_far_field_migration = true; // Simulate travelling turtles far from players as lightweight records
+    public double migration_distance = 128.0; // Blocks from the nearest player beyond which a travelling turtle is simulated
+    
+    // Dormant Sleep Configuration
+    public boolean enable_dormant_sleep = true; // Idle turtles with nobody around stop ticking until something wakes them
+    public double sleep_wake_distance = 48.0; // Players closer than this wake a sleeping turtle (and keep it awake)
     
     // Explosion Configuration
     public float explosion_power = 8.0f;
@@ -260,6 +274,18 @@ public class AethelonConfig {
         loot_quantity_multiplier = Math.max(0.1f, Math.min(5.0f, loot_quantity_multiplier));
         loot_rarity_bonus = Math.max(0.0f, Math.min(1.0f, loot_rarity_bonus));
         max_loot_spread_radius = Math.max(5, Math.min(50, max_loot_spread_radius));
+        
+        // Validate island work budget
+        island_work_budget_ms = Math.max(0.5, Math.min(50.0, island_work_budget_ms));
+        
+        // Validate performance governor target
+        target_mspt = Math.max(10.0, Math.min(50.0, target_mspt));
+        
+        // Validate far-field migration distance
+        migration_distance = Math.max(64.0, Math.min(1024.0, migration_distance));
+        
+        // Validate dormant sleep wake distance
+        sleep_wake_distance = Math.max(16.0, Math.min(128.0, sleep_wake_distance));
     }
     
     /**
@@ -367,10 +393,26 @@ public class AethelonConfig {
                    preserve_island_entities ? "ENABLED" : "DISABLED");
         LOGGER.info("  enable_custom_islands: {} (Status: {})", enable_custom_islands,
                    enable_custom_islands ? "ENABLED" : "DISABLED");
+        LOGGER.info("  enable_virtual_islands: {} (Status: {})", enable_virtual_islands,
+                   enable_virtual_islands ? "ENABLED" : "DISABLED");
         LOGGER.info("  max_island_size: {} blocks (Status: VALID)", max_island_size);
         LOGGER.info("  island_y_offset: {} blocks (Status: VALID)", island_y_offset);
         LOGGER.info("  default_island_structure: '{}' (Status: VALID)", default_island_structure);
         LOGGER.info("  movement_blocks_per_tick: {} (Status: VALID)", movement_blocks_per_tick);
+        LOGGER.info("  island_work_budget_ms: {} ms (Status: {})", island_work_budget_ms,
+                   (island_work_budget_ms >= 0.5 && island_work_budget_ms <= 50.0) ? "VALID" : "CLAMPED");
+        LOGGER.info("  enable_performance_governor: {} (Status: {})", enable_performance_governor,
+                   enable_performance_governor ? "ENABLED" : "DISABLED");
+        LOGGER.info("  target_mspt: {} ms (Status: {})", target_mspt,
+                   (target_mspt >= 10.0 && target_mspt <= 50.0) ? "VALID" : "CLAMPED");
+        LOGGER.info("  enable_far_field_migration: {} (Status: {})", enable_far_field_migration,
+                   enable_far_field_migration ? "ENABLED" : "DISABLED");
+        LOGGER.info("  migration_distance: {} blocks (Status: {})", migration_distance,
+                   (migration_distance >= 64.0 && migration_distance <= 1024.0) ? "VALID" : "CLAMPED");
+        LOGGER.info("  enable_dormant_sleep: {} (Status: {})", enable_dormant_sleep,
+                   enable_dormant_sleep ? "ENABLED" : "DISABLED");
+        LOGGER.info("  sleep_wake_distance: {} blocks (Status: {})", sleep_wake_distance,
+                   (sleep_wake_distance >= 16.0 && sleep_wake_distance <= 128.0) ? "VALID" : "CLAMPED");
         
         // Enhanced Damage & Death Configuration
         LOGGER.info("DAMAGE & DEATH CONFIG:");
@@ -1,14 +1,21 @@
 package com.bvhfve.aethelon.entity;
 
+import com.bvhfve.aethelon.compat.ModCompatibility;
 import com.bvhfve.aethelon.config.AethelonConfig;
-import com.bvhfve.aethelon.util.PerformanceManager;
+import com.bvhfve.aethelon.util.PlayerProximityService;
 import com.bvhfve.aethelon.ai.AethelonStateMachine;
 import com.bvhfve.aethelon.ai.goals.AethelonIdleGoal;
 import com.bvhfve.aethelon.ai.goals.AethelonPathfindGoal;
 import com.bvhfve.aethelon.island.IslandManager;
+import com.bvhfve.aethelon.island.VirtualIslandTracker;
+import com.bvhfve.aethelon.network.ModNetworking;
 import com.bvhfve.aethelon.ai.goals.AethelonTransitionGoal;
 import com.bvhfve.aethelon.loot.AethelonLootSystem;
+import com.bvhfve.aethelon.migration.OceanMigrationSimulator;
+import com.bvhfve.aethelon.ocean.OceanDepthField;
+import com.bvhfve.aethelon.ocean.SpawnSuitabilityMap;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityData;
 import net.minecraft.entity.EntityDimensions;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
@@ -20,7 +27,10 @@ import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.entity.mob.WaterCreatureEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.TntEntity;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
 import net.minecraft.particle.ParticleTypes;
+import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundCategory;
 import net.minecraft.sound.SoundEvents;
@@ -31,6 +41,9 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Box;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.math.random.Random;
+import net.minecraft.world.LocalDifficulty;
+import net.minecraft.world.ServerWorldAccess;
+import org.jetbrains.annotations.Nullable;
 import java.util.List;
 import net.minecraft.world.Difficulty;
 import net.minecraft.world.World;
@@ -59,11 +72,18 @@ public class AethelonEntity extends WaterCreatureEntity {
     private int stateTimer = 0;
     
     // Performance optimization fields
-    private static final int TICK_RATE_DIVIDER = 4;
-    private int tickCounter = 0;
-    private boolean isNearPlayer = false;
-    private int nearPlayerCheckTimer = 0;
-    private static final int NEAR_PLAYER_CHECK_INTERVAL = 40;
+    private final PlayerProximityService.Proximity proximity = new PlayerProximityService.Proximity();
+    private final TurtleTickScheduler.Schedule tickSchedule = new TurtleTickScheduler.Schedule();
+    private final KinematicPlatform platform = new KinematicPlatform(this);
+    private final TurtleBodyParts bodyParts = new TurtleBodyParts(this);
+    private int agitationDecayTicks = 0;
+    private int farFieldTicks = 0;
+    private boolean removedForMigration = false;
+    private boolean asleep = false;
+    private int sleepCheckTicks = 0;
+    private static final int SLEEP_CHECK_INTERVAL = 100;
+    private int compatEffectTicks = 0;
+    private static final int COMPAT_EFFECT_INTERVAL = 100; // Ambient compat mod behaviors every 5 seconds
     
     // Scale calculation for proper texture mapping
     public static final float WORLD_TURTLE_SCALE = 2.5f;
@@ -73,6 +93,8 @@ public class AethelonEntity extends WaterCreatureEntity {
     
     // Phase 4: Island Structure System
     private IslandManager islandManager;
+    private boolean islandCreationPending = false;
+    private boolean islandRestorePending = false;
     
     // Phase 3: Enhanced damage and interaction system
     private int damageImmunityTimer = 0;
@@ -89,22 +111,61 @@ public class AethelonEntity extends WaterCreatureEntity {
         
         // Initialize Phase 4 systems
         this.islandManager = new IslandManager(this);
-        
-        // Phase 4: Create island when turtle spawns (server-side only)
-        if (!world.isClient && AethelonConfig.INSTANCE.enable_islands && AethelonConfig.INSTANCE.auto_create_islands) {
-            // Delay island creation to next tick to ensure turtle is fully initialized
-            world.getServer().execute(() -> {
-                if (!isRemoved() && !hasIsland()) {
-                    // Randomly select island type based on configuration
-                    IslandManager.IslandType type = selectRandomIslandType();
-                    boolean success = createIsland(type);
-                    if (success) {
-                        LOGGER.info("Created {} island for turtle at {}", type.name(), getBlockPos());
-                    } else {
-                        LOGGER.warn("Failed to create island for turtle at {}", getBlockPos());
-                    }
-                }
-            });
+    }
+    
+    /**
+     * Phase 4: Islands are only created on first spawn, never when a turtle is loaded from disk
+     * (loaded turtles restore their island from NBT instead)
+     */
+    @Override
+    public EntityData initialize(ServerWorldAccess world, LocalDifficulty difficulty, SpawnReason spawnReason, @Nullable EntityData entityData) {
+        if (AethelonConfig.INSTANCE != null && AethelonConfig.INSTANCE.enable_islands && AethelonConfig.INSTANCE.auto_create_islands) {
+            // Created on the first tick, once the turtle is in the world
+            islandCreationPending = true;
+        }
+        return super.initialize(world, difficulty, spawnReason, entityData);
+    }
+    
+    /**
+     * Create the first-spawn island (runs once, on the first server tick after spawning)
+     */
+    private void createInitialIsland() {
+        islandCreationPending = false;
+        if (hasIsland()) return;
+        
+        // Randomly select island type based on configuration
+        IslandManager.IslandType type = selectRandomIslandType();
+        boolean success = createIsland(type);
+        if (success) {
+            LOGGER.info("Created {} island for turtle at {}", type.name(), getBlockPos());
+        } else {
+            LOGGER.warn("Failed to create island for turtle at {}", getBlockPos());
+        }
+    }
+    
+    @Override
+    public void writeCustomDataToNbt(NbtCompound nbt) {
+        super.writeCustomDataToNbt(nbt);
+        nbt.putBoolean("IslandCreationPending", islandCreationPending);
+        if (stateMachine != null) {
+            nbt.put("AI", stateMachine.writeNbt());
+        }
+        if (islandManager != null) {
+            nbt.put("Island", islandManager.writeNbt());
+        }
+    }
+    
+    @Override
+    public void readCustomDataFromNbt(NbtCompound nbt) {
+        super.readCustomDataFromNbt(nbt);
+        islandCreationPending = nbt.getBoolean("IslandCreationPending");
+        if (stateMachine != null && nbt.contains("AI", NbtElement.COMPOUND_TYPE)) {
+            stateMachine.readNbt(nbt.getCompound("AI"));
+        }
+        if (islandManager != null && nbt.contains("Island", NbtElement.COMPOUND_TYPE)) {
+            islandManager.readNbt(nbt.getCompound("Island"));
+            // A turtle saved mid-journey comes back with a virtual island - put it down if we are resting
+            islandRestorePending = islandManager.isVirtual();
         }
     }
     
@@ -128,6 +189,9 @@ public class AethelonEntity extends WaterCreatureEntity {
      */
     @Override
     public boolean damage(net.minecraft.server.world.ServerWorld world, net.minecraft.entity.damage.DamageSource source, float amount) {
+        // Any hit wakes a dormant turtle, even one it is immune to
+        TurtleSleepManager.wake(this, "damage");
+        
         // Check damage immunity
         if (damageImmunityTimer > 0) {
             return false;
@@ -205,17 +269,22 @@ public class AethelonEntity extends WaterCreatureEntity {
         if (!getWorld().isClient && getWorld() instanceof ServerWorld serverWorld) {
             LOGGER.info("Aethelon dying at {} - triggering dramatic explosion", getBlockPos());
             
+            // Dying turtles no longer count towards population or proximity queries
+            TurtleRegistry.unregister(serverWorld, this);
+            TurtlePopulationLedger.remove(serverWorld, getUuid());
+            
             // Broadcast death message to all players
             broadcastDeathMessage(damageSource);
             
-            // Remove island first to prevent corruption
+            // Queue the island removal - only the block clearing is spread over later ticks (and saved with
+            // the world); the job clears whatever the explosion leaves, so nothing waits on it
             if (islandManager != null && hasIsland()) {
                 LOGGER.info("Removing island before explosion");
                 islandManager.removeIsland(getWorld());
             }
             
             // Create dramatic explosion with multiple TNT entities
-            createDeathExplosion(serverWorld);
+            createDeathExplosion(serverWorld, getPos());
             
             // Spawn death particles and effects
             spawnDeathEffects(serverWorld);
@@ -238,8 +307,7 @@ public class AethelonEntity extends WaterCreatureEntity {
     /**
      * Create dramatic explosion with multiple primed TNT entities
      */
-    private void createDeathExplosion(ServerWorld world) {
-        Vec3d center = getPos();
+    private void createDeathExplosion(ServerWorld world, Vec3d center) {
         int tntCount = 15; // Number of TNT entities
         float explosionRadius = 25.0f; // Explosion radius
         
@@ -442,6 +510,25 @@ public class AethelonEntity extends WaterCreatureEntity {
         return false;
     }
     
+    /**
+     * Skip expensive velocity updates when no player is within 256 blocks
+     */
+    @Override
+    public void updateVelocity(float speed, Vec3d movementInput) {
+        if (PlayerProximityService.get(this).getDistance() > 256.0) {
+            return;
+        }
+        super.updateVelocity(speed, movementInput);
+    }
+    
+    /**
+     * Whether block collision checks are skipped this tick (no player within 128 blocks)
+     * Entity keeps the check private, so EntityMixin asks us through the TURTLE hook flag
+     */
+    public boolean shouldSkipBlockCollision() {
+        return PlayerProximityService.get(this).getDistance() > 128.0;
+    }
+    
     @Override
     protected void initGoals() {
         super.initGoals();
@@ -454,66 +541,154 @@ public class AethelonEntity extends WaterCreatureEntity {
     
     @Override
     public void tick() {
-        tickCounter++;
+        // Dormant sleep: nothing runs until TurtleSleepManager wakes us (server only - clients always tick)
+        if (asleep && !getWorld().isClient) {
+            return;
+        }
         
-        // Performance optimization - skip processing for distant entities
-        if (tickCounter % 20 == 0) {
-            float distanceToPlayer = getDistanceToNearestPlayer();
-            if (distanceToPlayer > 256.0f) {
-                return;
-            } else if (distanceToPlayer > 128.0f && tickCounter % 10 != 0) {
-                return;
-            } else if (distanceToPlayer > 64.0f && tickCounter % 4 != 0) {
-                return;
+        // Phase 4: First-spawn island creation and post-load island restore
+        if (!getWorld().isClient) {
+            if (islandCreationPending) {
+                createInitialIsland();
+            }
+            if (islandManager != null && getWorld() instanceof ServerWorld serverWorld) {
+                islandManager.resumeSavedPlacement(serverWorld);
+                islandManager.carryPlacedIsland(serverWorld);
+            }
+            if (islandRestorePending) {
+                islandRestorePending = false;
+                if (stateMachine != null && stateMachine.isIdle() && islandManager.isVirtual()) {
+                    islandManager.materializeIsland(getWorld());
+                }
             }
         }
         
+        // Tick-LOD: the scheduler decides how often turtle logic runs; the vanilla tick always runs
+        TurtleTickScheduler.Schedule schedule = TurtleTickScheduler.get(this);
+        
         super.tick();
         
-        // Get performance level based on distance to players
-        PerformanceManager.PerformanceLevel perfLevel = PerformanceManager.getPerformanceLevel(this);
-        int tickDivider = PerformanceManager.getTickRateDivider(this);
+        // Keep the chunk-indexed registries in step with our position
+        if (!getWorld().isClient) {
+            TurtleRegistry.updatePosition(this);
+        }
+        VirtualIslandTracker.updatePosition(this);
+        
+        // Carry riders by however far we moved
+        platform.tick();
         
-        // Only process state management based on performance level
-        if (perfLevel == PerformanceManager.PerformanceLevel.HIGH || 
-            tickCounter % tickDivider == 0) {
-            // Phase 2: State machine logic
-            if (stateMachine != null) {
-                stateMachine.tick();
+        if (schedule.shouldRunLogic()) {
+            tickLogic(schedule.getElapsedTicks());
+        }
+    }
+    
+    /**
+     * Turtle logic, advanced by the number of ticks since it last ran
+     */
+    private void tickLogic(int elapsed) {
+        // Phase 2: State machine logic
+        if (stateMachine != null) {
+            stateMachine.tick(elapsed);
+        }
+        
+        // Basic state management
+        stateTimer += elapsed;
+        
+        // Phase 4: Update island position
+        if (islandManager != null) {
+            islandManager.updateIslandPosition(getWorld());
+        }
+        
+        // Phase 3: Update damage immunity and agitation
+        damageImmunityTimer = Math.max(0, damageImmunityTimer - elapsed);
+        
+        // Gradually reduce agitation over time (one point every 3 seconds)
+        if (agitationLevel > 0) {
+            agitationDecayTicks += elapsed;
+            int decay = agitationDecayTicks / 60;
+            if (decay > 0) {
+                agitationDecayTicks -= decay * 60;
+                agitationLevel = Math.max(0, agitationLevel - decay);
+                if (agitationLevel < 50 && isEnraged) {
+                    isEnraged = false;
+                    LOGGER.info("Aethelon calmed down (agitation: {})", agitationLevel);
+                }
             }
-            
-            // Basic state management
-            stateTimer++;
-            
-            // Phase 4: Update island position
-            if (islandManager != null) {
-                islandManager.updateIslandPosition(getWorld());
+        } else {
+            agitationDecayTicks = 0;
+        }
+        
+        // Far-field migration: a travelling turtle that stays out of every player's range becomes a lightweight record
+        if (getWorld() instanceof ServerWorld serverWorld) {
+            farFieldTicks = OceanMigrationSimulator.isFarField(this) ? farFieldTicks + elapsed : 0;
+            if (farFieldTicks >= OceanMigrationSimulator.CONVERSION_DELAY_TICKS && OceanMigrationSimulator.convert(serverWorld, this)) {
+                return;
             }
             
-            // Phase 3: Update damage immunity and agitation
-            if (damageImmunityTimer > 0) {
-                damageImmunityTimer--;
+            // Dormant sleep: an idle turtle with nobody around stops ticking until something wakes it
+            if (stateMachine != null && stateMachine.isIdle() && !islandCreationPending && !islandRestorePending) {
+                sleepCheckTicks += elapsed;
+                if (sleepCheckTicks >= SLEEP_CHECK_INTERVAL) {
+                    sleepCheckTicks = 0;
+                    TurtleSleepManager.tryFallAsleep(serverWorld, this);
+                }
+            } else {
+                sleepCheckTicks = 0;
             }
             
-            // Gradually reduce agitation over time
-            if (agitationLevel > 0 && tickCounter % 60 == 0) { // Every 3 seconds
-                agitationLevel = Math.max(0, agitationLevel - 1);
-                if (agitationLevel < 50 && isEnraged) {
-                    isEnraged = false;
-                    LOGGER.info("Aethelon calmed down (agitation: {})", agitationLevel);
-                }
+            compatEffectTicks += elapsed;
+            if (compatEffectTicks >= COMPAT_EFFECT_INTERVAL) {
+                compatEffectTicks = 0;
+                ModCompatibility.applyTurtleEffects(this);
             }
         }
     }
     
-    private float getDistanceToNearestPlayer() {
-        var closestPlayer = this.getWorld().getClosestPlayer(this, 300.0);
-        if (closestPlayer != null) {
-            double dx = Math.abs(this.getX() - closestPlayer.getX());
-            double dz = Math.abs(this.getZ() - closestPlayer.getZ());
-            return (float) (dx + dz);
-        }
-        return Float.MAX_VALUE;
+    /**
+     * Tick-LOD schedule, planned by TurtleTickScheduler
+     */
+    public TurtleTickScheduler.Schedule getTickSchedule() {
+        return tickSchedule;
+    }
+    
+    /**
+     * Collision parts (shell, head, flippers) inside the bounding box envelope
+     */
+    public TurtleBodyParts getBodyParts() {
+        return bodyParts;
+    }
+    
+    /**
+     * Riders carried on the shell and island
+     */
+    public KinematicPlatform getPlatform() {
+        return platform;
+    }
+    
+    /**
+     * Whether the turtle is in dormant sleep (no ticking until woken)
+     */
+    public boolean isAsleep() {
+        return asleep;
+    }
+    
+    void setAsleep(boolean asleep) {
+        this.asleep = asleep;
+    }
+    
+    /**
+     * Whether the turtle is in a fight (immune after a hit, or responding to damage)
+     */
+    public boolean isUnderAttack() {
+        return damageImmunityTimer > 0 || currentState == AethelonState.DAMAGED
+                || stateMachine != null && stateMachine.isDamageResponsePending();
+    }
+    
+    /**
+     * Cached nearest-player data, maintained by PlayerProximityService
+     */
+    public PlayerProximityService.Proximity getProximity() {
+        return proximity;
     }
     
     // Getters and setters for state management
@@ -559,6 +734,43 @@ public class AethelonEntity extends WaterCreatureEntity {
         return islandManager != null && islandManager.hasIsland();
     }
     
+    /**
+     * Send the virtual island to players that start tracking this turtle mid-journey
+     */
+    @Override
+    public void onStartedTrackingBy(ServerPlayerEntity player) {
+        super.onStartedTrackingBy(player);
+        if (islandManager != null && islandManager.isVirtual()) {
+            ModNetworking.sendIslandSync(player, this, islandManager.getVirtualIsland());
+        }
+    }
+    
+    @Override
+    public void setRemoved(Entity.RemovalReason reason) {
+        // Despawned or discarded turtles take their island with them (queued, not in this tick)
+        // Turtles handed over to the migration simulator keep theirs in the record
+        if (reason == Entity.RemovalReason.DISCARDED && !removedForMigration && !getWorld().isClient && hasIsland()) {
+            islandManager.removeIsland(getWorld());
+        }
+        super.setRemoved(reason);
+        VirtualIslandTracker.unregister(this);
+    }
+    
+    /**
+     * Remove the entity after its state was saved into a migration record (the island is kept)
+     */
+    public void discardForMigration() {
+        removedForMigration = true;
+        discard();
+    }
+    
+    /**
+     * Whether this entity was removed because it now lives on as a migration record
+     */
+    public boolean isRemovedForMigration() {
+        return removedForMigration;
+    }
+    
     private IslandManager.IslandType selectRandomIslandType() {
         if (!AethelonConfig.INSTANCE.enable_islands || !AethelonConfig.INSTANCE.auto_create_islands) {
             return IslandManager.IslandType.SMALL;
@@ -628,24 +840,24 @@ public class AethelonEntity extends WaterCreatureEntity {
     public static boolean canSpawn(EntityType<? extends WaterCreatureEntity> type, WorldAccess world, 
                                   SpawnReason spawnReason, BlockPos pos, Random random) {
         
+        // Per-chunk suitability bitmap first - dry and shallow columns are rejected in constant time
+        if (!SpawnSuitabilityMap.isSuitable(world, pos)) {
+            return false;
+        }
+        
         // Basic water depth and environment checks
         int waterDepthRequired = AethelonConfig.getWaterDepthRequired();
         
-        // Must be in very deep water
-        for (int i = 0; i < waterDepthRequired; i++) {
-            if (!world.getBlockState(pos.down(i)).getFluidState().isIn(net.minecraft.registry.tag.FluidTags.WATER)) {
-                return false;
-            }
+        // Must be in very deep water (heightmap-backed, O(1) for open ocean)
+        if (!OceanDepthField.hasWaterDepth(world, pos, waterDepthRequired)) {
+            return false;
         }
         
         int clearanceRequired = AethelonConfig.getClearanceAboveRequired();
         
         // Must have clear space above
-        for (int i = 1; i <= clearanceRequired; i++) {
-            if (!world.getBlockState(pos.up(i)).isAir() && 
-                !world.getBlockState(pos.up(i)).getFluidState().isIn(net.minecraft.registry.tag.FluidTags.WATER)) {
-                return false;
-            }
+        if (!OceanDepthField.hasClearance(world, pos, clearanceRequired)) {
+            return false;
         }
         
         // Check world conditions
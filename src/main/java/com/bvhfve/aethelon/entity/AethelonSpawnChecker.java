@@ -8,12 +8,9 @@ import net.minecraft.entity.SpawnReason;
 import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.Box;
 import net.minecraft.world.ServerWorldAccess;
 import net.minecraft.world.World;
 
-import java.util.List;
-
 /**
  * Custom spawn checker for Aethelon entities
  * Implements distance-based spawn prevention to avoid overcrowding
@@ -37,44 +34,18 @@ public class AethelonSpawnChecker {
             int minDistance = AethelonConfig.INSTANCE != null ? 
                 AethelonConfig.INSTANCE.minimumTurtleDistance : 128;
             
-            // Create search area around spawn position
-            Box searchArea = Box.of(
-                pos.toCenterPos(), 
-                minDistance * 2, 
-                minDistance * 2, 
-                minDistance * 2
-            );
-            
-            // Find all existing Aethelon entities in the area
-            List<AethelonEntity> nearbyTurtles = serverWorld.getEntitiesByClass(
-                AethelonEntity.class, 
-                searchArea, 
-                entity -> entity.isAlive() && !entity.isRemoved()
-            );
-            
-            // Check distance to each nearby turtle
-            for (AethelonEntity turtle : nearbyTurtles) {
-                double distance = turtle.getPos().distanceTo(pos.toCenterPos());
-                if (distance < minDistance) {
-                    String reason = String.format("Too close to existing turtle (distance: %.1f, minimum: %d)", distance, minDistance);
-                    ConfigDebugLogger.logSpawnAttempt(serverWorld, pos, "unknown", false, reason);
-                    
-                    Aethelon.LOGGER.debug("Preventing Aethelon spawn at {} - too close to existing turtle at {} (distance: {}, minimum: {})", 
-                                        pos, turtle.getBlockPos(), Math.round(distance), minDistance);
-                    return false;
-                }
+            // Density grid lookup - covers loaded, unloaded and migrating turtles without scanning entities
+            if (TurtlePopulationLedger.get(serverWorld).hasTurtleWithin(pos, minDistance)) {
+                String reason = String.format("Too close to existing turtle (minimum: %d)", minDistance);
+                ConfigDebugLogger.logSpawnAttempt(serverWorld, pos, "unknown", false, reason);
+                
+                Aethelon.LOGGER.debug("Preventing Aethelon spawn at {} - too close to an existing turtle (minimum: {})", 
+                                    pos, minDistance);
+                return false;
             }
             
             // Log successful spawn check
-            String reason = nearbyTurtles.isEmpty() ? 
-                "No nearby turtles found" : 
-                String.format("%d nearby turtles found, all at safe distance", nearbyTurtles.size());
-            ConfigDebugLogger.logSpawnAttempt(serverWorld, pos, "unknown", true, reason);
-            
-            if (!nearbyTurtles.isEmpty()) {
-                Aethelon.LOGGER.debug("Allowing Aethelon spawn at {} - {} nearby turtles found, all at safe distance (minimum: {})", 
-                                    pos, nearbyTurtles.size(), minDistance);
-            }
+            ConfigDebugLogger.logSpawnAttempt(serverWorld, pos, "unknown", true, "No nearby turtles found");
             
             return true;
             
@@ -94,14 +65,8 @@ public class AethelonSpawnChecker {
         }
         
         try {
-            // Get all entities in the world (no bounding box needed for world-wide search)
-            List<AethelonEntity> allTurtles = new java.util.ArrayList<>();
-            for (net.minecraft.entity.Entity entity : serverWorld.iterateEntities()) {
-                if (entity instanceof AethelonEntity turtle && turtle.isAlive() && !turtle.isRemoved()) {
-                    allTurtles.add(turtle);
-                }
-            }
-            return allTurtles.size();
+            // Ledger count - includes turtles in unloaded chunks and in the far field, O(1)
+            return TurtlePopulationLedger.get(serverWorld).getPopulation();
         } catch (Exception e) {
             Aethelon.LOGGER.error("Error counting Aethelon entities in world", e);
             return 0;
@@ -0,0 +1,179 @@
+package com.bvhfve.aethelon.entity;
+
+import com.bvhfve.aethelon.island.IslandManager;
+import com.bvhfve.aethelon.island.VirtualIsland;
+import com.bvhfve.aethelon.island.VirtualIslandTracker;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.MovementType;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Rider set of one turtle, carried with the turtle's exact motion
+ *
+ * Features:
+ * - Entities join when their own movement collides with a body part or the virtual island from above
+ *   (detected in the movement collision hook every entity already runs, no scans from the turtle)
+ * - Riders leave when they step off the platform, fly, mount something or are removed; the bare
+ *   turtle is judged by its body part boxes, not the 32x5 broadphase envelope
+ * - Each turtle tick applies the turtle's translation, and on a bare shell its yaw delta, to every rider in one pass
+ *
+ * Each side moves the entities it simulates: the server carries mobs, the client carries its own player.
+ */
+public class KinematicPlatform {
+
+    // Riders may be this far above the platform surface (jumping) and still be carried
+    private static final double RIDE_HEIGHT = 3.0;
+
+    // The shell surface is this thick for riders sinking slightly into it
+    private static final double SURFACE_TOLERANCE = 1.0;
+
+    // Larger jumps are teleports or migration hand-overs, not movement
+    private static final double MAX_CARRY_DISTANCE = 8.0;
+
+    private final AethelonEntity turtle;
+    private final ReferenceOpenHashSet<Entity> riders = new ReferenceOpenHashSet<>();
+    private Vec3d lastPos;
+    private float lastYaw;
+
+    public KinematicPlatform(AethelonEntity turtle) {
+        this.turtle = turtle;
+    }
+
+    /**
+     * Register an entity that landed on the platform
+     */
+    public void addRider(Entity entity) {
+        if (riders.add(entity) && !turtle.getWorld().isClient) {
+            // Something landed on a sleeping turtle
+            TurtleSleepManager.wake(turtle, "rider landed");
+        }
+    }
+
+    public boolean hasRiders() {
+        return !riders.isEmpty();
+    }
+
+    public Set<Entity> getRiders() {
+        return Collections.unmodifiableSet(riders);
+    }
+
+    /**
+     * Carry riders by the turtle's motion since the last call (called once per turtle tick)
+     */
+    public void tick() {
+        Vec3d pos = turtle.getPos();
+        float yaw = turtle.getYaw();
+        if (lastPos == null || riders.isEmpty()) {
+            lastPos = pos;
+            lastYaw = yaw;
+            return;
+        }
+
+        Vec3d translation = pos.subtract(lastPos);
+        if (translation.lengthSquared() > MAX_CARRY_DISTANCE * MAX_CARRY_DISTANCE) {
+            riders.clear();
+            lastPos = pos;
+            lastYaw = yaw;
+            return;
+        }
+
+        // Island blocks only translate with the turtle; a bare shell turns with it
+        float yawDelta = turtle.hasIsland() ? 0.0f : MathHelper.wrapDegrees(yaw - lastYaw);
+        boolean moved = translation.lengthSquared() > 1.0E-8 || yawDelta != 0.0f;
+        double cos = Math.cos(Math.toRadians(yawDelta));
+        double sin = Math.sin(Math.toRadians(yawDelta));
+
+        for (ObjectIterator<Entity> iterator = riders.iterator(); iterator.hasNext(); ) {
+            Entity rider = iterator.next();
+            if (!isStillRiding(rider)) {
+                iterator.remove();
+                continue;
+            }
+            if (!moved || !isSimulatedHere(rider)) continue;
+
+            // New position = turtle position + rotated offset from where the turtle was
+            double offsetX = rider.getX() - lastPos.x;
+            double offsetZ = rider.getZ() - lastPos.z;
+            double targetX = pos.x + offsetX * cos - offsetZ * sin;
+            double targetZ = pos.z + offsetX * sin + offsetZ * cos;
+            rider.move(MovementType.SHULKER, new Vec3d(targetX - rider.getX(), translation.y, targetZ - rider.getZ()));
+
+            if (yawDelta != 0.0f) {
+                rider.setYaw(rider.getYaw() + yawDelta);
+                if (rider instanceof LivingEntity living) {
+                    living.setBodyYaw(living.bodyYaw + yawDelta);
+                    living.setHeadYaw(living.getHeadYaw() + yawDelta);
+                }
+            }
+        }
+
+        lastPos = pos;
+        lastYaw = yaw;
+    }
+
+    /**
+     * Called from the movement collision hook: register an entity whose downward movement meets a turtle platform
+     */
+    public static void onCollisionQuery(World world, Entity entity, Box movementBox) {
+        if (entity instanceof AethelonEntity || !entity.isLiving() || !entity.isAlive() || entity.hasVehicle()) return;
+        if (!isSimulatedHere(entity)) return;
+
+        // Only a query reaching below the feet can land on something
+        Box box = entity.getBoundingBox();
+        if (movementBox.minY >= box.minY) return;
+        Box feet = new Box(box.minX, movementBox.minY, box.minZ, box.maxX, box.minY + SURFACE_TOLERANCE, box.maxZ);
+
+        for (AethelonEntity turtle : VirtualIslandTracker.getVirtualIslandsNear(world, feet)) {
+            VirtualIsland island = turtle.getIslandManager() != null ? turtle.getIslandManager().getVirtualIsland() : null;
+            if (island != null && !turtle.isRemoved() && island.getWorldBounds(turtle.getPos()).intersects(feet)) {
+                turtle.getPlatform().addRider(entity);
+            }
+        }
+
+        Box envelope = feet.expand(TurtleBodyParts.ENVELOPE_MARGIN, 0.0, TurtleBodyParts.ENVELOPE_MARGIN);
+        for (AethelonEntity turtle : TurtleRegistry.getTurtlesInBox(world, envelope, turtle -> true)) {
+            for (Box part : turtle.getBodyParts().getBoxes()) {
+                if (part.intersects(feet) && box.minY >= part.maxY - SURFACE_TOLERANCE) {
+                    turtle.getPlatform().addRider(entity);
+                    break;
+                }
+            }
+        }
+    }
+
+    private boolean isStillRiding(Entity rider) {
+        if (rider.isRemoved() || !rider.isAlive() || rider.hasVehicle() || rider.getWorld() != turtle.getWorld()) return false;
+        if (rider instanceof PlayerEntity player && (player.getAbilities().flying || player.isSpectator())) return false;
+
+        Box feet = rider.getBoundingBox();
+        for (Box part : turtle.getBodyParts().getBoxes()) {
+            if (feet.minY >= part.maxY - SURFACE_TOLERANCE && feet.minY <= part.maxY + RIDE_HEIGHT
+                    && feet.maxX > part.minX && feet.minX < part.maxX && feet.maxZ > part.minZ && feet.minZ < part.maxZ) {
+                return true;
+            }
+        }
+
+        IslandManager islandManager = turtle.getIslandManager();
+        VirtualIsland virtualIsland = islandManager != null ? islandManager.getVirtualIsland() : null;
+        if (virtualIsland == null) return false;
+        Box island = virtualIsland.getWorldBounds(turtle.getPos());
+        return feet.intersects(island.minX, island.minY, island.minZ, island.maxX, island.maxY + RIDE_HEIGHT, island.maxZ);
+    }
+
+    /**
+     * Whether this side moves the entity: players move on their own client, everything else on the server
+     */
+    private static boolean isSimulatedHere(Entity entity) {
+        return entity instanceof PlayerEntity player ? player.isMainPlayer() : !entity.getWorld().isClient;
+    }
+}
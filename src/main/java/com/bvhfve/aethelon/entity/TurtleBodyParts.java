@@ -0,0 +1,97 @@
+package com.bvhfve.aethelon.entity;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.shape.VoxelShape;
+import net.minecraft.util.shape.VoxelShapes;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Physical body of a turtle as a handful of part boxes (shell, head, flippers)
+ *
+ * Like the ender dragon's parts, each box is placed in the turtle's yaw frame and stays axis aligned.
+ * The 32x5 entity bounding box remains the broadphase envelope (registry lookups, targeting, culling);
+ * movement collision only sees the parts a query actually touches.
+ */
+public class TurtleBodyParts {
+
+    /**
+     * One part in turtle-local space: centre offset (x left, z forward) and size
+     */
+    private record Part(String name, double x, double minY, double z, double width, double height, double length) {
+    }
+
+    // Shell top stays at the old hitbox height, riders stand where they used to
+    private static final Part[] PARTS = {
+        new Part("shell", 0.0, 0.5, 0.0, 26.0, 4.5, 26.0),
+        new Part("head", 0.0, 1.0, 14.0, 6.0, 3.5, 6.0),
+        new Part("front_left_flipper", 13.0, 1.0, 8.0, 6.0, 1.5, 6.0),
+        new Part("front_right_flipper", -13.0, 1.0, 8.0, 6.0, 1.5, 6.0),
+        new Part("rear_left_flipper", 11.0, 1.0, -11.0, 5.0, 1.5, 5.0),
+        new Part("rear_right_flipper", -11.0, 1.0, -11.0, 5.0, 1.5, 5.0)
+    };
+
+    // Turned parts reach past the 32 block envelope by at most this much
+    static final double ENVELOPE_MARGIN = 4.0;
+
+    private final AethelonEntity turtle;
+    private final Box[] boxes = new Box[PARTS.length];
+    private Vec3d placedAt = null;
+    private float placedYaw;
+
+    public TurtleBodyParts(AethelonEntity turtle) {
+        this.turtle = turtle;
+    }
+
+    /**
+     * Part boxes in world space, re-placed only when the turtle moved or turned
+     */
+    public Box[] getBoxes() {
+        Vec3d pos = turtle.getPos();
+        float yaw = turtle.getYaw();
+        if (!pos.equals(placedAt) || yaw != placedYaw) {
+            double radians = Math.toRadians(yaw);
+            double cos = Math.cos(radians);
+            double sin = Math.sin(radians);
+            for (int i = 0; i < PARTS.length; i++) {
+                Part part = PARTS[i];
+                double centerX = pos.x + part.x() * cos - part.z() * sin;
+                double centerZ = pos.z + part.x() * sin + part.z() * cos;
+                boxes[i] = new Box(centerX - part.width() / 2, pos.y + part.minY(), centerZ - part.length() / 2,
+                        centerX + part.width() / 2, pos.y + part.minY() + part.height(), centerZ + part.length() / 2);
+            }
+            placedAt = pos;
+            placedYaw = yaw;
+        }
+        return boxes;
+    }
+
+    /**
+     * Append the body parts of turtles touched by a movement query
+     * Returns the original list when nothing was added
+     */
+    public static List<VoxelShape> appendCollisions(World world, Entity entity, Box box, List<VoxelShape> collisions) {
+        // Only living things stand on or bump into turtles, as with the old hitbox
+        if (!entity.isLiving() || !entity.isAlive()) return collisions;
+
+        // Broadphase: turtles whose envelope intersects the query
+        List<AethelonEntity> turtles = TurtleRegistry.getTurtlesInBox(world, box.expand(ENVELOPE_MARGIN, 0.0, ENVELOPE_MARGIN), turtle -> turtle != entity);
+        if (turtles.isEmpty()) return collisions;
+
+        List<VoxelShape> result = null;
+        for (AethelonEntity turtle : turtles) {
+            for (Box part : turtle.getBodyParts().getBoxes()) {
+                if (!part.intersects(box)) continue;
+                if (result == null) {
+                    result = new ArrayList<>(collisions);
+                }
+                result.add(VoxelShapes.cuboid(part));
+            }
+        }
+        return result != null ? result : collisions;
+    }
+}
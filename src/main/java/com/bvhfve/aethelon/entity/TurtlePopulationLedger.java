@@ -0,0 +1,276 @@
+package com.bvhfve.aethelon.entity;
+
+import com.bvhfve.aethelon.migration.OceanMigrationSimulator;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.entity.Entity;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.PersistentState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Persistent per-world ledger of every turtle, loaded or not
+ *
+ * Features:
+ * - Keyed by turtle UUID with the last-known chunk position
+ * - Updated on spawn/load, chunk crossings, death and discard; chunk unloads keep the entry
+ * - Entries never expire with time: a turtle in a chunk nobody visits still counts
+ * - When a chunk's entities have loaded, entries placed in that chunk without a matching entity
+ *   (or migration record) are dropped, so turtles removed outside the normal paths do not linger
+ * - Turtles handed over to the migration simulator stay in the ledger while they are records
+ * - O(1) population count and a coarse density grid for distance checks across unloaded regions
+ * - Stored as a PersistentState, so it survives restarts
+ */
+public class TurtlePopulationLedger extends PersistentState {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("AethelonPopulationLedger");
+
+    private static final String STATE_ID = "aethelon_population";
+
+    // Density grid cell size in chunks (4 chunks = 64 blocks)
+    private static final int CELL_SHIFT = 2;
+
+    // Delay between a chunk loading and its entries being checked, so its entities have time to load
+    private static final int RECONCILE_DELAY = 100;
+
+    public static final PersistentState.Type<TurtlePopulationLedger> TYPE =
+            new PersistentState.Type<>(TurtlePopulationLedger::new, TurtlePopulationLedger::fromNbt, null);
+
+    private final Object2LongOpenHashMap<UUID> chunkByTurtle = new Object2LongOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<Object2LongOpenHashMap<UUID>> cells = new Long2ObjectOpenHashMap<>();
+
+    // Chunks waiting for a reconcile check, with the world time the check is due (not saved)
+    private final LongArrayList reconcileChunks = new LongArrayList();
+    private final LongArrayList reconcileDue = new LongArrayList();
+
+    /**
+     * Register entity lifecycle hooks
+     */
+    public static void initialize() {
+        ServerEntityEvents.ENTITY_LOAD.register((entity, world) -> {
+            if (entity instanceof AethelonEntity turtle) {
+                get(world).record(turtle.getUuid(), turtle.getChunkPos().toLong());
+            }
+        });
+        ServerChunkEvents.CHUNK_LOAD.register((world, chunk) -> {
+            TurtlePopulationLedger ledger = get(world);
+            long chunkPos = chunk.getPos().toLong();
+            if (ledger.hasEntriesIn(chunkPos)) {
+                ledger.reconcileChunks.add(chunkPos);
+                ledger.reconcileDue.add(world.getTime() + RECONCILE_DELAY);
+            }
+        });
+        ServerTickEvents.END_WORLD_TICK.register(world -> get(world).tick(world));
+        ServerEntityEvents.ENTITY_UNLOAD.register((entity, world) -> {
+            if (entity instanceof AethelonEntity turtle) {
+                onUnload(world, turtle);
+            }
+        });
+        LOGGER.info("Turtle population ledger initialized");
+    }
+
+    /**
+     * Ledger of a world
+     */
+    public static TurtlePopulationLedger get(ServerWorld world) {
+        return world.getPersistentStateManager().getOrCreate(TYPE, STATE_ID);
+    }
+
+    /**
+     * Update a turtle's chunk (no-op if unchanged)
+     */
+    public static void move(ServerWorld world, UUID uuid, long chunkPos) {
+        get(world).record(uuid, chunkPos);
+    }
+
+    /**
+     * Remove a turtle for good (death, discard)
+     */
+    public static void remove(ServerWorld world, UUID uuid) {
+        get(world).forget(uuid);
+    }
+
+    private static void onUnload(ServerWorld world, AethelonEntity turtle) {
+        Entity.RemovalReason reason = turtle.getRemovalReason();
+        if (reason == null || reason == Entity.RemovalReason.UNLOADED_TO_CHUNK || reason == Entity.RemovalReason.UNLOADED_WITH_PLAYER) {
+            // Still exists on disk - remember where
+            get(world).record(turtle.getUuid(), turtle.getChunkPos().toLong());
+        } else if (reason == Entity.RemovalReason.DISCARDED && turtle.isRemovedForMigration()) {
+            // Lives on as a migration record, the simulator keeps the position current
+            get(world).record(turtle.getUuid(), turtle.getChunkPos().toLong());
+        } else {
+            // Killed, discarded or gone to another dimension (the new world records it on load)
+            get(world).forget(turtle.getUuid());
+        }
+    }
+
+    /**
+     * Total number of turtles in the world, loaded or not
+     */
+    public int getPopulation() {
+        return chunkByTurtle.size();
+    }
+
+    /**
+     * Check whether any known turtle's last-known chunk centre is closer than a distance
+     * Positions are chunk-accurate, so the check may be off by up to about 11 blocks
+     */
+    public boolean hasTurtleWithin(BlockPos pos, double distance) {
+        if (chunkByTurtle.isEmpty()) return false;
+
+        double distanceSquared = distance * distance;
+        int radiusChunks = (int) Math.ceil(distance / 16.0) + 1;
+        int chunkX = ChunkSectionPos.getSectionCoord(pos.getX());
+        int chunkZ = ChunkSectionPos.getSectionCoord(pos.getZ());
+        int minCellX = (chunkX - radiusChunks) >> CELL_SHIFT;
+        int maxCellX = (chunkX + radiusChunks) >> CELL_SHIFT;
+        int minCellZ = (chunkZ - radiusChunks) >> CELL_SHIFT;
+        int maxCellZ = (chunkZ + radiusChunks) >> CELL_SHIFT;
+
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                Object2LongOpenHashMap<UUID> cell = cells.get(ChunkPos.toLong(cellX, cellZ));
+                if (cell == null) continue;
+                for (Object2LongMap.Entry<UUID> entry : cell.object2LongEntrySet()) {
+                    long chunk = entry.getLongValue();
+                    double dx = ChunkPos.getPackedX(chunk) * 16 + 8 - pos.getX();
+                    double dz = ChunkPos.getPackedZ(chunk) * 16 + 8 - pos.getZ();
+                    if (dx * dx + dz * dz < distanceSquared) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Number of known turtles in the density cell containing a chunk
+     */
+    public int getCellDensity(ChunkPos chunkPos) {
+        Object2LongOpenHashMap<UUID> cell = cells.get(cellKey(chunkPos.toLong()));
+        return cell != null ? cell.size() : 0;
+    }
+
+    private void record(UUID uuid, long chunkPos) {
+        if (chunkByTurtle.containsKey(uuid)) {
+            long previous = chunkByTurtle.getLong(uuid);
+            if (previous == chunkPos) return;
+            removeFromCell(uuid, previous);
+        }
+        chunkByTurtle.put(uuid, chunkPos);
+        cells.computeIfAbsent(cellKey(chunkPos), key -> new Object2LongOpenHashMap<>()).put(uuid, chunkPos);
+        markDirty();
+    }
+
+    private void forget(UUID uuid) {
+        if (!chunkByTurtle.containsKey(uuid)) return;
+        removeFromCell(uuid, chunkByTurtle.removeLong(uuid));
+        markDirty();
+    }
+
+    private void tick(ServerWorld world) {
+        if (!reconcileChunks.isEmpty()) {
+            reconcile(world, world.getTime());
+        }
+    }
+
+    /**
+     * Drop entries in freshly loaded chunks whose turtle did not show up
+     * This is the only way an entry goes without a death or discard, and only once the chunk's entities are known
+     */
+    private void reconcile(ServerWorld world, long now) {
+        for (int i = reconcileChunks.size() - 1; i >= 0; i--) {
+            if (reconcileDue.getLong(i) > now) continue;
+            long chunkPos = reconcileChunks.removeLong(i);
+            reconcileDue.removeLong(i);
+
+            // Entity sections load after the chunk itself: check again later while the chunk stays loaded
+            if (!world.isChunkLoaded(chunkPos)) {
+                if (world.getChunkManager().isChunkLoaded(ChunkPos.getPackedX(chunkPos), ChunkPos.getPackedZ(chunkPos))) {
+                    reconcileChunks.add(chunkPos);
+                    reconcileDue.add(now + RECONCILE_DELAY);
+                }
+                continue;
+            }
+
+            Object2LongOpenHashMap<UUID> cell = cells.get(cellKey(chunkPos));
+            if (cell == null) continue;
+            List<UUID> missing = null;
+            for (Object2LongMap.Entry<UUID> entry : cell.object2LongEntrySet()) {
+                UUID uuid = entry.getKey();
+                if (entry.getLongValue() == chunkPos && world.getEntity(uuid) == null
+                        && !OceanMigrationSimulator.hasRecord(world, uuid)) {
+                    if (missing == null) missing = new ArrayList<>();
+                    missing.add(uuid);
+                }
+            }
+            if (missing != null) {
+                missing.forEach(this::forget);
+                LOGGER.debug("Dropped {} ledger entries without a turtle in chunk {}", missing.size(), new ChunkPos(chunkPos));
+            }
+        }
+    }
+
+    private boolean hasEntriesIn(long chunkPos) {
+        Object2LongOpenHashMap<UUID> cell = cells.get(cellKey(chunkPos));
+        return cell != null && cell.containsValue(chunkPos);
+    }
+
+    private void removeFromCell(UUID uuid, long chunkPos) {
+        long key = cellKey(chunkPos);
+        Object2LongOpenHashMap<UUID> cell = cells.get(key);
+        if (cell != null) {
+            cell.removeLong(uuid);
+            if (cell.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    private static long cellKey(long chunkPos) {
+        return ChunkPos.toLong(ChunkPos.getPackedX(chunkPos) >> CELL_SHIFT, ChunkPos.getPackedZ(chunkPos) >> CELL_SHIFT);
+    }
+
+    private static TurtlePopulationLedger fromNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registries) {
+        TurtlePopulationLedger ledger = new TurtlePopulationLedger();
+        NbtList list = nbt.getList("Turtles", NbtElement.COMPOUND_TYPE);
+        for (int i = 0; i < list.size(); i++) {
+            NbtCompound entry = list.getCompound(i);
+            if (entry.containsUuid("UUID")) {
+                ledger.record(entry.getUuid("UUID"), entry.getLong("Chunk"));
+            }
+        }
+        return ledger;
+    }
+
+    @Override
+    public NbtCompound writeNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registries) {
+        NbtList list = new NbtList();
+        for (Object2LongMap.Entry<UUID> entry : chunkByTurtle.object2LongEntrySet()) {
+            NbtCompound turtle = new NbtCompound();
+            turtle.putUuid("UUID", entry.getKey());
+            turtle.putLong("Chunk", entry.getLongValue());
+            list.add(turtle);
+        }
+        nbt.put("Turtles", list);
+        return nbt;
+    }
+}
@@ -0,0 +1,261 @@
+package com.bvhfve.aethelon.entity;
+
+import com.bvhfve.aethelon.config.AethelonConfig;
+import com.bvhfve.aethelon.util.PlayerProximityService;
+import com.bvhfve.aethelon.util.TimerWheel;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.MathHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Dormant sleep for idle turtles
+ *
+ * An idle turtle with no riders, no island work in progress and no player within sleep_wake_distance
+ * falls asleep: its entity tick returns straight away, so goals, physics and rider carrying stop.
+ * It wakes on:
+ * - damage
+ * - a player coming within sleep_wake_distance (players are matched against a chunk index of sleepers)
+ * - a block placed, broken or flooded inside its island bounds (state-only changes such as crop growth are ignored)
+ * - its idle deadline, scheduled on a per-world timer wheel
+ *
+ * The time a turtle slept is handed to its logic as elapsed ticks when it wakes, so idle timers stay exact.
+ */
+public class TurtleSleepManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("AethelonSleep");
+
+    // Idle stretches shorter than this are not worth sleeping through
+    private static final int MIN_SLEEP_TICKS = 20 * 10;
+
+    // Players are matched against sleepers twice a second
+    private static final int PLAYER_CHECK_INTERVAL = 10;
+
+    private static final Map<ServerWorld, WorldSleepers> WORLDS = new WeakHashMap<>();
+
+    /**
+     * Sleeping turtles of one world
+     */
+    private static class WorldSleepers {
+        final TimerWheel<AethelonEntity> deadlines = new TimerWheel<>();
+        final Long2ObjectOpenHashMap<List<AethelonEntity>> byChunk = new Long2ObjectOpenHashMap<>();
+        final Long2ObjectOpenHashMap<List<AethelonEntity>> byIslandChunk = new Long2ObjectOpenHashMap<>();
+        final Reference2ObjectOpenHashMap<AethelonEntity, LongArrayList> islandChunksOf = new Reference2ObjectOpenHashMap<>();
+        final Reference2ObjectOpenHashMap<AethelonEntity, Box> wakeBoundsOf = new Reference2ObjectOpenHashMap<>();
+
+        boolean isEmpty() {
+            return islandChunksOf.isEmpty();
+        }
+
+        void add(AethelonEntity turtle, long deadline) {
+            addTo(byChunk, turtle.getChunkPos().toLong(), turtle);
+
+            LongArrayList islandChunks = new LongArrayList();
+            Box bounds = turtle.hasIsland() ? turtle.getIslandManager().getIslandBounds() : null;
+            if (bounds != null) {
+                Box wakeBounds = bounds.expand(1.0);
+                int minX = ChunkSectionPos.getSectionCoord(MathHelper.floor(wakeBounds.minX));
+                int maxX = ChunkSectionPos.getSectionCoord(MathHelper.floor(wakeBounds.maxX));
+                int minZ = ChunkSectionPos.getSectionCoord(MathHelper.floor(wakeBounds.minZ));
+                int maxZ = ChunkSectionPos.getSectionCoord(MathHelper.floor(wakeBounds.maxZ));
+                for (int x = minX; x <= maxX; x++) {
+                    for (int z = minZ; z <= maxZ; z++) {
+                        long key = ChunkPos.toLong(x, z);
+                        addTo(byIslandChunk, key, turtle);
+                        islandChunks.add(key);
+                    }
+                }
+                wakeBoundsOf.put(turtle, wakeBounds);
+            }
+            islandChunksOf.put(turtle, islandChunks);
+            deadlines.schedule(turtle, deadline);
+        }
+
+        boolean remove(AethelonEntity turtle) {
+            LongArrayList islandChunks = islandChunksOf.remove(turtle);
+            if (islandChunks == null) return false;
+
+            removeFrom(byChunk, turtle.getChunkPos().toLong(), turtle);
+            for (int i = 0; i < islandChunks.size(); i++) {
+                removeFrom(byIslandChunk, islandChunks.getLong(i), turtle);
+            }
+            wakeBoundsOf.remove(turtle);
+            deadlines.cancel(turtle);
+            return true;
+        }
+
+        private static void addTo(Long2ObjectOpenHashMap<List<AethelonEntity>> index, long key, AethelonEntity turtle) {
+            index.computeIfAbsent(key, k -> new ArrayList<>(2)).add(turtle);
+        }
+
+        private static void removeFrom(Long2ObjectOpenHashMap<List<AethelonEntity>> index, long key, AethelonEntity turtle) {
+            List<AethelonEntity> bucket = index.get(key);
+            if (bucket != null) {
+                bucket.remove(turtle);
+                if (bucket.isEmpty()) {
+                    index.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Register tick, entity and server lifecycle hooks
+     */
+    public static void initialize() {
+        ServerTickEvents.END_WORLD_TICK.register(TurtleSleepManager::tickWorld);
+        ServerEntityEvents.ENTITY_UNLOAD.register((entity, world) -> {
+            if (entity instanceof AethelonEntity turtle && turtle.isAsleep()) {
+                // Unloaded or removed while asleep - just forget it, it starts awake next time
+                WorldSleepers sleepers = WORLDS.get(world);
+                if (sleepers != null) {
+                    sleepers.remove(turtle);
+                }
+                turtle.setAsleep(false);
+            }
+        });
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> WORLDS.clear());
+        LOGGER.info("Turtle sleep manager initialized");
+    }
+
+    /**
+     * Put an idle turtle to sleep if nothing needs it awake
+     *
+     * @return whether the turtle is now asleep
+     */
+    public static boolean tryFallAsleep(ServerWorld world, AethelonEntity turtle) {
+        if (!isEnabled() || turtle.isAsleep()) return turtle.isAsleep();
+
+        if (turtle.getStateMachine() == null || !turtle.getStateMachine().isIdle()) return false;
+        int idleRemaining = turtle.getStateMachine().getIdleTimeRemaining();
+        if (idleRemaining < MIN_SLEEP_TICKS) return false;
+        if (turtle.isUnderAttack() || turtle.hasPassengers() || turtle.hasVehicle()) return false;
+        if (turtle.hasIsland() && (turtle.getIslandManager().isVirtual() || turtle.getIslandManager().isPlacementPending())) return false;
+        if (PlayerProximityService.get(turtle).getDistance() <= getWakeDistance()) return false;
+        if (turtle.getPlatform().hasRiders()) return false;
+
+        long now = world.getServer().getTicks();
+        WORLDS.computeIfAbsent(world, w -> new WorldSleepers()).add(turtle, now + idleRemaining);
+        turtle.setAsleep(true);
+        turtle.setVelocity(0.0, 0.0, 0.0);
+        LOGGER.debug("Turtle at {} fell asleep for up to {} ticks", turtle.getBlockPos(), idleRemaining);
+        return true;
+    }
+
+    /**
+     * Wake a sleeping turtle; its next tick catches up on the time it slept
+     */
+    public static void wake(AethelonEntity turtle, String reason) {
+        if (!turtle.isAsleep()) return;
+
+        if (turtle.getWorld() instanceof ServerWorld serverWorld) {
+            WorldSleepers sleepers = WORLDS.get(serverWorld);
+            if (sleepers != null) {
+                sleepers.remove(turtle);
+            }
+        }
+        turtle.setAsleep(false);
+        turtle.getTickSchedule().resumeAfterSleep();
+        LOGGER.debug("Turtle at {} woke up ({})", turtle.getBlockPos(), reason);
+    }
+
+    /**
+     * Wake sleepers whose island contains a changed block (called for every chunk block write, so it must stay cheap)
+     */
+    public static void onBlockChanged(ServerWorld world, BlockPos pos) {
+        WorldSleepers sleepers = WORLDS.get(world);
+        if (sleepers == null || sleepers.byIslandChunk.isEmpty() || !world.getServer().isOnThread()) return;
+
+        List<AethelonEntity> bucket = sleepers.byIslandChunk.get(
+                ChunkPos.toLong(ChunkSectionPos.getSectionCoord(pos.getX()), ChunkSectionPos.getSectionCoord(pos.getZ())));
+        if (bucket == null) return;
+
+        List<AethelonEntity> woken = null;
+        for (AethelonEntity turtle : bucket) {
+            Box wakeBounds = sleepers.wakeBoundsOf.get(turtle);
+            if (wakeBounds != null && wakeBounds.contains(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5)) {
+                if (woken == null) woken = new ArrayList<>(1);
+                woken.add(turtle);
+            }
+        }
+        if (woken != null) {
+            woken.forEach(turtle -> wake(turtle, "island block changed"));
+        }
+    }
+
+    /**
+     * Number of sleeping turtles in a world
+     */
+    public static int getSleeperCount(ServerWorld world) {
+        WorldSleepers sleepers = WORLDS.get(world);
+        return sleepers != null ? sleepers.islandChunksOf.size() : 0;
+    }
+
+    private static void tickWorld(ServerWorld world) {
+        WorldSleepers sleepers = WORLDS.get(world);
+        if (sleepers == null || sleepers.isEmpty()) return;
+
+        long now = world.getServer().getTicks();
+        sleepers.deadlines.advance(now, turtle -> wake(turtle, "idle deadline"));
+
+        if (now % PLAYER_CHECK_INTERVAL == 0) {
+            wakeNearPlayers(world, sleepers);
+        }
+    }
+
+    /**
+     * Look up sleepers around each player instead of checking every sleeper against every player
+     */
+    private static void wakeNearPlayers(ServerWorld world, WorldSleepers sleepers) {
+        double wakeDistance = getWakeDistance();
+        double wakeDistanceSquared = wakeDistance * wakeDistance;
+        // Turtles are bucketed by the chunk they stand in
+        int radius = MathHelper.ceil(wakeDistance / 16.0);
+        List<AethelonEntity> woken = null;
+
+        for (PlayerEntity player : world.getPlayers()) {
+            if (player.isSpectator()) continue;
+            int chunkX = ChunkSectionPos.getSectionCoord(player.getBlockX());
+            int chunkZ = ChunkSectionPos.getSectionCoord(player.getBlockZ());
+            for (int dx = -radius; dx <= radius; dx++) {
+                for (int dz = -radius; dz <= radius; dz++) {
+                    List<AethelonEntity> bucket = sleepers.byChunk.get(ChunkPos.toLong(chunkX + dx, chunkZ + dz));
+                    if (bucket == null) continue;
+                    for (AethelonEntity turtle : bucket) {
+                        if (turtle.squaredDistanceTo(player) <= wakeDistanceSquared) {
+                            if (woken == null) woken = new ArrayList<>(2);
+                            woken.add(turtle);
+                        }
+                    }
+                }
+            }
+        }
+        if (woken != null) {
+            woken.forEach(turtle -> wake(turtle, "player approaching"));
+        }
+    }
+
+    private static boolean isEnabled() {
+        return AethelonConfig.INSTANCE == null || AethelonConfig.INSTANCE.enable_dormant_sleep;
+    }
+
+    private static double getWakeDistance() {
+        return AethelonConfig.INSTANCE != null ? AethelonConfig.INSTANCE.sleep_wake_distance : 48.0;
+    }
+}
@@ -0,0 +1,145 @@
+package com.bvhfve.aethelon.entity;
+
+import com.bvhfve.aethelon.util.PerformanceGovernor;
+import com.bvhfve.aethelon.util.PerformanceManager;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.World;
+
+/**
+ * Central tick-LOD scheduler for Aethelon turtles
+ *
+ * Every server tick each turtle is given one of three tick modes:
+ * - FULL: vanilla tick and turtle logic every tick
+ * - REDUCED: vanilla tick every tick (physics, goals, air and fluid handling stay exact),
+ *   turtle logic every few ticks
+ * - DORMANT: idle turtles beyond the far LOD band; vanilla tick every tick, turtle logic every second
+ *
+ * The vanilla tick is never throttled: skipping it would freeze movement, fluid handling and
+ * client interpolation between runs. Turtles that should stop ticking altogether fall into
+ * dormant sleep instead (TurtleSleepManager, server only).
+ *
+ * Whenever turtle logic runs it receives the number of ticks since its last run, so state timers,
+ * immunity and agitation decay advance at the same rate at any distance.
+ *
+ * Schedules are planned when the turtle ticks, so turtles in chunks that are loaded but not
+ * ticking never have time credited to them. Turtles woken from dormant sleep (TurtleSleepManager)
+ * are the exception: the ticks they slept through are handed to their first logic run.
+ */
+public class TurtleTickScheduler {
+
+    // Logic interval for dormant turtles (multiplied by the governor under load)
+    private static final int DORMANT_INTERVAL = 20;
+
+    /**
+     * How much work a turtle does this tick
+     */
+    public enum TickMode {
+        FULL,
+        REDUCED,
+        DORMANT
+    }
+
+    /**
+     * Per-turtle schedule, stored on the turtle and planned once per tick
+     */
+    public static class Schedule {
+        private long stamp = Long.MIN_VALUE;
+        private long lastLogicTick = Long.MIN_VALUE;
+        private TickMode mode = TickMode.FULL;
+        private int interval = 1;
+        private boolean runLogic = true;
+        private int elapsed = 1;
+        private boolean keepElapsed = false;
+
+        public TickMode getMode() {
+            return mode;
+        }
+
+        /**
+         * Ticks between logic runs in the current mode
+         */
+        public int getInterval() {
+            return interval;
+        }
+
+        /**
+         * Whether turtle logic runs this tick
+         */
+        public boolean shouldRunLogic() {
+            return runLogic;
+        }
+
+        /**
+         * Ticks of game time the logic has to catch up on (1 when running every tick)
+         */
+        public int getElapsedTicks() {
+            return elapsed;
+        }
+
+        /**
+         * Credit the ticks since the last logic run on the next plan instead of starting over
+         */
+        void resumeAfterSleep() {
+            keepElapsed = true;
+        }
+    }
+
+    /**
+     * Get this tick's schedule for a turtle (planned on the first call in a tick)
+     */
+    public static Schedule get(AethelonEntity turtle) {
+        Schedule schedule = turtle.getTickSchedule();
+        long now = getStamp(turtle.getWorld());
+        if (schedule.stamp != now) {
+            plan(turtle, schedule, now);
+        }
+        return schedule;
+    }
+
+    private static void plan(AethelonEntity turtle, Schedule schedule, long now) {
+        // A turtle that missed ticks (unloaded chunk, just spawned) starts over instead of catching up
+        if (schedule.stamp != now - 1 && !schedule.keepElapsed) {
+            schedule.lastLogicTick = now - 1;
+        }
+        schedule.keepElapsed = false;
+        schedule.stamp = now;
+
+        schedule.mode = selectMode(turtle);
+        schedule.interval = switch (schedule.mode) {
+            case FULL -> 1;
+            case REDUCED -> PerformanceManager.getTickRateDivider(turtle);
+            case DORMANT -> DORMANT_INTERVAL * (turtle.getWorld().isClient ? 1 : PerformanceGovernor.getDividerMultiplier());
+        };
+
+        long sinceLogic = now - schedule.lastLogicTick;
+        schedule.runLogic = sinceLogic >= schedule.interval;
+        if (schedule.runLogic) {
+            schedule.elapsed = (int) Math.min(Integer.MAX_VALUE, sinceLogic);
+            schedule.lastLogicTick = now;
+        } else {
+            schedule.elapsed = 0;
+        }
+    }
+
+    private static TickMode selectMode(AethelonEntity turtle) {
+        // A turtle in a fight always gets full attention (immunity windows stay tick-exact)
+        if (turtle.isUnderAttack()) {
+            return TickMode.FULL;
+        }
+
+        return switch (PerformanceManager.getPerformanceLevel(turtle)) {
+            case HIGH -> TickMode.FULL;
+            case MEDIUM, LOW -> TickMode.REDUCED;
+            // Only resting turtles can sleep; a travelling turtle keeps its physics every tick
+            case MINIMAL -> turtle.getStateMachine() != null && turtle.getStateMachine().isIdle() && !turtle.hasPassengers()
+                    ? TickMode.DORMANT : TickMode.REDUCED;
+        };
+    }
+
+    /**
+     * Same clock as PlayerProximityService: server ticks on the server, world time on the client
+     */
+    private static long getStamp(World world) {
+        return world instanceof ServerWorld serverWorld ? serverWorld.getServer().getTicks() : world.getTime();
+    }
+}
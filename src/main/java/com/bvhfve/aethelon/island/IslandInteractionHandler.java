@@ -0,0 +1,61 @@
+package com.bvhfve.aethelon.island;
+
+import com.bvhfve.aethelon.entity.AethelonEntity;
+import com.bvhfve.aethelon.network.IslandBreakPayload;
+import net.minecraft.block.BlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.EmptyBlockView;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Server side of block breaking on virtual islands
+ *
+ * Virtual island blocks are not in the world, so vanilla block breaking never reaches them.
+ * Clients report when they start and finish mining an island cell; the server checks that the
+ * player can reach the cell and has mined it long enough before the block is broken.
+ */
+public class IslandInteractionHandler {
+
+    // Same slack vanilla allows on block breaking progress
+    private static final float BREAK_TOLERANCE = 0.7f;
+
+    private record Mining(int entityId, BlockPos cell, long startTime) {
+    }
+
+    private static final Map<ServerPlayerEntity, Mining> MINING = new WeakHashMap<>();
+
+    /**
+     * Handle a break payload (called on the server thread)
+     */
+    public static void handleBreak(ServerPlayerEntity player, IslandBreakPayload payload) {
+        if (player.isSpectator() || !player.getAbilities().allowModifyWorld) return;
+
+        Entity entity = player.getServerWorld().getEntityById(payload.entityId());
+        if (!(entity instanceof AethelonEntity turtle) || turtle.getIslandManager() == null) return;
+        VirtualIsland island = turtle.getIslandManager().getVirtualIsland();
+        if (island == null) return;
+
+        BlockState state = island.getVolume().get(payload.cell());
+        if (state.isAir()) return;
+        BlockPos worldPos = payload.cell().add(island.getBlockOffset(turtle.getPos()));
+        if (!player.canInteractWithBlockAt(worldPos, 1.0)) return;
+
+        long now = player.getServerWorld().getTime();
+        if (!payload.finished()) {
+            MINING.put(player, new Mining(payload.entityId(), payload.cell().toImmutable(), now));
+            return;
+        }
+
+        Mining mining = MINING.remove(player);
+        float delta = player.isCreative() ? 1.0f : state.calcBlockBreakingDelta(player, EmptyBlockView.INSTANCE, payload.cell());
+        if (delta < 1.0f) {
+            if (mining == null || mining.entityId() != payload.entityId() || !mining.cell().equals(payload.cell())) return;
+            if ((now - mining.startTime() + 1) * delta < BREAK_TOLERANCE) return;
+        }
+        turtle.getIslandManager().breakVirtualBlock(player, payload.cell());
+    }
+}
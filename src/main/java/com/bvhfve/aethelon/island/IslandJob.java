@@ -0,0 +1,176 @@
+package com.bvhfve.aethelon.island;
+
+import com.bvhfve.aethelon.entity.AethelonEntity;
+import com.bvhfve.aethelon.structure.SectionBlockWriter;
+import com.bvhfve.aethelon.util.PlayerProximityService;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A unit of island world work executed by IslandWorkQueue
+ *
+ * Jobs are split into chunk sections; the queue runs one section at a time
+ * until the per-tick budget is used up, so no single tick pays for a whole island.
+ */
+public abstract class IslandJob {
+
+    /**
+     * Progress and completion callbacks (always invoked on the server thread)
+     */
+    public interface Listener {
+        default void onProgress(IslandJob job, int processed, int total) {}
+
+        default void onComplete(IslandJob job) {}
+
+        default void onCancelled(IslandJob job) {}
+    }
+
+    protected final AethelonEntity owner;
+    protected final BlockPos anchor;
+    private final List<Listener> listeners = new ArrayList<>();
+    private boolean cancelled = false;
+    private boolean waiting = false;
+    protected int processed = 0;
+
+    protected IslandJob(AethelonEntity owner, BlockPos anchor) {
+        this.owner = owner;
+        this.anchor = anchor.toImmutable();
+    }
+
+    /**
+     * Check if there is another section to run
+     */
+    public abstract boolean hasNextSection();
+
+    /**
+     * Check if the next section can run this tick (e.g. its chunk is loaded)
+     * Jobs that are not ready stay queued and are retried on later ticks
+     */
+    public boolean isNextSectionReady(ServerWorld world) {
+        return true;
+    }
+
+    /**
+     * Check if any remaining section lies in a chunk column (used to wake waiting jobs on chunk load)
+     */
+    public boolean touchesChunk(int chunkX, int chunkZ) {
+        return true;
+    }
+
+    /**
+     * Run the next section, returns the number of blocks processed
+     */
+    protected abstract int runNextSection(ServerWorld world, SectionBlockWriter writer);
+
+    /**
+     * Total number of blocks this job will process
+     */
+    public abstract int getTotal();
+
+    /**
+     * Called once after the last section has been written and flushed
+     */
+    protected void onFinished(ServerWorld world) {
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public AethelonEntity getOwner() {
+        return owner;
+    }
+
+    public BlockPos getAnchor() {
+        return anchor;
+    }
+
+    public int getProcessed() {
+        return processed;
+    }
+
+    /**
+     * Fraction of blocks processed (0.0 - 1.0)
+     */
+    public float getProgress() {
+        int total = getTotal();
+        return total > 0 ? Math.min(1.0f, (float) processed / total) : 1.0f;
+    }
+
+    /**
+     * Request cancellation; the queue drops the job before its next section
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Jobs waiting on unloaded chunks are skipped by the queue until one of their chunks loads
+     */
+    public boolean isWaiting() {
+        return waiting;
+    }
+
+    void setWaiting(boolean waiting) {
+        this.waiting = waiting;
+    }
+
+    /**
+     * Jobs whose turtle is gone (killed, discarded, changed dimension) are cancelled by the queue
+     */
+    public boolean isOwnerGone() {
+        return owner != null && owner.isRemoved() && !isOwnerUnloaded();
+    }
+
+    /**
+     * Jobs whose turtle was saved with its chunk leave the queue without being cancelled;
+     * the turtle saved the remaining work and queues it again when it loads
+     */
+    public boolean isOwnerUnloaded() {
+        return owner != null && owner.getRemovalReason() == Entity.RemovalReason.UNLOADED_TO_CHUNK;
+    }
+
+    /**
+     * Squared distance from the job to the nearest player (lower runs first)
+     */
+    public double getPriority(ServerWorld world) {
+        if (owner != null && !owner.isRemoved()) {
+            double distance = PlayerProximityService.get(owner).getDistance();
+            return distance != Double.MAX_VALUE ? distance * distance : Double.MAX_VALUE;
+        }
+        Vec3d pos = Vec3d.ofCenter(anchor);
+        PlayerEntity player = world.getClosestPlayer(pos.x, pos.y, pos.z, -1.0, false);
+        return player != null ? player.squaredDistanceTo(pos) : Double.MAX_VALUE;
+    }
+
+    // Queue entry points
+    final void runSection(ServerWorld world, SectionBlockWriter writer) {
+        processed += runNextSection(world, writer);
+        for (Listener listener : listeners) {
+            listener.onProgress(this, processed, getTotal());
+        }
+    }
+
+    final void finish(ServerWorld world) {
+        onFinished(world);
+        for (Listener listener : listeners) {
+            listener.onComplete(this);
+        }
+    }
+
+    final void notifyCancelled() {
+        for (Listener listener : listeners) {
+            listener.onCancelled(this);
+        }
+    }
+}
@@ -2,21 +2,38 @@ package com.bvhfve.aethelon.island;
 
 import com.bvhfve.aethelon.entity.AethelonEntity;
 import com.bvhfve.aethelon.config.AethelonConfig;
+import com.bvhfve.aethelon.network.ModNetworking;
 import com.bvhfve.aethelon.structure.DatapackStructureManager;
+import com.bvhfve.aethelon.structure.IslandBlockMover;
+import com.bvhfve.aethelon.structure.IslandTemplateLibrary;
+import com.bvhfve.aethelon.structure.SectionBlockWriter;
+import com.bvhfve.aethelon.util.PerformanceGovernor;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.entity.Entity;
+import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.registry.RegistryEntryLookup;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
-import net.minecraft.structure.StructurePlacementData;
 import net.minecraft.structure.StructureTemplate;
 import net.minecraft.structure.StructureTemplateManager;
+import net.minecraft.util.BlockMirror;
+import net.minecraft.util.BlockRotation;
+import net.minecraft.util.Clearable;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.hit.BlockHitResult;
+import net.minecraft.util.math.BlockBox;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Box;
 import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.shape.VoxelShape;
 import net.minecraft.world.World;
+import net.minecraft.world.WorldEvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,6 +49,10 @@ import java.util.*;
  * - Multiple island variants (small, medium, large)
  * - Island bounds detection for collision and interaction
  * - Entity preservation on islands
+ * - Virtual islands: while the turtle travels the island is held in a VirtualIsland
+ *   instead of real blocks, and only materializes again when the turtle goes idle
+ * - With virtual islands disabled the placed island is carried along as real blocks instead,
+ *   in whole-block steps through the section-batched IslandBlockMover
  */
 public class IslandManager {
     
@@ -41,7 +62,16 @@ public class IslandManager {
     private StructureTemplate islandStructure;
     private boolean hasIsland = false;
     private IslandType currentIslandType = IslandType.SMALL;
-    private Map<BlockPos, BlockState> islandBlocks = new HashMap<>();
+    private String islandStructureName = null; // Null for generated default islands
+    private BlockRotation islandRotation = BlockRotation.NONE;
+    private BlockMirror islandMirror = BlockMirror.NONE;
+    private IslandVolume islandVolume = null;
+    private VirtualIsland virtualIsland = null;
+    private IslandPlacementJob pendingPlacement = null;
+    private float placementProgress = 1.0f;
+    private boolean captureDeferred = false; // Capture refused (unloaded chunks or placement still running), retried
+    private NbtCompound savedPlacement = null; // Placement saved mid-way, queued again once the turtle ticks
+    private BlockPos carryAnchor = null; // Turtle block position the real-block island was last carried to
     private Map<BlockPos, NbtCompound> islandBlockEntities = new HashMap<>();
     private List<Entity> islandEntities = new ArrayList<>();
     private Box islandBounds = null;
@@ -179,16 +209,240 @@ public class IslandManager {
      * Check if a block position is part of the island
      */
     public boolean isIslandBlock(BlockPos worldPos) {
-        if (!hasIsland || islandBounds == null) return false;
-        return islandBounds.contains(worldPos.getX(), worldPos.getY(), worldPos.getZ()) && 
-               islandBlocks.containsKey(worldPos);
+        if (virtualIsland != null) return virtualIsland.hasBlock(worldPos, turtle.getPos());
+        if (!hasIsland || islandVolume == null) return false;
+        return islandVolume.hasBlock(worldPos);
     }
     
     /**
      * Get the block state at a world position on the island
      */
     public BlockState getIslandBlockState(BlockPos worldPos) {
-        return islandBlocks.getOrDefault(worldPos, Blocks.AIR.getDefaultState());
+        if (virtualIsland != null) return virtualIsland.getBlockState(worldPos, turtle.getPos());
+        return islandVolume != null ? islandVolume.get(worldPos) : Blocks.AIR.getDefaultState();
+    }
+    
+    /**
+     * Check if the island is currently virtual (not written into the world)
+     */
+    public boolean isVirtual() {
+        return virtualIsland != null;
+    }
+    
+    /**
+     * Get the virtual island, or null while the island is materialized
+     */
+    public VirtualIsland getVirtualIsland() {
+        return virtualIsland;
+    }
+    
+    /**
+     * Append collision shapes of the virtual island intersecting a world box
+     */
+    public void collectCollisionShapes(Box worldBox, List<VoxelShape> shapes) {
+        if (virtualIsland != null) {
+            virtualIsland.collectCollisionShapes(turtle.getPos(), worldBox, shapes);
+        }
+    }
+    
+    /**
+     * Raycast against the virtual island (null on miss or while materialized)
+     */
+    public BlockHitResult raycastIsland(Vec3d start, Vec3d end) {
+        return virtualIsland != null ? virtualIsland.raycast(start, end, turtle.getPos()) : null;
+    }
+    
+    /**
+     * Break one virtual island block for a player, dropping it like a normal block break
+     * Blocks with block entity data stay until the island materializes, so their contents are not lost
+     */
+    public boolean breakVirtualBlock(ServerPlayerEntity player, BlockPos cell) {
+        if (virtualIsland == null || !(turtle.getWorld() instanceof ServerWorld serverWorld)) return false;
+        if (virtualIsland.getBlockEntities().containsKey(cell)) return false;
+        
+        BlockState state = virtualIsland.removeBlock(cell);
+        if (state.isAir()) return false;
+        
+        BlockPos worldPos = cell.add(virtualIsland.getBlockOffset(turtle.getPos()));
+        if (!player.isCreative()) {
+            ItemStack tool = player.getMainHandStack();
+            if (player.canHarvest(state)) {
+                Block.dropStacks(state, serverWorld, worldPos, null, player, tool.copy());
+            }
+            tool.postMine(serverWorld, state, worldPos, player);
+        }
+        serverWorld.syncWorldEvent(WorldEvents.BLOCK_BROKEN, worldPos, Block.getRawIdFromState(state));
+        ModNetworking.sendIslandSync(turtle, virtualIsland);
+        return true;
+    }
+    
+    /**
+     * Client-side: apply a virtual island received from the server
+     */
+    public void setClientVirtualIsland(VirtualIsland island) {
+        if (!turtle.getWorld().isClient) return;
+        
+        this.virtualIsland = island;
+        if (island != null) {
+            VirtualIslandTracker.register(turtle);
+        } else {
+            VirtualIslandTracker.unregister(turtle);
+        }
+    }
+    
+    /**
+     * Turn the placed island into a virtual island
+     * Called when the turtle starts MOVING - the blocks are captured and cleared in one batched pass
+     */
+    public boolean dematerializeIsland(World world) {
+        if (!hasIsland || virtualIsland != null || islandVolume == null || !(world instanceof ServerWorld serverWorld)) {
+            return false;
+        }
+        if (pendingPlacement != null || savedPlacement != null) {
+            // Never capture a half-placed island - hold the turtle and retry once the placement has finished
+            captureDeferred = true;
+            return false;
+        }
+        if (AethelonConfig.INSTANCE != null && !AethelonConfig.INSTANCE.enable_virtual_islands) {
+            // The island travels as real blocks instead, see carryPlacedIsland
+            carryAnchor = turtle.getBlockPos();
+            return false;
+        }
+        if (PerformanceGovernor.shouldPauseIslandMoves()) {
+            // Capturing rewrites every island block - hold the turtle until the server has headroom again
+            captureDeferred = true;
+            return false;
+        }
+        
+        try {
+            long start = System.nanoTime();
+            SectionBlockWriter writer = new SectionBlockWriter(serverWorld);
+            
+            List<BlockPos> cells = new ArrayList<>(islandVolume.getBlockCount());
+            islandVolume.forEachBlock((pos, state) -> cells.add(pos.toImmutable()));
+            
+            // Blocks in unloaded chunks could be neither captured nor cleared - keep the island placed for now
+            for (BlockPos pos : cells) {
+                if (!writer.isChunkLoaded(pos)) {
+                    LOGGER.debug("Island capture deferred: chunk at {} is not loaded", pos);
+                    captureDeferred = true;
+                    return false;
+                }
+            }
+            
+            // Refresh stored states from the world: players may have changed the island while it was idle
+            islandBlockEntities.clear();
+            for (BlockPos pos : cells) {
+                BlockState current = writer.getBlockState(pos);
+                islandVolume.set(pos, current);
+                if (current.hasBlockEntity()) {
+                    BlockEntity blockEntity = serverWorld.getBlockEntity(pos);
+                    if (blockEntity != null) {
+                        islandBlockEntities.put(pos, blockEntity.createNbtWithIdentifyingData(serverWorld.getRegistryManager()));
+                        // Empty containers before removal so nothing is dropped
+                        Clearable.clear(blockEntity);
+                    }
+                }
+            }
+            
+            // Remove the real blocks, top-down so nothing is left unsupported mid-pass
+            for (int i = cells.size() - 1; i >= 0; i--) {
+                writer.setBlockState(cells.get(i), Blocks.AIR.getDefaultState());
+            }
+            int sections = writer.flush();
+            
+            virtualIsland = new VirtualIsland(islandVolume, islandBlockEntities, turtle.getPos());
+            islandVolume = null;
+            islandBlockEntities.clear();
+            islandBounds = virtualIsland.getWorldBounds(turtle.getPos());
+            captureDeferred = false;
+            
+            VirtualIslandTracker.register(turtle);
+            ModNetworking.sendIslandSync(turtle, virtualIsland);
+            
+            LOGGER.debug("Dematerialized island: {} blocks across {} sections in {} us",
+                       virtualIsland.getVolume().getBlockCount(), sections, (System.nanoTime() - start) / 1000L);
+            return true;
+            
+        } catch (Exception e) {
+            LOGGER.error("Failed to dematerialize island", e);
+            return false;
+        }
+    }
+    
+    /**
+     * Write the virtual island back into the world at the turtle's current position
+     * Called when the turtle enters IDLE and retried while it rests. The island is written in one piece
+     * or not at all: while any cell is in an unloaded chunk or blocked by solid terrain the island stays
+     * virtual (still solid, visible and breakable), so no block or block entity data is ever lost.
+     */
+    public boolean materializeIsland(World world) {
+        if (virtualIsland == null || !(world instanceof ServerWorld serverWorld)) {
+            return false;
+        }
+        if (PerformanceGovernor.shouldPauseIslandMoves()) {
+            // Stays virtual under load, the idle state retries the write-back
+            return false;
+        }
+        
+        try {
+            long start = System.nanoTime();
+            VirtualIsland island = virtualIsland;
+            BlockPos offset = island.getBlockOffset(turtle.getPos());
+            IslandVolume placed = island.getVolume().copyWithOrigin(island.getVolume().getOrigin().add(offset));
+            SectionBlockWriter writer = new SectionBlockWriter(serverWorld);
+            
+            List<BlockPos> cells = new ArrayList<>(placed.getBlockCount());
+            placed.forEachBlock((pos, state) -> cells.add(pos.toImmutable()));
+            
+            // Every cell has to be loaded and free before anything is written; terrain is never overwritten
+            for (BlockPos pos : cells) {
+                BlockState existing = writer.getBlockState(pos);
+                if (existing == null || !existing.isAir() && !existing.isReplaceable()) {
+                    LOGGER.debug("Island materialization postponed: {} at {}", existing == null ? "chunk not loaded" : existing, pos);
+                    return false;
+                }
+            }
+            
+            // Bottom-up placement
+            for (BlockPos pos : cells) {
+                writer.setBlockState(pos, placed.get(pos));
+            }
+            int sections = writer.flush();
+            
+            // Restore block entity data at the new position
+            Map<BlockPos, NbtCompound> blockEntityNbt = new HashMap<>();
+            island.getBlockEntities().forEach((pos, data) -> blockEntityNbt.put(pos.add(offset), data));
+            islandBlockEntities.clear();
+            for (Map.Entry<BlockPos, NbtCompound> entry : blockEntityNbt.entrySet()) {
+                BlockPos pos = entry.getKey();
+                BlockEntity blockEntity = serverWorld.getBlockEntity(pos);
+                if (blockEntity != null) {
+                    blockEntity.read(entry.getValue(), serverWorld.getRegistryManager());
+                    blockEntity.markDirty();
+                    BlockState state = serverWorld.getBlockState(pos);
+                    serverWorld.updateListeners(pos, state, state, Block.NOTIFY_LISTENERS);
+                    islandBlockEntities.put(pos, entry.getValue());
+                }
+            }
+            
+            islandVolume = placed;
+            virtualIsland = null;
+            if (islandBounds != null) {
+                islandBounds = island.getLocalBounds().offset(offset.getX(), offset.getY(), offset.getZ());
+            }
+            
+            VirtualIslandTracker.unregister(turtle);
+            ModNetworking.sendIslandSync(turtle, null);
+            
+            LOGGER.debug("Materialized island: {} blocks across {} sections in {} us",
+                       placed.getBlockCount(), sections, (System.nanoTime() - start) / 1000L);
+            return true;
+            
+        } catch (Exception e) {
+            LOGGER.error("Failed to materialize island", e);
+            return false;
+        }
     }
     
     /**
@@ -208,22 +462,23 @@ public class IslandManager {
                 return loadIslandStructureWithDatapackManager(serverWorld, type);
             }
             
-            // Fallback to original structure template system
-            StructureTemplateManager templateManager = serverWorld.getStructureTemplateManager();
+            // Fallback to original structure template system (cached, untransformed)
             Identifier structureId = Identifier.of("aethelon", "islands/" + type.structureName);
-            Optional<StructureTemplate> templateOpt = templateManager.getTemplate(structureId);
+            IslandTemplateLibrary.CachedTemplate cached = IslandTemplateLibrary.get(serverWorld.getStructureTemplateManager(), structureId);
             
-            if (templateOpt.isEmpty()) {
+            if (cached == null) {
                 LOGGER.warn("Structure not found: {}, creating default island", structureId);
                 return createDefaultIsland(world, type);
             }
             
-            StructureTemplate template = templateOpt.get();
-            this.islandStructure = template;
+            this.islandStructure = cached.template;
             this.currentIslandType = type;
+            this.islandStructureName = type.structureName;
+            this.islandRotation = BlockRotation.NONE;
+            this.islandMirror = BlockMirror.NONE;
             
             // Place the structure on the turtle's back
-            return placeIslandStructure(serverWorld, template, type);
+            return placeIslandStructure(serverWorld, cached, type);
             
         } catch (Exception e) {
             LOGGER.error("Failed to load island structure: {}", type.structureName, e);
@@ -288,7 +543,7 @@ public class IslandManager {
             
             // Spawn structure using datapack manager
             DatapackStructureManager.StructureSpawnResult result = DatapackStructureManager.spawnStructure(
-                world, type.structureName, placementPos
+                world, type.structureName, placementPos, turtle
             );
             
             if (result.success) {
@@ -296,6 +551,9 @@ public class IslandManager {
                 updateIslandDataFromDatapackResult(world, result, type);
                 hasIsland = true;
                 currentIslandType = type;
+                islandStructureName = result.definition.name;
+                islandRotation = result.rotation;
+                islandMirror = result.mirror;
                 
                 LOGGER.info("Successfully loaded island structure using datapack manager: {} at {}", 
                           type.structureName, result.position);
@@ -322,11 +580,21 @@ public class IslandManager {
         Vec3d center = Vec3d.ofCenter(result.position);
         islandBounds = Box.of(center, size.x, size.y, size.z);
         
-        // Capture blocks from the spawned structure
-        captureStructureBlocksFromDatapack(world, result);
-        
-        // Capture entities on the island
-        captureIslandEntities(world);
+        if (result.placementJob != null) {
+            // Blocks arrive over the next ticks - the volume fills in as sections are placed
+            BlockBox box = result.placementJob.getBounds();
+            islandVolume = IslandVolume.fromCorners(
+                new BlockPos(box.getMinX(), box.getMinY(), box.getMinZ()),
+                new BlockPos(box.getMaxX(), box.getMaxY(), box.getMaxZ())
+            );
+            trackPlacement(world, result.placementJob, type.structureName);
+        } else {
+            // Capture blocks from the spawned structure
+            captureStructureBlocksFromDatapack(world, result);
+            
+            // Capture entities on the island
+            captureIslandEntities(world);
+        }
     }
     
     /**
@@ -338,54 +606,52 @@ public class IslandManager {
         // Scan the bounding box for non-air blocks
         BlockPos min = BlockPos.ofFloored(islandBounds.minX, islandBounds.minY, islandBounds.minZ);
         BlockPos max = BlockPos.ofFloored(islandBounds.maxX, islandBounds.maxY, islandBounds.maxZ);
+        islandVolume = IslandVolume.fromCorners(min, max);
         
         for (BlockPos pos : BlockPos.iterate(min, max)) {
             BlockState state = world.getBlockState(pos);
             if (!state.isAir()) {
-                islandBlocks.put(pos.toImmutable(), state);
-                
-                // Capture block entity data if present - simplified for compatibility
-                if (world.getBlockEntity(pos) != null) {
-                    // Skip NBT capture for now due to API compatibility issues
-                    // TODO: Implement proper block entity NBT capture
-                }
+                islandVolume.set(pos, state);
             }
         }
         
-        LOGGER.debug("Captured {} blocks and {} block entities from datapack structure", 
-                   islandBlocks.size(), islandBlockEntities.size());
+        LOGGER.debug("Captured {} blocks from datapack structure ({})", 
+                   islandVolume.getBlockCount(), islandVolume.getMemoryReport());
     }
     
     /**
      * Place the loaded structure on the turtle's back
+     * Placement is split into per-section jobs on the island work queue
      */
-    private boolean placeIslandStructure(ServerWorld world, StructureTemplate template, IslandType type) {
+    private boolean placeIslandStructure(ServerWorld world, IslandTemplateLibrary.CachedTemplate cached, IslandType type) {
         try {
             // Calculate placement position (center of turtle's back)
             Vec3d shellCenter = turtle.getShellCenterPos();
             BlockPos placementPos = BlockPos.ofFloored(shellCenter.subtract(type.width / 2.0, 0, type.length / 2.0));
             
-            // Create placement data
-            StructurePlacementData placementData = new StructurePlacementData()
-                    .setIgnoreEntities(false);
+            // Untransformed variant, precomputed by the template library
+            IslandTemplateLibrary.TemplateVariant variant = cached.getVariant(world.getRandom(), BlockRotation.NONE, BlockMirror.NONE);
             
             // Clear existing island data
             clearIslandData();
             
-            // Capture blocks before placement for tracking
-            captureStructureBlocks(world, template, placementPos, placementData);
+            // Template footprint after placement
+            BlockBox box = variant.getWorldBounds(placementPos);
+            islandVolume = IslandVolume.fromCorners(
+                new BlockPos(box.getMinX(), box.getMinY(), box.getMinZ()),
+                new BlockPos(box.getMaxX(), box.getMaxY(), box.getMaxZ())
+            );
             
-            // Place the structure
-            template.place(world, placementPos, placementPos, placementData, world.getRandom(), 2);
+            // Queue the placement
+            IslandPlacementJob job = IslandPlacementJob.fromVariant(turtle, cached, variant, placementPos);
+            trackPlacement(world, job, type.structureName);
+            IslandWorkQueue.enqueue(world, job);
             
             // Update island bounds
             updateIslandBounds(placementPos, type);
             
-            // Capture entities on the island
-            captureIslandEntities(world);
-            
             hasIsland = true;
-            LOGGER.info("Successfully placed island structure: {} at {}", type.structureName, placementPos);
+            LOGGER.info("Queued island structure: {} at {} ({} blocks)", type.structureName, placementPos, job.getTotal());
             return true;
             
         } catch (Exception e) {
@@ -395,28 +661,122 @@ public class IslandManager {
     }
     
     /**
-     * Capture structure blocks for tracking
+     * Follow a queued placement: fill the island volume and report progress/completion
      */
-    private void captureStructureBlocks(ServerWorld world, StructureTemplate template, 
-                                       BlockPos placementPos, StructurePlacementData placementData) {
-        // Get template size
-        Vec3d size = Vec3d.of(template.getSize());
-        
-        // Iterate through template area and capture blocks
-        for (int x = 0; x < size.x; x++) {
-            for (int y = 0; y < size.y; y++) {
-                for (int z = 0; z < size.z; z++) {
-                    BlockPos relativePos = new BlockPos(x, y, z);
-                    BlockPos worldPos = placementPos.add(relativePos);
-                    
-                    // Get block info from template
-                    List<StructureTemplate.StructureBlockInfo> blocks = template.getInfosForBlock(relativePos, placementData, Blocks.AIR);
-                    
-                    // Simplified block capture for compatibility
-                    // TODO: Implement proper StructureBlockInfo access when API is stable
-                }
+    private void trackPlacement(ServerWorld world, IslandPlacementJob job, String islandName) {
+        job.setTargetVolume(islandVolume);
+        job.addListener(new IslandJob.Listener() {
+            @Override
+            public void onProgress(IslandJob progressJob, int processed, int total) {
+                placementProgress = progressJob.getProgress();
+            }
+            
+            @Override
+            public void onComplete(IslandJob completedJob) {
+                if (pendingPlacement != completedJob) return;
+                pendingPlacement = null;
+                placementProgress = 1.0f;
+                
+                // Capture entities on the island
+                captureIslandEntities(world);
+                LOGGER.info("Finished placing island {} ({} blocks)", islandName, completedJob.getTotal());
             }
+            
+            @Override
+            public void onCancelled(IslandJob cancelledJob) {
+                if (pendingPlacement != cancelledJob) return;
+                pendingPlacement = null;
+                LOGGER.warn("Placement of island {} cancelled at {}%", islandName, (int) (cancelledJob.getProgress() * 100));
+            }
+        });
+        
+        pendingPlacement = job;
+        placementProgress = 0.0f;
+    }
+    
+    /**
+     * Check if the last capture was refused (unloaded chunks, placement still running) and the island is still placed
+     * The turtle holds position until a retry succeeds, so it never swims away from its own blocks
+     */
+    public boolean isDematerializePending() {
+        return captureDeferred && hasIsland && virtualIsland == null && islandVolume != null;
+    }
+    
+    /**
+     * Clear the deferred capture and stop carrying a real-block island (the turtle stopped travelling)
+     */
+    public void cancelDeferredDematerialize() {
+        captureDeferred = false;
+        if (carryAnchor != null && turtle.getWorld() instanceof ServerWorld serverWorld) {
+            moveCarriedIsland(serverWorld); // Final step even under load, the anchor is dropped below
         }
+        carryAnchor = null;
+    }
+    
+    /**
+     * Move the placed island along with the turtle as real blocks (virtual islands disabled)
+     * Called every server tick; the island follows in whole-block steps, block entity data included,
+     * and waits in place while a chunk the move touches is unloaded or the server is overloaded
+     * (the next move catches up the whole displacement)
+     */
+    public void carryPlacedIsland(ServerWorld world) {
+        if (carryAnchor == null || PerformanceGovernor.shouldPauseIslandMoves()) return;
+        moveCarriedIsland(world);
+    }
+    
+    private void moveCarriedIsland(ServerWorld world) {
+        if (carryAnchor == null || islandVolume == null || virtualIsland != null || pendingPlacement != null) return;
+        
+        BlockPos anchor = turtle.getBlockPos();
+        if (anchor.equals(carryAnchor)) return;
+        
+        // Volume cells are world positions, so the move is a plain displacement from the origin
+        BlockPos delta = anchor.subtract(carryAnchor);
+        IslandBlockMover.MoveResult result = IslandBlockMover.moveIsland(world, islandVolume, BlockPos.ORIGIN, delta);
+        if (result.deferred) return;
+        
+        islandVolume = islandVolume.copyWithOrigin(islandVolume.getOrigin().add(delta));
+        if (islandBounds != null) {
+            islandBounds = islandBounds.offset(delta.getX(), delta.getY(), delta.getZ());
+        }
+        Map<BlockPos, NbtCompound> movedBlockEntities = new HashMap<>();
+        islandBlockEntities.forEach((pos, data) -> movedBlockEntities.put(pos.add(delta), data));
+        islandBlockEntities = movedBlockEntities;
+        carryAnchor = anchor;
+    }
+    
+    /**
+     * Queue the rest of a placement that was saved when the turtle unloaded mid-way
+     */
+    public void resumeSavedPlacement(ServerWorld world) {
+        if (savedPlacement == null) return;
+        NbtCompound saved = savedPlacement;
+        savedPlacement = null;
+        if (!hasIsland || islandVolume == null || pendingPlacement != null) return;
+        
+        try {
+            IslandPlacementJob job = IslandPlacementJob.readNbt(turtle, saved, world.createCommandRegistryWrapper(RegistryKeys.BLOCK));
+            if (job.getTotal() == 0) return;
+            trackPlacement(world, job, currentIslandType.name());
+            IslandWorkQueue.enqueue(world, job);
+            LOGGER.debug("Resumed island placement for turtle at {}: {} blocks left", turtle.getBlockPos(), job.getTotal());
+        } catch (IllegalArgumentException e) {
+            LOGGER.error("Discarding corrupt pending placement for turtle at {}", turtle.getBlockPos(), e);
+        }
+    }
+    
+    /**
+     * Check if the island is still being placed
+     */
+    public boolean isPlacementPending() {
+        return pendingPlacement != null;
+    }
+    
+    /**
+     * Get island placement progress (0.0 - 1.0, 1.0 when nothing is pending)
+     */
+    public float getPlacementProgress() {
+        return pendingPlacement != null ? placementProgress : 1.0f;
     }
     
     /**
@@ -444,6 +804,7 @@ public class IslandManager {
     
     /**
      * Create a default island when NBT structure is not available
+     * Blocks are generated up front and placed through the island work queue
      */
     private boolean createDefaultIsland(World world, IslandType type) {
         LOGGER.info("Creating default {} island", type.name());
@@ -453,6 +814,17 @@ public class IslandManager {
         
         clearIslandData();
         
+        // Allocate a volume that covers the yaw-rotated disc, the dirt layers and the tree canopy
+        BlockPos centerBlock = BlockPos.ofFloored(center);
+        int horizontalReach = (int) Math.ceil(radius * Math.sqrt(2)) + 3;
+        islandVolume = IslandVolume.fromCorners(
+            centerBlock.add(-horizontalReach, -4, -horizontalReach),
+            centerBlock.add(horizontalReach, 8, horizontalReach)
+        );
+        
+        // Generated blocks in placement order
+        Map<BlockPos, BlockState> blocks = new LinkedHashMap<>();
+        
         // Create a circular island platform
         for (int x = -radius; x <= radius; x++) {
             for (int z = -radius; z <= radius; z++) {
@@ -463,36 +835,44 @@ public class IslandManager {
                     
                     // Create layered terrain
                     BlockState topBlock = distance < radius * 0.8 ? Blocks.GRASS_BLOCK.getDefaultState() : Blocks.SAND.getDefaultState();
-                    world.setBlockState(worldPos, topBlock);
-                    islandBlocks.put(worldPos, topBlock);
+                    blocks.put(worldPos, topBlock);
                     
                     // Add dirt layer underneath
                     for (int y = -1; y >= -3; y--) {
-                        BlockPos underPos = worldPos.add(0, y, 0);
-                        BlockState underBlock = Blocks.DIRT.getDefaultState();
-                        world.setBlockState(underPos, underBlock);
-                        islandBlocks.put(underPos, underBlock);
+                        blocks.put(worldPos.add(0, y, 0), Blocks.DIRT.getDefaultState());
                     }
                 }
             }
         }
         
         // Add some vegetation based on island type
-        addDefaultVegetation(world, type, center, radius);
+        addDefaultVegetation(world, type, center, radius, blocks);
         
         // Update bounds
         BlockPos centerPos = BlockPos.ofFloored(center);
         updateIslandBounds(centerPos.add(-radius, -3, -radius), type);
         
+        if (world instanceof ServerWorld serverWorld) {
+            IslandPlacementJob job = IslandPlacementJob.fromStates(turtle, centerBlock, blocks);
+            trackPlacement(serverWorld, job, type.name());
+            IslandWorkQueue.enqueue(serverWorld, job);
+        } else {
+            blocks.forEach(world::setBlockState);
+            blocks.forEach(islandVolume::set);
+        }
+        
         hasIsland = true;
         currentIslandType = type;
+        islandStructureName = null;
+        islandRotation = BlockRotation.NONE;
+        islandMirror = BlockMirror.NONE;
         return true;
     }
     
     /**
      * Add default vegetation to generated islands
      */
-    private void addDefaultVegetation(World world, IslandType type, Vec3d center, int radius) {
+    private void addDefaultVegetation(World world, IslandType type, Vec3d center, int radius, Map<BlockPos, BlockState> blocks) {
         net.minecraft.util.math.random.Random random = world.getRandom();
         
         // Add a central tree for medium and large islands
@@ -502,10 +882,7 @@ public class IslandManager {
             
             // Tree trunk
             for (int y = 0; y < treeHeight; y++) {
-                BlockPos logPos = treeBase.add(0, y, 0);
-                BlockState logState = Blocks.OAK_LOG.getDefaultState();
-                world.setBlockState(logPos, logState);
-                islandBlocks.put(logPos, logState);
+                blocks.put(treeBase.add(0, y, 0), Blocks.OAK_LOG.getDefaultState());
             }
             
             // Tree leaves
@@ -513,10 +890,7 @@ public class IslandManager {
                 for (int z = -2; z <= 2; z++) {
                     for (int y = treeHeight - 1; y <= treeHeight + 1; y++) {
                         if (Math.abs(x) + Math.abs(z) <= 2 && !(x == 0 && z == 0 && y < treeHeight + 1)) {
-                            BlockPos leafPos = treeBase.add(x, y, z);
-                            BlockState leafState = Blocks.OAK_LEAVES.getDefaultState();
-                            world.setBlockState(leafPos, leafState);
-                            islandBlocks.put(leafPos, leafState);
+                            blocks.put(treeBase.add(x, y, z), Blocks.OAK_LEAVES.getDefaultState());
                         }
                     }
                 }
@@ -530,15 +904,15 @@ public class IslandManager {
             
             if (x * x + z * z < radius * radius * 0.6) {
                 BlockPos grassPos = getWorldBlockPos(new Vec3d(x, 1, z));
-                if (world.getBlockState(grassPos).isAir() && 
-                    world.getBlockState(grassPos.down()).isOf(Blocks.GRASS_BLOCK)) {
+                // Check against the generated island, the world does not contain it yet
+                if (!blocks.containsKey(grassPos) && world.getBlockState(grassPos).isAir() && 
+                    blocks.getOrDefault(grassPos.down(), Blocks.AIR.getDefaultState()).isOf(Blocks.GRASS_BLOCK)) {
                     
                     BlockState decoration = random.nextBoolean() ? 
                         Blocks.SHORT_GRASS.getDefaultState() : 
                         Blocks.DANDELION.getDefaultState();
                     
-                    world.setBlockState(grassPos, decoration);
-                    islandBlocks.put(grassPos, decoration);
+                    blocks.put(grassPos, decoration);
                 }
             }
         }
@@ -548,7 +922,18 @@ public class IslandManager {
      * Clear all island data
      */
     private void clearIslandData() {
-        islandBlocks.clear();
+        if (pendingPlacement != null) {
+            pendingPlacement.cancel();
+            pendingPlacement = null;
+        }
+        islandVolume = null;
+        if (virtualIsland != null) {
+            virtualIsland = null;
+            VirtualIslandTracker.unregister(turtle);
+            if (!turtle.getWorld().isClient) {
+                ModNetworking.sendIslandSync(turtle, null);
+            }
+        }
         islandBlockEntities.clear();
         islandEntities.clear();
         islandBounds = null;
@@ -556,21 +941,27 @@ public class IslandManager {
     
     /**
      * Remove the island from the turtle's back
+     * Blocks are cleared incrementally by IslandWorkQueue; returns the queued removal job,
+     * or null if there were no world blocks to remove (e.g. the island was virtual)
      */
-    public void removeIsland(World world) {
-        if (!hasIsland || world.isClient) return;
+    public IslandJob removeIsland(World world) {
+        if (!hasIsland || world.isClient) return null;
         
         LOGGER.info("Removing island from turtle");
         
-        // Remove all island blocks
-        for (BlockPos pos : islandBlocks.keySet()) {
-            world.setBlockState(pos, Blocks.AIR.getDefaultState());
+        // Queue removal of all island blocks (a virtual island has none in the world)
+        IslandJob removalJob = null;
+        if (virtualIsland == null && islandVolume != null && !islandVolume.isEmpty() && world instanceof ServerWorld serverWorld) {
+            removalJob = new IslandRemovalJob(turtle.getBlockPos(), islandVolume);
+            IslandWorkQueue.enqueue(serverWorld, removalJob);
         }
         
-        // Clear data
+        // Clear data - the removal job keeps its own copy of the cells
         clearIslandData();
         hasIsland = false;
         islandStructure = null;
+        islandStructureName = null;
+        return removalJob;
     }
     
     /**
@@ -580,20 +971,25 @@ public class IslandManager {
     public void updateIslandPosition(World world) {
         if (!hasIsland || world.isClient) return;
         
-        // TODO Phase 5: Implement dynamic island movement
-        // For now, island moves with turtle automatically since we calculate
-        // world positions from turtle-relative positions
+        // Virtual islands move with a single transform update
+        if (virtualIsland != null) {
+            islandBounds = virtualIsland.getWorldBounds(turtle.getPos());
+        }
         
-        // Update entity positions to follow turtle
         updateIslandEntities();
     }
     
     /**
-     * Update entities on the island to move with the turtle
+     * Keep the island's entity list in step with the turtle's riders
+     * The riders themselves are moved by the turtle's KinematicPlatform
      */
     private void updateIslandEntities() {
-        // TODO Phase 5: Implement entity movement with island
-        // This will be part of the dynamic island movement system
+        islandEntities.removeIf(entity -> entity.isRemoved() || !entity.isAlive());
+        for (Entity rider : turtle.getPlatform().getRiders()) {
+            if (!islandEntities.contains(rider)) {
+                islandEntities.add(rider);
+            }
+        }
     }
     
     /**
@@ -644,7 +1040,29 @@ public class IslandManager {
      * Get all island block positions
      */
     public Set<BlockPos> getIslandBlockPositions() {
-        return new HashSet<>(islandBlocks.keySet());
+        if (virtualIsland != null) {
+            // Report where the blocks would materialize right now
+            BlockPos offset = virtualIsland.getBlockOffset(turtle.getPos());
+            Set<BlockPos> positions = new HashSet<>();
+            virtualIsland.getVolume().forEachBlock((pos, state) -> positions.add(pos.add(offset)));
+            return positions;
+        }
+        return islandVolume != null ? islandVolume.getBlockPositions() : new HashSet<>();
+    }
+    
+    /**
+     * Get the packed block volume backing this island (null when no island or while virtual)
+     */
+    public IslandVolume getIslandVolume() {
+        return islandVolume;
+    }
+    
+    /**
+     * Get a memory usage summary for the island block storage
+     */
+    public String getIslandMemoryReport() {
+        if (virtualIsland != null) return "Virtual " + virtualIsland.getVolume().getMemoryReport();
+        return islandVolume != null ? islandVolume.getMemoryReport() : "No island volume";
     }
     
     /**
@@ -654,6 +1072,92 @@ public class IslandManager {
         return new ArrayList<>(islandEntities);
     }
     
+    /**
+     * Save island state for the turtle's NBT
+     * Materialized islands store their volume only - their blocks and block entities are saved
+     * with the world's chunks. Virtual islands are stored completely, they exist nowhere else.
+     * A placement still in progress is saved as far as it got, together with the blocks it has left.
+     */
+    public NbtCompound writeNbt() {
+        NbtCompound nbt = new NbtCompound();
+        nbt.putBoolean("HasIsland", hasIsland);
+        if (!hasIsland) return nbt;
+        
+        nbt.putString("Type", currentIslandType.name());
+        if (islandStructureName != null) {
+            nbt.putString("Structure", islandStructureName);
+        }
+        nbt.putString("Rotation", islandRotation.name());
+        nbt.putString("Mirror", islandMirror.name());
+        
+        if (virtualIsland != null) {
+            nbt.put("Virtual", virtualIsland.writeNbt());
+        } else if (islandVolume != null) {
+            nbt.put("Volume", islandVolume.writeNbt());
+            if (carryAnchor != null) {
+                nbt.putLong("CarryAnchor", carryAnchor.asLong());
+            }
+            if (pendingPlacement != null && !pendingPlacement.isCancelled()) {
+                nbt.put("PendingPlacement", pendingPlacement.writeNbt());
+            } else if (savedPlacement != null) {
+                nbt.put("PendingPlacement", savedPlacement);
+            }
+        }
+        return nbt;
+    }
+    
+    /**
+     * Restore island state saved with writeNbt (the turtle position is already loaded)
+     * Nothing is placed: the island's blocks are either still in the world or virtual
+     */
+    public void readNbt(NbtCompound nbt) {
+        hasIsland = nbt.getBoolean("HasIsland");
+        if (!hasIsland) return;
+        
+        currentIslandType = parseEnum(IslandType.class, nbt.getString("Type"), IslandType.SMALL);
+        islandStructureName = nbt.contains("Structure", NbtElement.STRING_TYPE) ? nbt.getString("Structure") : null;
+        islandRotation = parseEnum(BlockRotation.class, nbt.getString("Rotation"), BlockRotation.NONE);
+        islandMirror = parseEnum(BlockMirror.class, nbt.getString("Mirror"), BlockMirror.NONE);
+        
+        try {
+            RegistryEntryLookup<Block> blockLookup = turtle.getWorld().createCommandRegistryWrapper(RegistryKeys.BLOCK);
+            if (nbt.contains("Virtual", NbtElement.COMPOUND_TYPE)) {
+                virtualIsland = VirtualIsland.readNbt(nbt.getCompound("Virtual"), blockLookup);
+                islandBounds = virtualIsland.getWorldBounds(turtle.getPos());
+            } else if (nbt.contains("Volume", NbtElement.COMPOUND_TYPE)) {
+                islandVolume = IslandVolume.readNbt(nbt.getCompound("Volume"), blockLookup);
+                BlockPos origin = islandVolume.getOrigin();
+                islandBounds = new Box(origin.getX(), origin.getY(), origin.getZ(),
+                        origin.getX() + islandVolume.getSizeX(), origin.getY() + islandVolume.getSizeY(), origin.getZ() + islandVolume.getSizeZ());
+                savedPlacement = nbt.contains("PendingPlacement", NbtElement.COMPOUND_TYPE) ? nbt.getCompound("PendingPlacement") : null;
+                carryAnchor = nbt.contains("CarryAnchor", NbtElement.LONG_TYPE) ? BlockPos.fromLong(nbt.getLong("CarryAnchor")) : null;
+            }
+            
+            LOGGER.debug("Restored {} island for turtle at {} ({})", currentIslandType, turtle.getBlockPos(), getIslandMemoryReport());
+        } catch (IllegalArgumentException e) {
+            LOGGER.error("Discarding corrupt island data for turtle at {}", turtle.getBlockPos(), e);
+            islandVolume = null;
+            virtualIsland = null;
+            islandBounds = null;
+            hasIsland = false;
+        }
+    }
+    
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String name, E fallback) {
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+    
+    /**
+     * Get the name of the structure the island was placed from (null for generated islands)
+     */
+    public String getIslandStructureName() {
+        return islandStructureName;
+    }
+    
     /**
      * Check if a position is on the island
      * Fixed for 1.21.4 - Proper position checking implementation
@@ -0,0 +1,328 @@
+package com.bvhfve.aethelon.island;
+
+import com.bvhfve.aethelon.entity.AethelonEntity;
+import com.bvhfve.aethelon.mixin.StructureTemplateAccessor;
+import com.bvhfve.aethelon.structure.IslandTemplateLibrary;
+import com.bvhfve.aethelon.structure.SectionBlockWriter;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtHelper;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.registry.RegistryEntryLookup;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.structure.StructurePlacementData;
+import net.minecraft.structure.StructureTemplate;
+import net.minecraft.util.math.BlockBox;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Incremental island placement, one chunk section per step
+ *
+ * Sections are placed bottom-up so supporting blocks land before what sits on them.
+ * Placed states are mirrored into an optional target IslandVolume, so the island
+ * manager's view of the island fills in as the job progresses.
+ * Sections in unloaded chunks wait until the chunk is loaded again; nothing is written through World.
+ * A job whose turtle unloads is saved with the turtle (writeNbt) and re-queued when it loads again.
+ */
+public class IslandPlacementJob extends IslandJob {
+
+    /**
+     * A single block to place, with optional block entity data
+     */
+    public static class PlacementBlock {
+        public final BlockPos pos;
+        public final BlockState state;
+        public final NbtCompound blockEntityNbt;
+
+        public PlacementBlock(BlockPos pos, BlockState state, NbtCompound blockEntityNbt) {
+            this.pos = pos.toImmutable();
+            this.state = state;
+            this.blockEntityNbt = blockEntityNbt;
+        }
+    }
+
+    private final List<List<PlacementBlock>> sections = new ArrayList<>();
+    private final LongArrayList sectionKeys = new LongArrayList();
+    private final BlockBox bounds;
+    private final int total;
+    private int nextSection = 0;
+    private IslandVolume targetVolume = null;
+    private Consumer<ServerWorld> finisher = null;
+    private boolean preserveTerrain = false;
+
+    public IslandPlacementJob(AethelonEntity owner, BlockPos anchor, Collection<PlacementBlock> blocks) {
+        super(owner, anchor);
+
+        // Group by chunk section
+        Long2ObjectOpenHashMap<List<PlacementBlock>> bySection = new Long2ObjectOpenHashMap<>();
+        List<BlockPos> positions = new ArrayList<>(blocks.size());
+        for (PlacementBlock block : blocks) {
+            bySection.computeIfAbsent(ChunkSectionPos.toLong(block.pos), key -> new ArrayList<>()).add(block);
+            positions.add(block.pos);
+        }
+
+        // Bottom-up section order
+        LongArrayList keys = new LongArrayList(bySection.keySet());
+        keys.sort((a, b) -> {
+            int byY = Integer.compare(ChunkSectionPos.unpackY(a), ChunkSectionPos.unpackY(b));
+            if (byY != 0) return byY;
+            int byX = Integer.compare(ChunkSectionPos.unpackX(a), ChunkSectionPos.unpackX(b));
+            return byX != 0 ? byX : Integer.compare(ChunkSectionPos.unpackZ(a), ChunkSectionPos.unpackZ(b));
+        });
+        for (long key : keys) {
+            sections.add(bySection.get(key));
+            sectionKeys.add(key);
+        }
+
+        this.total = blocks.size();
+        this.bounds = BlockBox.encompassPositions(positions).orElse(new BlockBox(anchor));
+    }
+
+    /**
+     * Build a job from plain block states (generated islands)
+     */
+    public static IslandPlacementJob fromStates(AethelonEntity owner, BlockPos anchor, Map<BlockPos, BlockState> states) {
+        List<PlacementBlock> blocks = new ArrayList<>(states.size());
+        for (Map.Entry<BlockPos, BlockState> entry : states.entrySet()) {
+            blocks.add(new PlacementBlock(entry.getKey(), entry.getValue(), null));
+        }
+        return new IslandPlacementJob(owner, anchor, blocks);
+    }
+
+    /**
+     * Build a job from a structure template, applying processors, rotation and mirroring
+     * exactly like StructureTemplate.place would; template entities are spawned when the job finishes
+     */
+    public static IslandPlacementJob fromTemplate(ServerWorld world, AethelonEntity owner, StructureTemplate template,
+                                                  BlockPos pos, StructurePlacementData placementData) {
+        StructureTemplateAccessor accessor = (StructureTemplateAccessor) template;
+        List<StructureTemplate.StructureBlockInfo> infos = placementData
+                .getRandomBlockInfos(accessor.aethelon$getBlockInfoLists(), pos)
+                .getAll();
+        List<StructureTemplate.StructureBlockInfo> processed = StructureTemplate.process(world, pos, pos, placementData, infos);
+
+        List<PlacementBlock> blocks = new ArrayList<>(processed.size());
+        for (StructureTemplate.StructureBlockInfo info : processed) {
+            BlockState state = info.state().mirror(placementData.getMirror()).rotate(placementData.getRotation());
+            blocks.add(new PlacementBlock(info.pos(), state, info.nbt()));
+        }
+
+        IslandPlacementJob job = new IslandPlacementJob(owner, pos, blocks);
+        if (!placementData.shouldIgnoreEntities()) {
+            job.finisher = serverWorld -> accessor.aethelon$invokeSpawnEntities(serverWorld, pos,
+                    placementData.getMirror(), placementData.getRotation(), placementData.getPosition(),
+                    placementData.getBoundingBox(), placementData.shouldInitializeMobs());
+        }
+        return job;
+    }
+
+    /**
+     * Build a job from a cached, pre-transformed template variant
+     * Equivalent to fromTemplate with the variant's rotation and mirror and no processors
+     */
+    public static IslandPlacementJob fromVariant(AethelonEntity owner, IslandTemplateLibrary.CachedTemplate cached,
+                                                 IslandTemplateLibrary.TemplateVariant variant, BlockPos pos) {
+        List<PlacementBlock> blocks = new ArrayList<>(variant.size());
+        for (int i = 0; i < variant.size(); i++) {
+            blocks.add(new PlacementBlock(pos.add(variant.getOffset(i)), variant.getState(i), variant.getBlockEntityNbt(i)));
+        }
+
+        IslandPlacementJob job = new IslandPlacementJob(owner, pos, blocks);
+        StructureTemplateAccessor accessor = (StructureTemplateAccessor) cached.template;
+        job.finisher = serverWorld -> accessor.aethelon$invokeSpawnEntities(serverWorld, pos,
+                variant.mirror, variant.rotation, BlockPos.ORIGIN, null, true);
+        return job;
+    }
+
+    /**
+     * Save the blocks that are still to be placed
+     * The template entity spawn is not saved: a resumed placement only places blocks
+     */
+    public NbtCompound writeNbt() {
+        NbtCompound nbt = new NbtCompound();
+        NbtList paletteNbt = new NbtList();
+        Map<BlockState, Integer> palette = new HashMap<>();
+        NbtList blocksNbt = new NbtList();
+        for (int i = nextSection; i < sections.size(); i++) {
+            List<PlacementBlock> section = sections.get(i);
+            if (section == null) continue;
+            for (PlacementBlock block : section) {
+                NbtCompound blockNbt = new NbtCompound();
+                blockNbt.putLong("Pos", block.pos.asLong());
+                blockNbt.putInt("State", palette.computeIfAbsent(block.state, state -> {
+                    paletteNbt.add(NbtHelper.fromBlockState(state));
+                    return paletteNbt.size() - 1;
+                }));
+                if (block.blockEntityNbt != null) {
+                    blockNbt.put("Data", block.blockEntityNbt.copy());
+                }
+                blocksNbt.add(blockNbt);
+            }
+        }
+        nbt.putLong("Anchor", anchor.asLong());
+        nbt.put("Palette", paletteNbt);
+        nbt.put("Blocks", blocksNbt);
+        nbt.putBoolean("PreserveTerrain", preserveTerrain);
+        return nbt;
+    }
+
+    /**
+     * Rebuild a saved placement for a reloaded turtle
+     */
+    public static IslandPlacementJob readNbt(AethelonEntity owner, NbtCompound nbt, RegistryEntryLookup<Block> blockLookup) {
+        NbtList paletteNbt = nbt.getList("Palette", NbtElement.COMPOUND_TYPE);
+        List<BlockState> palette = new ArrayList<>(paletteNbt.size());
+        for (int i = 0; i < paletteNbt.size(); i++) {
+            palette.add(NbtHelper.toBlockState(blockLookup, paletteNbt.getCompound(i)));
+        }
+
+        NbtList blocksNbt = nbt.getList("Blocks", NbtElement.COMPOUND_TYPE);
+        List<PlacementBlock> blocks = new ArrayList<>(blocksNbt.size());
+        for (int i = 0; i < blocksNbt.size(); i++) {
+            NbtCompound blockNbt = blocksNbt.getCompound(i);
+            int stateIndex = blockNbt.getInt("State");
+            if (stateIndex < 0 || stateIndex >= palette.size()) {
+                throw new IllegalArgumentException("Placement block state " + stateIndex + " outside palette of " + palette.size());
+            }
+            NbtCompound data = blockNbt.contains("Data", NbtElement.COMPOUND_TYPE) ? blockNbt.getCompound("Data") : null;
+            blocks.add(new PlacementBlock(BlockPos.fromLong(blockNbt.getLong("Pos")), palette.get(stateIndex), data));
+        }
+
+        IslandPlacementJob job = new IslandPlacementJob(owner, BlockPos.fromLong(nbt.getLong("Anchor")), blocks);
+        job.preserveTerrain = nbt.getBoolean("PreserveTerrain");
+        return job;
+    }
+
+    /**
+     * Mirror placed states into an island volume
+     */
+    public void setTargetVolume(IslandVolume targetVolume) {
+        this.targetVolume = targetVolume;
+    }
+
+    /**
+     * Drop blocks whose cell holds solid terrain instead of overwriting it (the target volume cell is cleared)
+     */
+    public void setPreserveTerrain(boolean preserveTerrain) {
+        this.preserveTerrain = preserveTerrain;
+    }
+    
+    /**
+     * Inclusive bounds of every block in this job
+     */
+    public BlockBox getBounds() {
+        return bounds;
+    }
+
+    @Override
+    public int getTotal() {
+        return total;
+    }
+
+    @Override
+    public boolean hasNextSection() {
+        return nextSection < sections.size();
+    }
+
+    /**
+     * Pick the next section whose chunk is loaded, keeping bottom-up order where possible
+     * Returns false while every remaining section is in an unloaded chunk
+     */
+    @Override
+    public boolean isNextSectionReady(ServerWorld world) {
+        for (int i = nextSection; i < sections.size(); i++) {
+            long key = sectionKeys.getLong(i);
+            if (world.getChunkManager().isChunkLoaded(ChunkSectionPos.unpackX(key), ChunkSectionPos.unpackZ(key))) {
+                if (i != nextSection) {
+                    Collections.swap(sections, i, nextSection);
+                    sectionKeys.set(i, sectionKeys.set(nextSection, key));
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean touchesChunk(int chunkX, int chunkZ) {
+        for (int i = nextSection; i < sectionKeys.size(); i++) {
+            long key = sectionKeys.getLong(i);
+            if (ChunkSectionPos.unpackX(key) == chunkX && ChunkSectionPos.unpackZ(key) == chunkZ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected int runNextSection(ServerWorld world, SectionBlockWriter writer) {
+        List<PlacementBlock> section = sections.get(nextSection);
+        long sectionKey = sectionKeys.getLong(nextSection);
+        sections.set(nextSection, null); // Release as we go
+        nextSection++;
+
+        List<PlacementBlock> unwritten = null;
+        int written = 0;
+        for (PlacementBlock block : section) {
+            if (preserveTerrain) {
+                BlockState existing = writer.getBlockState(block.pos);
+                if (existing != null && !existing.isAir() && !existing.isReplaceable()) {
+                    if (targetVolume != null) {
+                        targetVolume.set(block.pos, Blocks.AIR.getDefaultState());
+                    }
+                    written++;
+                    continue;
+                }
+            }
+            if (!writer.setBlockState(block.pos, block.state)) {
+                // Chunk not loaded - keep the block pending
+                if (unwritten == null) unwritten = new ArrayList<>();
+                unwritten.add(block);
+                continue;
+            }
+            written++;
+
+            if (block.blockEntityNbt != null) {
+                BlockEntity blockEntity = world.getBlockEntity(block.pos);
+                if (blockEntity != null) {
+                    blockEntity.read(block.blockEntityNbt, world.getRegistryManager());
+                    blockEntity.markDirty();
+                    world.updateListeners(block.pos, block.state, block.state, Block.NOTIFY_LISTENERS);
+                }
+            }
+
+            if (targetVolume != null && !block.state.isAir()) {
+                targetVolume.set(block.pos, block.state);
+            }
+        }
+
+        // Re-queue what could not be written; it runs again once its chunk is loaded
+        if (unwritten != null) {
+            sections.add(unwritten);
+            sectionKeys.add(sectionKey);
+        }
+        return written;
+    }
+
+    @Override
+    protected void onFinished(ServerWorld world) {
+        if (finisher != null) {
+            finisher.accept(world);
+        }
+    }
+}
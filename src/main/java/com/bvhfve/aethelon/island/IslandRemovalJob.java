@@ -0,0 +1,205 @@
+package com.bvhfve.aethelon.island;
+
+import com.bvhfve.aethelon.structure.SectionBlockWriter;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.registry.tag.BiomeTags;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Incremental island removal, one chunk section per step
+ *
+ * - Sections are cleared top-down, and blocks inside a section from the top down
+ * - Writes go through SectionBlockWriter, so no neighbour or observer updates cascade
+ * - Cells below sea level in ocean biomes are refilled with water instead of air
+ * - Sections in unloaded chunks are skipped and resumed once the chunk is loaded again
+ *
+ * The job keeps its own copy of the cell positions, so the island data can be
+ * discarded as soon as the job is queued. Cells still waiting are saved with the world
+ * (IslandWorkQueue.PendingRemovals) so a restart does not leave the island behind.
+ */
+public class IslandRemovalJob extends IslandJob {
+
+    private static final BlockState AIR = Blocks.AIR.getDefaultState();
+    private static final BlockState WATER = Blocks.WATER.getDefaultState();
+
+    private final List<Long> sectionKeys = new ArrayList<>();
+    private final Long2ObjectOpenHashMap<LongArrayList> cellsBySection = new Long2ObjectOpenHashMap<>();
+    private final int total;
+    private int nextSection = 0;
+    private long queuedTime = -1L;
+
+    /**
+     * Create a removal job for every block in a world-space island volume
+     */
+    public IslandRemovalJob(BlockPos anchor, IslandVolume worldVolume) {
+        super(null, anchor);
+
+        worldVolume.forEachBlock((pos, state) -> cellsBySection
+                .computeIfAbsent(ChunkSectionPos.toLong(pos), key -> new LongArrayList())
+                .add(pos.asLong()));
+
+        // Top-down: highest sections first, highest blocks first within a section
+        for (Long2ObjectOpenHashMap.Entry<LongArrayList> entry : cellsBySection.long2ObjectEntrySet()) {
+            LongArrayList cells = entry.getValue();
+            cells.sort((a, b) -> Integer.compare(BlockPos.unpackLongY(b), BlockPos.unpackLongY(a)));
+            sectionKeys.add(entry.getLongKey());
+        }
+        sectionKeys.sort(Collections.reverseOrder((a, b) -> Integer.compare(ChunkSectionPos.unpackY(a), ChunkSectionPos.unpackY(b))));
+
+        this.total = worldVolume.getBlockCount();
+    }
+
+    private IslandRemovalJob(BlockPos anchor, int total) {
+        super(null, anchor);
+        this.total = total;
+    }
+
+    /**
+     * Save the cells that are still to be cleared
+     */
+    public NbtCompound writeNbt() {
+        NbtCompound nbt = new NbtCompound();
+        NbtList sectionsNbt = new NbtList();
+        for (int i = nextSection; i < sectionKeys.size(); i++) {
+            LongArrayList cells = cellsBySection.get((long) sectionKeys.get(i));
+            if (cells == null) continue;
+            NbtCompound sectionNbt = new NbtCompound();
+            sectionNbt.putLong("Section", sectionKeys.get(i));
+            sectionNbt.putLongArray("Cells", cells.toLongArray());
+            sectionsNbt.add(sectionNbt);
+        }
+        nbt.putLong("Anchor", anchor.asLong());
+        nbt.putInt("Total", total);
+        nbt.putInt("Processed", processed);
+        nbt.putLong("QueuedTime", queuedTime);
+        nbt.put("Sections", sectionsNbt);
+        return nbt;
+    }
+
+    /**
+     * Rebuild a saved removal, keeping its section order
+     */
+    public static IslandRemovalJob readNbt(NbtCompound nbt) {
+        IslandRemovalJob job = new IslandRemovalJob(BlockPos.fromLong(nbt.getLong("Anchor")), nbt.getInt("Total"));
+        job.processed = nbt.getInt("Processed");
+        job.queuedTime = nbt.getLong("QueuedTime");
+        NbtList sectionsNbt = nbt.getList("Sections", NbtElement.COMPOUND_TYPE);
+        for (int i = 0; i < sectionsNbt.size(); i++) {
+            NbtCompound sectionNbt = sectionsNbt.getCompound(i);
+            long[] cells = sectionNbt.getLongArray("Cells");
+            if (cells.length == 0) continue;
+            long key = sectionNbt.getLong("Section");
+            job.cellsBySection.put(key, new LongArrayList(cells));
+            job.sectionKeys.add(key);
+        }
+        return job;
+    }
+
+    /**
+     * World time the job was first queued (-1 before that)
+     */
+    public long getQueuedTime() {
+        return queuedTime;
+    }
+
+    void setQueuedTime(long queuedTime) {
+        if (this.queuedTime < 0) {
+            this.queuedTime = queuedTime;
+        }
+    }
+
+    @Override
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Removals run before any placement, so an island replacing this one
+     * (same turtle, overlapping footprint) is never erased by its predecessor's removal
+     */
+    @Override
+    public double getPriority(ServerWorld world) {
+        return -1.0;
+    }
+
+    @Override
+    public boolean hasNextSection() {
+        return nextSection < sectionKeys.size();
+    }
+
+    /**
+     * Pick the next section whose chunk is loaded, keeping top-down order where possible
+     * Returns false while every remaining section is in an unloaded chunk
+     */
+    @Override
+    public boolean isNextSectionReady(ServerWorld world) {
+        for (int i = nextSection; i < sectionKeys.size(); i++) {
+            long key = sectionKeys.get(i);
+            if (world.getChunkManager().isChunkLoaded(ChunkSectionPos.unpackX(key), ChunkSectionPos.unpackZ(key))) {
+                if (i != nextSection) {
+                    Collections.swap(sectionKeys, i, nextSection);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean touchesChunk(int chunkX, int chunkZ) {
+        for (int i = nextSection; i < sectionKeys.size(); i++) {
+            long key = sectionKeys.get(i);
+            if (ChunkSectionPos.unpackX(key) == chunkX && ChunkSectionPos.unpackZ(key) == chunkZ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected int runNextSection(ServerWorld world, SectionBlockWriter writer) {
+        long key = sectionKeys.get(nextSection++);
+        LongArrayList cells = cellsBySection.remove(key);
+        if (cells == null) return 0;
+
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        LongArrayList unwritten = null;
+        for (int i = 0; i < cells.size(); i++) {
+            pos.set(cells.getLong(i));
+            if (!writer.setBlockState(pos, getReplacement(world, pos))) {
+                if (unwritten == null) unwritten = new LongArrayList();
+                unwritten.add(cells.getLong(i));
+            }
+        }
+
+        // Re-queue cells the writer could not reach; they run again once the chunk is loaded
+        if (unwritten != null) {
+            cellsBySection.put(key, unwritten);
+            sectionKeys.add(key);
+            return cells.size() - unwritten.size();
+        }
+        return cells.size();
+    }
+
+    /**
+     * Ocean water below sea level, air everywhere else
+     */
+    private BlockState getReplacement(ServerWorld world, BlockPos pos) {
+        if (pos.getY() < world.getSeaLevel() && world.getBiome(pos).isIn(BiomeTags.IS_OCEAN)) {
+            return WATER;
+        }
+        return AIR;
+    }
+}
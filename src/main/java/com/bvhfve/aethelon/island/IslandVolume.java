@@ -0,0 +1,416 @@
+package com.bvhfve.aethelon.island;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtHelper;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.registry.RegistryEntryLookup;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Dense, palette-compressed block storage for a turtle island
+ *
+ * Replaces per-block map entries with a fixed local grid:
+ * - A small BlockState palette (index 0 is always air)
+ * - A packed long[] of palette indices, widened only when the palette grows
+ * - O(1) get/set by local or origin-relative coordinates
+ * - Fast iteration that skips fully empty words of air
+ *
+ * Coordinates passed to the "absolute" accessors are interpreted relative to
+ * the volume origin, which is a world position for IslandManager and a
+ * turtle-relative offset for MovingIslandManager.
+ */
+public class IslandVolume {
+
+    private static final BlockState AIR = Blocks.AIR.getDefaultState();
+    private static final int MIN_BITS = 2;
+
+    private final BlockPos origin;
+    private final int sizeX, sizeY, sizeZ;
+    private final int volume;
+
+    // Palette: index -> state, state -> index
+    private final List<BlockState> palette = new ArrayList<>();
+    private final Reference2IntOpenHashMap<BlockState> paletteIndex = new Reference2IntOpenHashMap<>();
+
+    // Packed palette indices, entries never span two longs (same layout as vanilla PackedIntegerArray)
+    private long[] data;
+    private int bitsPerEntry;
+    private int entriesPerLong;
+    private long entryMask;
+
+    private int nonAirCount = 0;
+
+    /**
+     * Visitor for non-air cells
+     */
+    @FunctionalInterface
+    public interface BlockVisitor {
+        void visit(BlockPos pos, BlockState state);
+    }
+
+    public IslandVolume(BlockPos origin, int sizeX, int sizeY, int sizeZ) {
+        if (sizeX <= 0 || sizeY <= 0 || sizeZ <= 0) {
+            throw new IllegalArgumentException("Island volume dimensions must be positive: " + sizeX + "x" + sizeY + "x" + sizeZ);
+        }
+
+        this.origin = origin.toImmutable();
+        this.sizeX = sizeX;
+        this.sizeY = sizeY;
+        this.sizeZ = sizeZ;
+        this.volume = sizeX * sizeY * sizeZ;
+
+        this.paletteIndex.defaultReturnValue(-1);
+        this.palette.add(AIR);
+        this.paletteIndex.put(AIR, 0);
+
+        resize(MIN_BITS);
+    }
+
+    /**
+     * Create a volume covering the inclusive box between two corners
+     */
+    public static IslandVolume fromCorners(BlockPos min, BlockPos max) {
+        BlockPos lo = new BlockPos(Math.min(min.getX(), max.getX()), Math.min(min.getY(), max.getY()), Math.min(min.getZ(), max.getZ()));
+        BlockPos hi = new BlockPos(Math.max(min.getX(), max.getX()), Math.max(min.getY(), max.getY()), Math.max(min.getZ(), max.getZ()));
+        return new IslandVolume(lo,
+                hi.getX() - lo.getX() + 1,
+                hi.getY() - lo.getY() + 1,
+                hi.getZ() - lo.getZ() + 1);
+    }
+
+    /**
+     * Rebuild a volume from its palette and packed index data (network/persistence)
+     */
+    public static IslandVolume fromPacked(BlockPos origin, int sizeX, int sizeY, int sizeZ,
+                                          List<BlockState> palette, int bitsPerEntry, long[] packed) {
+        if (palette.isEmpty() || bitsPerEntry < MIN_BITS || bitsPerEntry > 31 || palette.size() > (1 << bitsPerEntry)) {
+            throw new IllegalArgumentException("Palette of " + palette.size() + " entries does not fit " + bitsPerEntry + " bits");
+        }
+
+        IslandVolume volume = new IslandVolume(origin, sizeX, sizeY, sizeZ);
+        volume.palette.clear();
+        volume.paletteIndex.clear();
+        for (int i = 0; i < palette.size(); i++) {
+            BlockState state = i == 0 ? AIR : palette.get(i);
+            volume.palette.add(state);
+            volume.paletteIndex.putIfAbsent(state, i);
+        }
+
+        volume.resize(bitsPerEntry);
+        if (packed.length != volume.data.length) {
+            throw new IllegalArgumentException("Packed island data has " + packed.length + " words, expected " + volume.data.length);
+        }
+        System.arraycopy(packed, 0, volume.data, 0, packed.length);
+
+        int count = 0;
+        for (int index = 0; index < volume.volume; index++) {
+            int id = volume.getIndex(index);
+            if (id >= volume.palette.size()) {
+                throw new IllegalArgumentException("Packed island data references palette entry " + id + " of " + volume.palette.size());
+            }
+            if (id != 0) count++;
+        }
+        volume.nonAirCount = count;
+        return volume;
+    }
+
+    /**
+     * Save origin, size, palette and packed data (palette entries are stored by block id and properties)
+     */
+    public NbtCompound writeNbt() {
+        NbtCompound nbt = new NbtCompound();
+        nbt.putInt("X", origin.getX());
+        nbt.putInt("Y", origin.getY());
+        nbt.putInt("Z", origin.getZ());
+        nbt.putInt("SizeX", sizeX);
+        nbt.putInt("SizeY", sizeY);
+        nbt.putInt("SizeZ", sizeZ);
+
+        NbtList paletteNbt = new NbtList();
+        for (BlockState state : palette) {
+            paletteNbt.add(NbtHelper.fromBlockState(state));
+        }
+        nbt.put("Palette", paletteNbt);
+        nbt.putInt("Bits", bitsPerEntry);
+        nbt.putLongArray("Data", data);
+        return nbt;
+    }
+
+    /**
+     * Load a volume saved with writeNbt
+     * Unknown blocks (e.g. from a removed mod) read back as air
+     */
+    public static IslandVolume readNbt(NbtCompound nbt, RegistryEntryLookup<Block> blockLookup) {
+        NbtList paletteNbt = nbt.getList("Palette", NbtElement.COMPOUND_TYPE);
+        List<BlockState> palette = new ArrayList<>(paletteNbt.size());
+        for (int i = 0; i < paletteNbt.size(); i++) {
+            palette.add(NbtHelper.toBlockState(blockLookup, paletteNbt.getCompound(i)));
+        }
+
+        BlockPos origin = new BlockPos(nbt.getInt("X"), nbt.getInt("Y"), nbt.getInt("Z"));
+        return fromPacked(origin, nbt.getInt("SizeX"), nbt.getInt("SizeY"), nbt.getInt("SizeZ"),
+                palette, nbt.getInt("Bits"), nbt.getLongArray("Data"));
+    }
+
+    /**
+     * Copy this volume to a new origin
+     * Costs one array copy instead of one write per block
+     */
+    public IslandVolume copyWithOrigin(BlockPos newOrigin) {
+        IslandVolume copy = new IslandVolume(newOrigin, sizeX, sizeY, sizeZ);
+        copy.palette.clear();
+        copy.paletteIndex.clear();
+        copy.palette.addAll(palette);
+        copy.paletteIndex.putAll(paletteIndex);
+        copy.resize(bitsPerEntry);
+        System.arraycopy(data, 0, copy.data, 0, data.length);
+        copy.nonAirCount = nonAirCount;
+        return copy;
+    }
+
+    // Dimensions
+    public BlockPos getOrigin() {
+        return origin;
+    }
+
+    public int getSizeX() {
+        return sizeX;
+    }
+
+    public int getSizeY() {
+        return sizeY;
+    }
+
+    public int getSizeZ() {
+        return sizeZ;
+    }
+
+    /**
+     * Number of non-air cells currently stored
+     */
+    public int getBlockCount() {
+        return nonAirCount;
+    }
+
+    public boolean isEmpty() {
+        return nonAirCount == 0;
+    }
+
+    /**
+     * Check if origin-relative coordinates fall inside the grid
+     */
+    public boolean contains(int x, int y, int z) {
+        int lx = x - origin.getX();
+        int ly = y - origin.getY();
+        int lz = z - origin.getZ();
+        return lx >= 0 && ly >= 0 && lz >= 0 && lx < sizeX && ly < sizeY && lz < sizeZ;
+    }
+
+    public boolean contains(BlockPos pos) {
+        return contains(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /**
+     * Get the state at origin-relative coordinates (air when outside the grid)
+     */
+    public BlockState get(int x, int y, int z) {
+        if (!contains(x, y, z)) return AIR;
+        return palette.get(getIndex(localIndex(x - origin.getX(), y - origin.getY(), z - origin.getZ())));
+    }
+
+    public BlockState get(BlockPos pos) {
+        return get(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /**
+     * Check if there is a non-air block at origin-relative coordinates
+     */
+    public boolean hasBlock(BlockPos pos) {
+        if (!contains(pos)) return false;
+        return getIndex(localIndex(pos.getX() - origin.getX(), pos.getY() - origin.getY(), pos.getZ() - origin.getZ())) != 0;
+    }
+
+    /**
+     * Set the state at origin-relative coordinates
+     * Returns false if the position is outside the grid
+     */
+    public boolean set(int x, int y, int z, BlockState state) {
+        if (!contains(x, y, z)) return false;
+
+        int index = localIndex(x - origin.getX(), y - origin.getY(), z - origin.getZ());
+        int paletteId = state == null || state.isAir() ? 0 : getOrCreatePaletteId(state);
+        int previous = getIndex(index);
+
+        if (previous == paletteId) return true;
+        if (previous == 0) nonAirCount++;
+        if (paletteId == 0) nonAirCount--;
+
+        setIndex(index, paletteId);
+        return true;
+    }
+
+    public boolean set(BlockPos pos, BlockState state) {
+        return set(pos.getX(), pos.getY(), pos.getZ(), state);
+    }
+
+    /**
+     * Remove every block but keep the grid allocated
+     */
+    public void clear() {
+        palette.clear();
+        paletteIndex.clear();
+        palette.add(AIR);
+        paletteIndex.put(AIR, 0);
+        nonAirCount = 0;
+        resize(MIN_BITS);
+    }
+
+    /**
+     * Visit every non-air cell in x-fastest order, passing origin-relative positions
+     * The position instance is mutable and reused between calls - copy it with toImmutable() if kept
+     */
+    public void forEachBlock(BlockVisitor visitor) {
+        if (nonAirCount == 0) return;
+
+        BlockPos.Mutable mutable = new BlockPos.Mutable();
+        int ox = origin.getX(), oy = origin.getY(), oz = origin.getZ();
+
+        for (int word = 0; word < data.length; word++) {
+            long bits = data[word];
+            if (bits == 0L) continue; // Whole word is air
+
+            int base = word * entriesPerLong;
+            for (int slot = 0; slot < entriesPerLong && bits != 0L; slot++, bits >>>= bitsPerEntry) {
+                int paletteId = (int) (bits & entryMask);
+                if (paletteId == 0) continue;
+
+                int index = base + slot;
+                if (index >= volume) break;
+
+                int lx = index % sizeX;
+                int lz = (index / sizeX) % sizeZ;
+                int ly = index / (sizeX * sizeZ);
+                mutable.set(ox + lx, oy + ly, oz + lz);
+                visitor.visit(mutable, palette.get(paletteId));
+            }
+        }
+    }
+
+    /**
+     * Snapshot of all non-air positions (origin-relative)
+     */
+    public Set<BlockPos> getBlockPositions() {
+        Set<BlockPos> positions = new HashSet<>(Math.max(16, nonAirCount * 4 / 3 + 1));
+        forEachBlock((pos, state) -> positions.add(pos.toImmutable()));
+        return positions;
+    }
+
+    /**
+     * Approximate heap footprint in bytes (packed data + palette tables)
+     */
+    public long estimateMemoryBytes() {
+        long dataBytes = 16L + (long) data.length * Long.BYTES;
+        long paletteBytes = 24L + (long) palette.size() * 8L      // ArrayList backing array of references
+                + 48L + (long) paletteIndex.size() * 12L;          // open hash map keys + values
+        return 64L + dataBytes + paletteBytes;
+    }
+
+    /**
+     * Human-readable memory report for debugging and admin logging
+     */
+    public String getMemoryReport() {
+        // A HashMap<BlockPos, BlockState> entry costs ~32 (node) + 24 (BlockPos) + ~8 (table slot) bytes
+        long legacyEstimate = (long) nonAirCount * 64L;
+        return String.format("IslandVolume %dx%dx%d: %d blocks, %d palette entries, %d bits/entry, ~%d bytes (map equivalent ~%d bytes)",
+                sizeX, sizeY, sizeZ, nonAirCount, palette.size(), bitsPerEntry, estimateMemoryBytes(), legacyEstimate);
+    }
+
+    public int getPaletteSize() {
+        return palette.size();
+    }
+
+    public int getBitsPerEntry() {
+        return bitsPerEntry;
+    }
+
+    /**
+     * Palette in index order (index 0 is air)
+     */
+    public List<BlockState> getPalette() {
+        return Collections.unmodifiableList(palette);
+    }
+
+    /**
+     * Copy of the packed palette indices, readable with getBitsPerEntry()
+     */
+    public long[] getPackedData() {
+        return data.clone();
+    }
+
+    // Packed storage helpers
+    private int localIndex(int lx, int ly, int lz) {
+        return (ly * sizeZ + lz) * sizeX + lx;
+    }
+
+    private int getIndex(int index) {
+        long word = data[index / entriesPerLong];
+        int shift = (index % entriesPerLong) * bitsPerEntry;
+        return (int) ((word >>> shift) & entryMask);
+    }
+
+    private void setIndex(int index, int paletteId) {
+        int wordIndex = index / entriesPerLong;
+        int shift = (index % entriesPerLong) * bitsPerEntry;
+        data[wordIndex] = (data[wordIndex] & ~(entryMask << shift)) | (((long) paletteId & entryMask) << shift);
+    }
+
+    private int getOrCreatePaletteId(BlockState state) {
+        int id = paletteIndex.getInt(state);
+        if (id >= 0) return id;
+
+        id = palette.size();
+        palette.add(state);
+        paletteIndex.put(state, id);
+
+        if (id > entryMask) {
+            resize(bitsPerEntry + 1);
+        }
+        return id;
+    }
+
+    /**
+     * Repack the index array with a new entry width, preserving contents
+     */
+    private void resize(int newBits) {
+        long[] oldData = data;
+        int oldBits = bitsPerEntry;
+        int oldPerLong = entriesPerLong;
+        long oldMask = entryMask;
+
+        bitsPerEntry = newBits;
+        entriesPerLong = 64 / newBits;
+        entryMask = (1L << newBits) - 1L;
+        data = new long[(volume + entriesPerLong - 1) / entriesPerLong];
+
+        if (oldData == null || nonAirCount == 0) return;
+
+        for (int index = 0; index < volume; index++) {
+            long word = oldData[index / oldPerLong];
+            int id = (int) ((word >>> ((index % oldPerLong) * oldBits)) & oldMask);
+            if (id != 0) {
+                setIndex(index, id);
+            }
+        }
+    }
+}
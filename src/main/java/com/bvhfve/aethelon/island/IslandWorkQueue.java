@@ -0,0 +1,299 @@
+package com.bvhfve.aethelon.island;
+
+import com.bvhfve.aethelon.config.AethelonConfig;
+import com.bvhfve.aethelon.entity.AethelonEntity;
+import com.bvhfve.aethelon.structure.SectionBlockWriter;
+import com.bvhfve.aethelon.util.PerformanceGovernor;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.PersistentState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * World-level, tick-budgeted queue for island block work
+ *
+ * Features:
+ * - Jobs run one chunk section at a time at the end of each world tick
+ * - Work stops once the configured millisecond budget is used (at least one section always runs)
+ * - Jobs near players run first
+ * - Writes of all jobs in a tick share one SectionBlockWriter, so each section is synced once
+ * - Jobs waiting on unloaded chunks are skipped until one of their chunks loads
+ * - Removal jobs are saved with the world (PendingRemovals) and queued again when it loads;
+ *   a removal stuck on unloaded chunks for too long, or beyond the per-world cap, is given up
+ */
+public class IslandWorkQueue {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("AethelonIslandWorkQueue");
+
+    private static final String REMOVALS_STATE_ID = "aethelon_island_removals";
+
+    // Pending removals kept per world; the oldest is given up beyond this
+    private static final int MAX_PENDING_REMOVALS = 256;
+
+    // A removal still waiting on unloaded chunks this long after it was queued is given up (two hours of world time)
+    private static final long REMOVAL_TIMEOUT_TICKS = 20L * 60 * 60 * 2;
+
+    // Waiting jobs are rechecked this often as well, in case a chunk became ready after its load event
+    private static final int WAITING_RECHECK_INTERVAL = 100;
+
+    private static final Map<ServerWorld, List<IslandJob>> QUEUES = new WeakHashMap<>();
+
+    /**
+     * Removal jobs of one world that still have cells to clear
+     */
+    public static class PendingRemovals extends PersistentState {
+        private final List<IslandRemovalJob> jobs = new ArrayList<>();
+
+        public static final PersistentState.Type<PendingRemovals> TYPE =
+                new PersistentState.Type<>(PendingRemovals::new, PendingRemovals::fromNbt, null);
+
+        private static PendingRemovals fromNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registries) {
+            PendingRemovals state = new PendingRemovals();
+            NbtList list = nbt.getList("Jobs", NbtElement.COMPOUND_TYPE);
+            for (int i = 0; i < list.size(); i++) {
+                IslandRemovalJob job = IslandRemovalJob.readNbt(list.getCompound(i));
+                if (job.hasNextSection()) {
+                    state.jobs.add(job);
+                }
+            }
+            return state;
+        }
+
+        @Override
+        public NbtCompound writeNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registries) {
+            NbtList list = new NbtList();
+            for (IslandRemovalJob job : jobs) {
+                if (!job.isCancelled() && job.hasNextSection()) {
+                    list.add(job.writeNbt());
+                }
+            }
+            nbt.put("Jobs", list);
+            return nbt;
+        }
+
+        /**
+         * Progress of running removals is saved with every world save
+         */
+        @Override
+        public boolean isDirty() {
+            return super.isDirty() || !jobs.isEmpty();
+        }
+
+        public int size() {
+            return jobs.size();
+        }
+    }
+
+    /**
+     * Register tick and lifecycle hooks
+     */
+    public static void initialize() {
+        ServerTickEvents.END_WORLD_TICK.register(IslandWorkQueue::tickWorld);
+        ServerWorldEvents.LOAD.register((server, world) -> restoreRemovals(world));
+        ServerChunkEvents.CHUNK_LOAD.register((world, chunk) -> wakeJobs(world, chunk.getPos().x, chunk.getPos().z));
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> QUEUES.clear());
+        LOGGER.info("Island work queue initialized");
+    }
+
+    /**
+     * Add a job to a world's queue
+     */
+    public static void enqueue(ServerWorld world, IslandJob job) {
+        if (job instanceof IslandRemovalJob removal) {
+            removal.setQueuedTime(world.getTime());
+            PendingRemovals removals = getPendingRemovals(world);
+            if (removals.jobs.size() >= MAX_PENDING_REMOVALS) {
+                IslandRemovalJob oldest = removals.jobs.get(0);
+                LOGGER.warn("Too many pending island removals, giving up the one at {} ({}/{} blocks cleared)",
+                           oldest.getAnchor(), oldest.getProcessed(), oldest.getTotal());
+                oldest.cancel();
+                removals.jobs.remove(0);
+            }
+            removals.jobs.add(removal);
+            removals.markDirty();
+        }
+        QUEUES.computeIfAbsent(world, key -> new ArrayList<>()).add(job);
+        LOGGER.debug("Queued {} ({} blocks) at {}", job.getClass().getSimpleName(), job.getTotal(), job.getAnchor());
+    }
+
+    /**
+     * Cancel all queued jobs owned by a turtle
+     */
+    public static void cancelJobs(AethelonEntity owner) {
+        for (List<IslandJob> jobs : QUEUES.values()) {
+            for (IslandJob job : jobs) {
+                if (job.getOwner() == owner) {
+                    job.cancel();
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of jobs waiting in a world
+     */
+    public static int getPendingJobCount(ServerWorld world) {
+        List<IslandJob> jobs = QUEUES.get(world);
+        return jobs != null ? jobs.size() : 0;
+    }
+
+    /**
+     * Saved removals of a world
+     */
+    public static PendingRemovals getPendingRemovals(ServerWorld world) {
+        return world.getPersistentStateManager().getOrCreate(PendingRemovals.TYPE, REMOVALS_STATE_ID);
+    }
+
+    /**
+     * Queue the removals saved with a world again
+     */
+    private static void restoreRemovals(ServerWorld world) {
+        PendingRemovals removals = getPendingRemovals(world);
+        if (removals.jobs.isEmpty()) return;
+        QUEUES.computeIfAbsent(world, key -> new ArrayList<>()).addAll(removals.jobs);
+        LOGGER.info("Resumed {} pending island removals in {}", removals.jobs.size(), world.getRegistryKey().getValue());
+    }
+
+    /**
+     * A chunk loaded: jobs waiting on it run again
+     */
+    private static void wakeJobs(ServerWorld world, int chunkX, int chunkZ) {
+        List<IslandJob> jobs = QUEUES.get(world);
+        if (jobs == null) return;
+        for (IslandJob job : jobs) {
+            if (job.isWaiting() && job.touchesChunk(chunkX, chunkZ)) {
+                job.setWaiting(false);
+            }
+        }
+    }
+
+    private static boolean isTimedOut(ServerWorld world, IslandJob job) {
+        return job.isWaiting() && job instanceof IslandRemovalJob removal
+                && world.getTime() - removal.getQueuedTime() > REMOVAL_TIMEOUT_TICKS;
+    }
+
+    private static void forgetRemoval(ServerWorld world, IslandJob job) {
+        if (job instanceof IslandRemovalJob removal) {
+            PendingRemovals removals = getPendingRemovals(world);
+            if (removals.jobs.remove(removal)) {
+                removals.markDirty();
+            }
+        }
+    }
+
+    /**
+     * Get the per-tick budget in nanoseconds, shrunk by the performance governor under load
+     */
+    private static long getBudgetNanos() {
+        double millis = AethelonConfig.INSTANCE != null ? AethelonConfig.INSTANCE.island_work_budget_ms : 5.0;
+        return (long) (millis * PerformanceGovernor.getWorkBudgetScale() * 1_000_000L);
+    }
+
+    private static void tickWorld(ServerWorld world) {
+        List<IslandJob> jobs = QUEUES.get(world);
+        if (jobs == null || jobs.isEmpty()) return;
+
+        if (world.getTime() % WAITING_RECHECK_INTERVAL == 0) {
+            for (IslandJob job : jobs) {
+                job.setWaiting(false);
+            }
+        }
+
+        // Drop cancelled and orphaned jobs; jobs of unloaded turtles were saved with them and leave quietly
+        List<IslandJob> dropped = new ArrayList<>();
+        jobs.removeIf(job -> {
+            if (job.isOwnerUnloaded() && !job.isCancelled()) {
+                LOGGER.debug("Parked island job at {} with its unloaded turtle after {}/{} blocks",
+                           job.getAnchor(), job.getProcessed(), job.getTotal());
+                return true;
+            }
+            if (isTimedOut(world, job)) {
+                LOGGER.warn("Giving up island removal at {}: its chunks stayed unloaded ({}/{} blocks cleared)",
+                           job.getAnchor(), job.getProcessed(), job.getTotal());
+                job.cancel();
+            }
+            if (job.isCancelled() || job.isOwnerGone()) {
+                dropped.add(job);
+                return true;
+            }
+            return false;
+        });
+        for (IslandJob job : dropped) {
+            LOGGER.debug("Dropped island job at {} after {}/{} blocks", job.getAnchor(), job.getProcessed(), job.getTotal());
+            forgetRemoval(world, job);
+            job.notifyCancelled();
+        }
+        if (jobs.isEmpty()) return;
+
+        // Nearest player first
+        Map<IslandJob, Double> priorities = new HashMap<>();
+        for (IslandJob job : jobs) {
+            priorities.put(job, job.getPriority(world));
+        }
+        List<IslandJob> ordered = new ArrayList<>(jobs);
+        ordered.sort(Comparator.comparingDouble(priorities::get));
+
+        long start = System.nanoTime();
+        long budget = getBudgetNanos();
+        SectionBlockWriter writer = new SectionBlockWriter(world);
+        List<IslandJob> finished = new ArrayList<>();
+        int sections = 0;
+
+        outer:
+        for (IslandJob job : ordered) {
+            if (job.isWaiting()) continue;
+            while (job.hasNextSection()) {
+                if (sections > 0 && System.nanoTime() - start >= budget) {
+                    break outer;
+                }
+                if (!job.isNextSectionReady(world)) {
+                    job.setWaiting(true); // Waiting on unloaded chunks - woken when one of them loads
+                    break;
+                }
+                try {
+                    job.runSection(world, writer);
+                } catch (Exception e) {
+                    LOGGER.error("Island job at {} failed, cancelling", job.getAnchor(), e);
+                    job.cancel();
+                    break;
+                }
+                sections++;
+            }
+            if (!job.hasNextSection() && !job.isCancelled()) {
+                finished.add(job);
+            }
+        }
+
+        writer.flush();
+
+        for (IslandJob job : finished) {
+            jobs.remove(job);
+            forgetRemoval(world, job);
+            try {
+                job.finish(world);
+            } catch (Exception e) {
+                LOGGER.error("Failed to finish island job at {}", job.getAnchor(), e);
+            }
+        }
+
+        if (AethelonConfig.isDebugLoggingEnabled()) {
+            LOGGER.info("Island work: {} sections in {} us, {} jobs finished, {} pending",
+                       sections, (System.nanoTime() - start) / 1000L, finished.size(), jobs.size());
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.bvhfve.aethelon.island;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.registry.RegistryEntryLookup;
+import net.minecraft.util.hit.BlockHitResult;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.shape.VoxelShape;
+import net.minecraft.util.shape.VoxelShapes;
+import net.minecraft.world.BlockView;
+import net.minecraft.world.EmptyBlockView;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Virtual (non-block) island owned by a turtle while it travels
+ *
+ * Instead of writing real blocks every step, the island is kept in private storage:
+ * - Blocks stay in an IslandVolume in the "capture frame" (world coordinates at dematerialization)
+ * - The island's world placement is capture frame + (turtle position - captured turtle position)
+ * - Collision, raycast and block queries are answered by transforming them into the capture frame
+ * - Moving the turtle costs one transform update, regardless of island size
+ *
+ * The transform is translation only; the island keeps the orientation it had when it was captured.
+ * Blocks only change when a player breaks one, so collision uses one merged shape built on first use
+ * and rebuilt after a break.
+ */
+public class VirtualIsland {
+
+    private final IslandVolume volume;
+    private final Map<BlockPos, NbtCompound> blockEntities;
+    private final Vec3d captureTurtlePos;
+
+    // Lazily built list of cells with at least one exposed face (client rendering)
+    private List<BlockPos> exposedCells = null;
+
+    // Merged collision shape in the capture frame, and its copy at the last queried offset
+    private VoxelShape collisionShape = null;
+    private VoxelShape placedCollisionShape = null;
+    private Vec3d placedOffset = null;
+
+    // Bumped on every block change, so cached client meshes know when to rebuild
+    private int revision = 0;
+
+    public VirtualIsland(IslandVolume volume, Map<BlockPos, NbtCompound> blockEntities, Vec3d captureTurtlePos) {
+        this.volume = volume;
+        this.blockEntities = new HashMap<>(blockEntities);
+        this.captureTurtlePos = captureTurtlePos;
+    }
+
+    /**
+     * Save the virtual island (blocks, block entity data and capture frame)
+     */
+    public NbtCompound writeNbt() {
+        NbtCompound nbt = new NbtCompound();
+        nbt.put("Volume", volume.writeNbt());
+        nbt.putDouble("CaptureX", captureTurtlePos.x);
+        nbt.putDouble("CaptureY", captureTurtlePos.y);
+        nbt.putDouble("CaptureZ", captureTurtlePos.z);
+
+        NbtList blockEntityList = new NbtList();
+        for (Map.Entry<BlockPos, NbtCompound> entry : blockEntities.entrySet()) {
+            NbtCompound blockEntityNbt = new NbtCompound();
+            blockEntityNbt.putInt("X", entry.getKey().getX());
+            blockEntityNbt.putInt("Y", entry.getKey().getY());
+            blockEntityNbt.putInt("Z", entry.getKey().getZ());
+            blockEntityNbt.put("Data", entry.getValue());
+            blockEntityList.add(blockEntityNbt);
+        }
+        nbt.put("BlockEntities", blockEntityList);
+        return nbt;
+    }
+
+    /**
+     * Load a virtual island saved with writeNbt
+     */
+    public static VirtualIsland readNbt(NbtCompound nbt, RegistryEntryLookup<Block> blockLookup) {
+        IslandVolume volume = IslandVolume.readNbt(nbt.getCompound("Volume"), blockLookup);
+        Vec3d captureTurtlePos = new Vec3d(nbt.getDouble("CaptureX"), nbt.getDouble("CaptureY"), nbt.getDouble("CaptureZ"));
+
+        Map<BlockPos, NbtCompound> blockEntities = new HashMap<>();
+        NbtList blockEntityList = nbt.getList("BlockEntities", NbtElement.COMPOUND_TYPE);
+        for (int i = 0; i < blockEntityList.size(); i++) {
+            NbtCompound blockEntityNbt = blockEntityList.getCompound(i);
+            BlockPos pos = new BlockPos(blockEntityNbt.getInt("X"), blockEntityNbt.getInt("Y"), blockEntityNbt.getInt("Z"));
+            blockEntities.put(pos, blockEntityNbt.getCompound("Data"));
+        }
+        return new VirtualIsland(volume, blockEntities, captureTurtlePos);
+    }
+
+    /**
+     * Get the stored blocks in capture-frame coordinates
+     */
+    public IslandVolume getVolume() {
+        return volume;
+    }
+
+    /**
+     * Get block entity data keyed by capture-frame position
+     */
+    public Map<BlockPos, NbtCompound> getBlockEntities() {
+        return Collections.unmodifiableMap(blockEntities);
+    }
+
+    public Vec3d getCaptureTurtlePos() {
+        return captureTurtlePos;
+    }
+
+    public int getRevision() {
+        return revision;
+    }
+
+    /**
+     * Translation from the capture frame to the world for a turtle position
+     */
+    public Vec3d getOffset(Vec3d turtlePos) {
+        return turtlePos.subtract(captureTurtlePos);
+    }
+
+    /**
+     * Block-aligned translation used when materializing
+     */
+    public BlockPos getBlockOffset(Vec3d turtlePos) {
+        Vec3d offset = getOffset(turtlePos);
+        return new BlockPos((int) Math.round(offset.x), (int) Math.round(offset.y), (int) Math.round(offset.z));
+    }
+
+    /**
+     * Island bounds in the capture frame
+     */
+    public Box getLocalBounds() {
+        BlockPos origin = volume.getOrigin();
+        return new Box(origin.getX(), origin.getY(), origin.getZ(),
+                origin.getX() + volume.getSizeX(), origin.getY() + volume.getSizeY(), origin.getZ() + volume.getSizeZ());
+    }
+
+    /**
+     * Island bounds in the world for a turtle position
+     */
+    public Box getWorldBounds(Vec3d turtlePos) {
+        Vec3d offset = getOffset(turtlePos);
+        return getLocalBounds().offset(offset.x, offset.y, offset.z);
+    }
+
+    /**
+     * Get the island block covering a world position (air if none)
+     */
+    public BlockState getBlockState(BlockPos worldPos, Vec3d turtlePos) {
+        return volume.get(toLocalCell(worldPos, turtlePos));
+    }
+
+    /**
+     * Check if a world position is covered by an island block
+     */
+    public boolean hasBlock(BlockPos worldPos, Vec3d turtlePos) {
+        return volume.hasBlock(toLocalCell(worldPos, turtlePos));
+    }
+
+    /**
+     * Remove a block in capture-frame coordinates, returns the removed state (air if there was none)
+     */
+    public BlockState removeBlock(BlockPos cell) {
+        BlockState state = volume.get(cell);
+        if (state.isAir()) return state;
+
+        volume.set(cell, Blocks.AIR.getDefaultState());
+        blockEntities.remove(cell);
+        exposedCells = null;
+        collisionShape = null;
+        placedCollisionShape = null;
+        placedOffset = null;
+        revision++;
+        return state;
+    }
+
+    /**
+     * Append the island's world-space collision shape if it intersects a world box
+     * The merged shape only visits the cells a movement query covers, so one shape replaces a per-block list
+     */
+    public void collectCollisionShapes(Vec3d turtlePos, Box worldBox, List<VoxelShape> shapes) {
+        if (volume.isEmpty()) return;
+
+        Vec3d offset = getOffset(turtlePos);
+        Box local = worldBox.offset(-offset.x, -offset.y, -offset.z);
+        if (!local.intersects(getLocalBounds())) return;
+
+        // Every entity touching the island in a tick shares the same placed shape
+        if (!offset.equals(placedOffset)) {
+            placedCollisionShape = getCollisionShape().offset(offset.x, offset.y, offset.z);
+            placedOffset = offset;
+        }
+        if (!placedCollisionShape.isEmpty()) {
+            shapes.add(placedCollisionShape);
+        }
+    }
+
+    /**
+     * Union of all block collision shapes in the capture frame, built on first use and again after removeBlock
+     */
+    private VoxelShape getCollisionShape() {
+        if (collisionShape == null) {
+            List<VoxelShape> cells = new ArrayList<>();
+            BlockPos.Mutable cell = new BlockPos.Mutable();
+            volume.forEachBlock((pos, state) -> {
+                VoxelShape shape = state.getCollisionShape(EmptyBlockView.INSTANCE, cell.set(pos));
+                if (!shape.isEmpty()) {
+                    cells.add(shape.offset(pos.getX(), pos.getY(), pos.getZ()));
+                }
+            });
+            collisionShape = union(cells, 0, cells.size());
+        }
+        return collisionShape;
+    }
+
+    /**
+     * Balanced pairwise union, so merged shapes grow evenly instead of one cell at a time
+     */
+    private static VoxelShape union(List<VoxelShape> shapes, int from, int to) {
+        if (to - from == 0) return VoxelShapes.empty();
+        if (to - from == 1) return shapes.get(from);
+        int middle = (from + to) >>> 1;
+        return VoxelShapes.union(union(shapes, from, middle), union(shapes, middle, to));
+    }
+
+    /**
+     * Raycast against island outline shapes
+     * The hit position is in world space, getBlockPos() is the capture-frame cell that was hit
+     */
+    public BlockHitResult raycast(Vec3d start, Vec3d end, Vec3d turtlePos) {
+        if (volume.isEmpty()) return null;
+
+        Vec3d offset = getOffset(turtlePos);
+        Vec3d localStart = start.subtract(offset);
+        Vec3d localEnd = end.subtract(offset);
+
+        BlockHitResult hit = BlockView.raycast(localStart, localEnd, volume, (islandVolume, pos) -> {
+            BlockState state = islandVolume.get(pos);
+            if (state.isAir()) return null;
+            VoxelShape shape = state.getOutlineShape(EmptyBlockView.INSTANCE, pos);
+            return shape.raycast(localStart, localEnd, pos);
+        }, islandVolume -> null);
+
+        if (hit == null) return null;
+        return new BlockHitResult(hit.getPos().add(offset), hit.getSide(), hit.getBlockPos(), hit.isInsideBlock());
+    }
+
+    /**
+     * Cells with at least one face not covered by an opaque island block
+     * Interior cells can never be seen, so rendering only visits this list
+     */
+    public List<BlockPos> getExposedCells() {
+        if (exposedCells == null) {
+            List<BlockPos> cells = new ArrayList<>();
+            BlockPos.Mutable neighbour = new BlockPos.Mutable();
+            volume.forEachBlock((pos, state) -> {
+                for (Direction direction : Direction.values()) {
+                    neighbour.set(pos, direction);
+                    if (!volume.get(neighbour).isOpaque()) {
+                        cells.add(pos.toImmutable());
+                        return;
+                    }
+                }
+            });
+            exposedCells = cells;
+        }
+        return exposedCells;
+    }
+
+    private BlockPos toLocalCell(BlockPos worldPos, Vec3d turtlePos) {
+        Vec3d offset = getOffset(turtlePos);
+        return BlockPos.ofFloored(worldPos.getX() + 0.5 - offset.x, worldPos.getY() + 0.5 - offset.y, worldPos.getZ() + 0.5 - offset.z);
+    }
+}
@@ -0,0 +1,215 @@
+package com.bvhfve.aethelon.island;
+
+import com.bvhfve.aethelon.entity.AethelonEntity;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.shape.VoxelShape;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Per-world index of turtles whose island is currently virtual
+ *
+ * Movement collision runs for every entity every tick, so the lookup has to be nearly free:
+ * - A global counter short-circuits the common case of no virtual islands at all
+ * - Turtles are bucketed by the chunk they stand in, like the turtle registry; box queries only
+ *   visit the chunks under the box, widened by the furthest any island reaches from its turtle
+ * - Per-world turtle lists are copy-on-write (registrations are rare, reads are constant)
+ * - Worlds are weakly referenced so client world switches never leak turtles
+ * - Server turtles loaded with a virtual island are registered once they join the world,
+ *   never while their NBT is read (the entity may never be added)
+ */
+public class VirtualIslandTracker {
+
+    private static final Map<World, WorldIndex> VIRTUAL_ISLANDS = Collections.synchronizedMap(new WeakHashMap<>());
+    private static volatile int activeCount = 0;
+
+    /**
+     * Chunk-keyed buckets for one world (only touched from the thread that ticks the world)
+     */
+    private static class WorldIndex {
+        final List<AethelonEntity> turtles = new CopyOnWriteArrayList<>();
+        final Long2ObjectOpenHashMap<List<AethelonEntity>> byChunk = new Long2ObjectOpenHashMap<>();
+        final Reference2LongOpenHashMap<AethelonEntity> chunkOf = new Reference2LongOpenHashMap<>();
+        int reach = 0; // Chunks the widest island extends past its turtle's chunk
+
+        void add(AethelonEntity turtle) {
+            reach = Math.max(reach, getReach(turtle));
+            if (chunkOf.containsKey(turtle)) return;
+            long chunk = turtle.getChunkPos().toLong();
+            chunkOf.put(turtle, chunk);
+            byChunk.computeIfAbsent(chunk, key -> new ArrayList<>(2)).add(turtle);
+            turtles.add(turtle);
+        }
+
+        boolean remove(AethelonEntity turtle) {
+            if (!chunkOf.containsKey(turtle)) return false;
+            removeFromBucket(turtle, chunkOf.removeLong(turtle));
+            turtles.remove(turtle);
+
+            reach = 0;
+            for (AethelonEntity other : turtles) {
+                reach = Math.max(reach, getReach(other));
+            }
+            return true;
+        }
+
+        void update(AethelonEntity turtle) {
+            if (!chunkOf.containsKey(turtle)) return;
+            long chunk = turtle.getChunkPos().toLong();
+            long previous = chunkOf.put(turtle, chunk);
+            if (previous != chunk) {
+                removeFromBucket(turtle, previous);
+                byChunk.computeIfAbsent(chunk, key -> new ArrayList<>(2)).add(turtle);
+            }
+        }
+
+        private void removeFromBucket(AethelonEntity turtle, long chunk) {
+            List<AethelonEntity> bucket = byChunk.get(chunk);
+            if (bucket != null) {
+                bucket.remove(turtle);
+                if (bucket.isEmpty()) {
+                    byChunk.remove(chunk);
+                }
+            }
+        }
+
+        /**
+         * Chunks an island covers past its turtle's chunk (islands only translate with the turtle)
+         */
+        private static int getReach(AethelonEntity turtle) {
+            VirtualIsland island = turtle.getIslandManager() != null ? turtle.getIslandManager().getVirtualIsland() : null;
+            if (island == null) return 0;
+            Box bounds = island.getWorldBounds(turtle.getPos());
+            double extent = Math.max(Math.max(turtle.getX() - bounds.minX, bounds.maxX - turtle.getX()),
+                    Math.max(turtle.getZ() - bounds.minZ, bounds.maxZ - turtle.getZ()));
+            return MathHelper.ceil(extent / 16.0);
+        }
+    }
+
+    /**
+     * Register entity load hooks
+     */
+    public static void initialize() {
+        ServerEntityEvents.ENTITY_LOAD.register((entity, world) -> {
+            if (entity instanceof AethelonEntity turtle && turtle.getIslandManager() != null && turtle.getIslandManager().isVirtual()) {
+                register(turtle);
+            }
+        });
+    }
+
+    /**
+     * Register a turtle whose island just became virtual (or was replaced by a sync)
+     */
+    public static void register(AethelonEntity turtle) {
+        VIRTUAL_ISLANDS.computeIfAbsent(turtle.getWorld(), world -> new WorldIndex()).add(turtle);
+        updateActiveCount();
+    }
+
+    /**
+     * Unregister a turtle (island materialized, removed or turtle unloaded)
+     */
+    public static void unregister(AethelonEntity turtle) {
+        WorldIndex index = VIRTUAL_ISLANDS.get(turtle.getWorld());
+        if (index != null && index.remove(turtle)) {
+            updateActiveCount();
+        }
+    }
+
+    /**
+     * Move a turtle to its current chunk bucket (called every tick on both sides, O(1) when nothing changed)
+     */
+    public static void updatePosition(AethelonEntity turtle) {
+        if (activeCount == 0) return;
+        WorldIndex index = VIRTUAL_ISLANDS.get(turtle.getWorld());
+        if (index != null) {
+            index.update(turtle);
+        }
+    }
+
+    /**
+     * Get turtles with a virtual island in a world
+     */
+    public static List<AethelonEntity> getVirtualIslands(World world) {
+        if (activeCount == 0) return List.of();
+        WorldIndex index = VIRTUAL_ISLANDS.get(world);
+        return index != null ? index.turtles : List.of();
+    }
+
+    /**
+     * Turtles whose virtual island may intersect a world box; only the chunks under the box are visited
+     * Callers still test the island bounds
+     */
+    public static List<AethelonEntity> getVirtualIslandsNear(World world, Box box) {
+        if (activeCount == 0) return List.of();
+        WorldIndex index = VIRTUAL_ISLANDS.get(world);
+        if (index == null || index.turtles.isEmpty()) return List.of();
+
+        int minChunkX = ChunkSectionPos.getSectionCoord(MathHelper.floor(box.minX)) - index.reach;
+        int minChunkZ = ChunkSectionPos.getSectionCoord(MathHelper.floor(box.minZ)) - index.reach;
+        int maxChunkX = ChunkSectionPos.getSectionCoord(MathHelper.floor(box.maxX)) + index.reach;
+        int maxChunkZ = ChunkSectionPos.getSectionCoord(MathHelper.floor(box.maxZ)) + index.reach;
+        long chunkCount = (long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+
+        // Fewer occupied chunks than covered chunks - every turtle is a candidate
+        if (chunkCount > index.byChunk.size()) return index.turtles;
+
+        List<AethelonEntity> result = null;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                List<AethelonEntity> bucket = index.byChunk.get(ChunkPos.toLong(chunkX, chunkZ));
+                if (bucket == null) continue;
+                if (result == null) {
+                    result = new ArrayList<>(bucket.size());
+                }
+                result.addAll(bucket);
+            }
+        }
+        return result != null ? result : List.of();
+    }
+
+    /**
+     * Collect virtual island collision shapes for a world-space query box
+     * Returns the original list when nothing was added
+     */
+    public static List<VoxelShape> appendCollisions(World world, Box box, List<VoxelShape> collisions) {
+        List<AethelonEntity> turtles = getVirtualIslandsNear(world, box);
+        if (turtles.isEmpty()) return collisions;
+
+        List<VoxelShape> result = null;
+        for (AethelonEntity turtle : turtles) {
+            IslandManager islandManager = turtle.getIslandManager();
+            if (islandManager == null || turtle.isRemoved()) continue;
+
+            VirtualIsland island = islandManager.getVirtualIsland();
+            if (island == null || !island.getWorldBounds(turtle.getPos()).intersects(box)) continue;
+
+            if (result == null) {
+                result = new ArrayList<>(collisions);
+            }
+            island.collectCollisionShapes(turtle.getPos(), box, result);
+        }
+        return result != null ? result : collisions;
+    }
+
+    private static void updateActiveCount() {
+        synchronized (VIRTUAL_ISLANDS) {
+            int count = 0;
+            for (WorldIndex index : VIRTUAL_ISLANDS.values()) {
+                count += index.turtles.size();
+            }
+            activeCount = count;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.bvhfve.aethelon.items;
 
 import com.bvhfve.aethelon.entity.AethelonEntity;
+import com.bvhfve.aethelon.entity.TurtleRegistry;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.Item;
@@ -11,8 +12,6 @@ import net.minecraft.util.ActionResult;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 
-import java.util.List;
-
 /**
  * Ancient Compass - Points to the nearest Aethelon turtle
  * 
@@ -73,23 +72,10 @@ public class AncientCompassItem extends Item {
      * Find the nearest Aethelon turtle within a reasonable range
      */
     private AethelonEntity findNearestTurtle(World world, Vec3d playerPos) {
-        List<AethelonEntity> turtles = world.getEntitiesByClass(AethelonEntity.class,
+        return TurtleRegistry.findNearest(world, playerPos,
                 new net.minecraft.util.math.Box(playerPos.add(-1000, -100, -1000), 
                                                playerPos.add(1000, 100, 1000)),
                 turtle -> true);
-        
-        AethelonEntity nearest = null;
-        double nearestDistance = Double.MAX_VALUE;
-        
-        for (AethelonEntity turtle : turtles) {
-            double distance = playerPos.distanceTo(turtle.getPos());
-            if (distance < nearestDistance) {
-                nearestDistance = distance;
-                nearest = turtle;
-            }
-        }
-        
-        return nearest;
     }
     
     /**
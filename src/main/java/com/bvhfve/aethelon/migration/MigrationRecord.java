@@ -0,0 +1,250 @@
+package com.bvhfve.aethelon.migration;
+
+import com.bvhfve.aethelon.ai.AethelonStateMachine;
+import com.bvhfve.aethelon.entity.AethelonEntity;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtDouble;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtFloat;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.math.random.Random;
+
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Lightweight stand-in for a turtle that is migrating far away from every player
+ *
+ * Holds position, heading, destination and state machine timers, plus the full saved entity
+ * (which carries the island snapshot) so the real AethelonEntity can be re-created unchanged.
+ * State advances analytically: a whole interval of ticks is one straight-line step per state.
+ */
+public class MigrationRecord {
+
+    // Approximate cruising speed of a travelling turtle in blocks per tick
+    public static final double CRUISE_SPEED = 0.25;
+
+    // Random destinations tried before settling for one outside the ocean
+    private static final int DESTINATION_ATTEMPTS = 4;
+
+    public final UUID uuid;
+    private final NbtCompound entityNbt; // Full entity save, including the "Island" snapshot
+
+    private double x;
+    private double y;
+    private double z;
+    private float yaw;
+    private AethelonEntity.AethelonState state;
+    private AethelonEntity.AethelonState previousState;
+    private int stateTimer;
+    private int idleTimeRemaining;
+    private Vec3d destination;
+
+    long lastUpdateTick = -1L;
+    boolean chunkTicking = false;
+
+    private MigrationRecord(UUID uuid, NbtCompound entityNbt) {
+        this.uuid = uuid;
+        this.entityNbt = entityNbt;
+    }
+
+    /**
+     * Build a record from a turtle saved with saveSelfNbt, or null if the data is incomplete
+     */
+    public static MigrationRecord fromEntityNbt(NbtCompound entityNbt) {
+        if (!entityNbt.containsUuid("UUID")) return null;
+        NbtList pos = entityNbt.getList("Pos", NbtElement.DOUBLE_TYPE);
+        if (pos.size() != 3) return null;
+
+        MigrationRecord record = new MigrationRecord(entityNbt.getUuid("UUID"), entityNbt);
+        record.x = pos.getDouble(0);
+        record.y = pos.getDouble(1);
+        record.z = pos.getDouble(2);
+        record.yaw = entityNbt.getList("Rotation", NbtElement.FLOAT_TYPE).getFloat(0);
+
+        NbtCompound ai = entityNbt.getCompound("AI");
+        record.state = parseState(ai.getString("State"), AethelonEntity.AethelonState.MOVING);
+        record.previousState = parseState(ai.getString("PreviousState"), AethelonEntity.AethelonState.IDLE);
+        record.stateTimer = ai.getInt("Timer");
+        record.idleTimeRemaining = ai.getInt("IdleRemaining");
+        record.destination = ai.contains("DestinationX", NbtElement.DOUBLE_TYPE)
+                ? new Vec3d(ai.getDouble("DestinationX"), ai.getDouble("DestinationY"), ai.getDouble("DestinationZ"))
+                : null;
+        return record;
+    }
+
+    /**
+     * Entity data with the simulated position and state written back, ready to be loaded
+     */
+    public NbtCompound toEntityNbt() {
+        NbtList pos = new NbtList();
+        pos.add(NbtDouble.of(x));
+        pos.add(NbtDouble.of(y));
+        pos.add(NbtDouble.of(z));
+        entityNbt.put("Pos", pos);
+
+        NbtList motion = new NbtList();
+        motion.add(NbtDouble.of(0.0));
+        motion.add(NbtDouble.of(0.0));
+        motion.add(NbtDouble.of(0.0));
+        entityNbt.put("Motion", motion);
+
+        NbtList rotation = new NbtList();
+        rotation.add(NbtFloat.of(yaw));
+        rotation.add(NbtFloat.of(0.0f));
+        entityNbt.put("Rotation", rotation);
+
+        NbtCompound ai = entityNbt.getCompound("AI");
+        ai.putString("State", state.name());
+        ai.putString("PreviousState", previousState.name());
+        ai.putInt("Timer", stateTimer);
+        ai.putInt("IdleRemaining", idleTimeRemaining);
+        if (destination != null) {
+            ai.putDouble("DestinationX", destination.x);
+            ai.putDouble("DestinationY", destination.y);
+            ai.putDouble("DestinationZ", destination.z);
+        } else {
+            ai.remove("DestinationX");
+            ai.remove("DestinationY");
+            ai.remove("DestinationZ");
+        }
+        entityNbt.put("AI", ai);
+        return entityNbt;
+    }
+
+    /**
+     * Advance the record by a number of ticks, following the same state cycle as AethelonStateMachine
+     *
+     * @param isOcean test for positions the turtle may swim through (must not load chunks)
+     */
+    public void advance(int ticks, Random random, Predicate<Vec3d> isOcean) {
+        int remaining = ticks;
+        while (remaining > 0) {
+            remaining = switch (state) {
+                case MOVING -> advanceMoving(remaining, isOcean);
+                case TRANSITIONING -> advanceTransitioning(remaining, random, isOcean);
+                case IDLE -> advanceIdle(remaining);
+                case DAMAGED -> {
+                    // No attacker out here - head straight off
+                    destination = pickDestination(random, isOcean);
+                    enterState(AethelonEntity.AethelonState.MOVING);
+                    yield remaining;
+                }
+            };
+        }
+    }
+
+    private int advanceMoving(int ticks, Predicate<Vec3d> isOcean) {
+        if (destination == null) {
+            destination = getPos();
+        }
+
+        double dx = destination.x - x;
+        double dz = destination.z - z;
+        double distance = Math.sqrt(dx * dx + dz * dz);
+        boolean arrived = distance < AethelonStateMachine.ARRIVAL_DISTANCE;
+
+        if ((arrived && stateTimer >= AethelonStateMachine.MIN_MOVEMENT_TIME) || stateTimer > AethelonStateMachine.MAX_MOVEMENT_TIME) {
+            enterState(AethelonEntity.AethelonState.TRANSITIONING);
+            return ticks;
+        }
+
+        // Run until the next event: arrival, minimum journey time or timeout
+        int untilArrival = arrived ? 0 : MathHelper.ceil((distance - AethelonStateMachine.ARRIVAL_DISTANCE) / CRUISE_SPEED);
+        int untilMinimum = AethelonStateMachine.MIN_MOVEMENT_TIME - stateTimer;
+        int untilTimeout = AethelonStateMachine.MAX_MOVEMENT_TIME + 1 - stateTimer;
+        int step = Math.min(ticks, Math.min(untilTimeout, Math.max(untilArrival, untilMinimum)));
+
+        if (!arrived) {
+            double travel = Math.min(step * CRUISE_SPEED, distance);
+            Vec3d next = new Vec3d(x + dx / distance * travel, y, z + dz / distance * travel);
+            if (isOcean.test(next)) {
+                x = next.x;
+                z = next.z;
+                yaw = (float) (Math.atan2(-dx, dz) * 180.0 / Math.PI);
+            } else {
+                // Land ahead - stop here as if the destination was reached
+                destination = getPos();
+            }
+        }
+
+        stateTimer += step;
+        return ticks - step;
+    }
+
+    private int advanceTransitioning(int ticks, Random random, Predicate<Vec3d> isOcean) {
+        int needed = AethelonStateMachine.TRANSITION_TIME - stateTimer;
+        if (ticks < needed) {
+            stateTimer += ticks;
+            return 0;
+        }
+
+        if (previousState == AethelonEntity.AethelonState.IDLE) {
+            destination = pickDestination(random, isOcean);
+            enterState(AethelonEntity.AethelonState.MOVING);
+        } else {
+            idleTimeRemaining = AethelonStateMachine.randomIdleTime(random);
+            enterState(AethelonEntity.AethelonState.IDLE);
+        }
+        return ticks - Math.max(0, needed);
+    }
+
+    private int advanceIdle(int ticks) {
+        if (ticks < idleTimeRemaining) {
+            idleTimeRemaining -= ticks;
+            stateTimer += ticks;
+            return 0;
+        }
+
+        int used = Math.max(0, idleTimeRemaining);
+        idleTimeRemaining = 0;
+        enterState(AethelonEntity.AethelonState.TRANSITIONING);
+        return ticks - used;
+    }
+
+    private void enterState(AethelonEntity.AethelonState newState) {
+        previousState = state;
+        state = newState;
+        stateTimer = 0;
+    }
+
+    private Vec3d pickDestination(Random random, Predicate<Vec3d> isOcean) {
+        Vec3d candidate = getPos();
+        for (int attempt = 0; attempt < DESTINATION_ATTEMPTS; attempt++) {
+            candidate = AethelonStateMachine.randomDestination(getPos(), random);
+            if (isOcean.test(candidate)) break;
+        }
+        return candidate;
+    }
+
+    private static AethelonEntity.AethelonState parseState(String name, AethelonEntity.AethelonState fallback) {
+        try {
+            return AethelonEntity.AethelonState.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+
+    public Vec3d getPos() {
+        return new Vec3d(x, y, z);
+    }
+
+    public BlockPos getBlockPos() {
+        return BlockPos.ofFloored(x, y, z);
+    }
+
+    public AethelonEntity.AethelonState getState() {
+        return state;
+    }
+
+    public Vec3d getDestination() {
+        return destination;
+    }
+
+    public float getHeading() {
+        return yaw;
+    }
+}
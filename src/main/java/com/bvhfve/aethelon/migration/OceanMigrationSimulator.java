@@ -0,0 +1,249 @@
+package com.bvhfve.aethelon.migration;
+
+import com.bvhfve.aethelon.config.AethelonConfig;
+import com.bvhfve.aethelon.entity.AethelonEntity;
+import com.bvhfve.aethelon.entity.TurtlePopulationLedger;
+import com.bvhfve.aethelon.navigation.OceanNavigationGraph;
+import com.bvhfve.aethelon.util.PlayerProximityService;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.SpawnReason;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.PersistentState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Far-field ocean migration simulator
+ *
+ * Travelling turtles that stay beyond migration_distance from every player are saved into
+ * MigrationRecords and removed from the world. Records are advanced analytically a few times
+ * per second and re-created as real turtles when a player comes close or their chunk starts
+ * ticking. Records are stored per world in a PersistentState, so they survive restarts.
+ */
+public class OceanMigrationSimulator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("AethelonMigration");
+
+    private static final String STATE_ID = "aethelon_migrations";
+
+    // Records advance every 5 ticks (4 times per second)
+    private static final int UPDATE_INTERVAL = 5;
+
+    // Ticks a turtle must stay in the far field before it becomes a record
+    public static final int CONVERSION_DELAY_TICKS = 20 * 10;
+
+    // Players must come this much closer than migration_distance to re-create a turtle (hysteresis)
+    private static final double REMATERIALIZE_MARGIN = 32.0;
+
+    /**
+     * Migration records of one world
+     */
+    public static class MigrationState extends PersistentState {
+        private final Map<UUID, MigrationRecord> records = new LinkedHashMap<>();
+
+        public static final PersistentState.Type<MigrationState> TYPE =
+                new PersistentState.Type<>(MigrationState::new, MigrationState::fromNbt, null);
+
+        private static MigrationState fromNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registries) {
+            MigrationState state = new MigrationState();
+            NbtList list = nbt.getList("Records", NbtElement.COMPOUND_TYPE);
+            for (int i = 0; i < list.size(); i++) {
+                MigrationRecord record = MigrationRecord.fromEntityNbt(list.getCompound(i));
+                if (record != null) {
+                    state.records.put(record.uuid, record);
+                }
+            }
+            return state;
+        }
+
+        @Override
+        public NbtCompound writeNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registries) {
+            NbtList list = new NbtList();
+            for (MigrationRecord record : records.values()) {
+                list.add(record.toEntityNbt().copy());
+            }
+            nbt.put("Records", list);
+            return nbt;
+        }
+
+        public Collection<MigrationRecord> getRecords() {
+            return records.values();
+        }
+    }
+
+    /**
+     * Register the simulation tick
+     */
+    public static void initialize() {
+        ServerTickEvents.END_WORLD_TICK.register(OceanMigrationSimulator::tickWorld);
+        LOGGER.info("Ocean migration simulator initialized");
+    }
+
+    /**
+     * Whether a turtle is a candidate for the far field: travelling, not in a fight, nothing riding it,
+     * no placed island blocks to leave behind, and every player beyond migration_distance
+     */
+    public static boolean isFarField(AethelonEntity turtle) {
+        if (!isEnabled()) return false;
+        if (turtle.getStateMachine() == null || !turtle.getStateMachine().isMoving()) return false;
+        if (turtle.isUnderAttack() || turtle.hasPassengers() || turtle.hasVehicle()) return false;
+        if (turtle.hasIsland() && (!turtle.getIslandManager().isVirtual() || turtle.getIslandManager().isPlacementPending())) return false;
+
+        return PlayerProximityService.get(turtle).getDistance() > getMigrationDistance();
+    }
+
+    /**
+     * Replace a turtle with a migration record
+     */
+    public static boolean convert(ServerWorld world, AethelonEntity turtle) {
+        try {
+            NbtCompound nbt = new NbtCompound();
+            if (!turtle.saveSelfNbt(nbt)) return false;
+
+            MigrationRecord record = MigrationRecord.fromEntityNbt(nbt);
+            if (record == null) return false;
+            record.lastUpdateTick = world.getServer().getTicks();
+            record.chunkTicking = true;
+
+            MigrationState state = getState(world);
+            state.records.put(record.uuid, record);
+            state.markDirty();
+
+            turtle.discardForMigration();
+            LOGGER.debug("Turtle {} entered the far field at {}", record.uuid, record.getBlockPos());
+            return true;
+
+        } catch (Exception e) {
+            LOGGER.error("Failed to convert turtle at {} into a migration record", turtle.getBlockPos(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Number of simulated (not loaded) turtles in a world
+     */
+    public static int getRecordCount(ServerWorld world) {
+        return getState(world).records.size();
+    }
+
+    /**
+     * Check if a turtle currently lives on as a migration record
+     */
+    public static boolean hasRecord(ServerWorld world, UUID uuid) {
+        return getState(world).records.containsKey(uuid);
+    }
+
+    /**
+     * All migration records of a world (read-only use)
+     */
+    public static Collection<MigrationRecord> getRecords(ServerWorld world) {
+        return getState(world).getRecords();
+    }
+
+    private static void tickWorld(ServerWorld world) {
+        long now = world.getServer().getTicks();
+        if (now % UPDATE_INTERVAL != 0) return;
+
+        MigrationState state = getState(world);
+        if (state.records.isEmpty()) return;
+
+        Predicate<Vec3d> isOcean = pos -> isOcean(world, pos);
+        List<MigrationRecord> arrived = new ArrayList<>();
+
+        for (MigrationRecord record : state.records.values()) {
+            // Server tick counts restart with the server - start the clock again instead of jumping
+            long elapsed = record.lastUpdateTick < 0 ? 0 : now - record.lastUpdateTick;
+            record.lastUpdateTick = now;
+            if (elapsed > 0) {
+                record.advance((int) Math.min(Integer.MAX_VALUE, elapsed), world.getRandom(), isOcean);
+            }
+
+            // Keep the population ledger's last-known chunk current while the turtle is unloaded
+            BlockPos pos = record.getBlockPos();
+            TurtlePopulationLedger.move(world, record.uuid, ChunkPos.toLong(pos));
+
+            // Chunk-load trigger is edge based, so a record does not pop back in the chunk it left from
+            boolean ticking = world.shouldTickEntity(pos);
+            boolean chunkStartedTicking = ticking && !record.chunkTicking;
+            record.chunkTicking = ticking;
+
+            if (ticking && (chunkStartedTicking || isPlayerNear(world, record.getPos()))) {
+                arrived.add(record);
+            }
+        }
+
+        for (MigrationRecord record : arrived) {
+            rematerialize(world, state, record);
+        }
+        state.markDirty();
+    }
+
+    private static void rematerialize(ServerWorld world, MigrationState state, MigrationRecord record) {
+        state.records.remove(record.uuid);
+        try {
+            Entity entity = EntityType.loadEntityWithPassengers(record.toEntityNbt(), world, SpawnReason.LOAD, loaded -> loaded);
+            if (!(entity instanceof AethelonEntity)) {
+                LOGGER.warn("Dropping migration record {}: saved data is not a turtle", record.uuid);
+                TurtlePopulationLedger.remove(world, record.uuid);
+                return;
+            }
+            if (!world.tryLoadEntity(entity)) {
+                LOGGER.warn("Dropping migration record {}: a turtle with that id already exists", record.uuid);
+                return;
+            }
+            LOGGER.debug("Turtle {} left the far field at {} ({})", record.uuid, record.getBlockPos(), record.getState());
+
+        } catch (Exception e) {
+            LOGGER.error("Failed to re-create turtle {} from its migration record", record.uuid, e);
+        }
+    }
+
+    private static boolean isPlayerNear(ServerWorld world, Vec3d pos) {
+        double range = Math.max(0.0, getMigrationDistance() - REMATERIALIZE_MARGIN);
+        double rangeSquared = range * range;
+        for (PlayerEntity player : world.getPlayers()) {
+            if (!player.isSpectator() && player.squaredDistanceTo(pos) <= rangeSquared) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Ocean test straight from the biome source - never loads or generates chunks
+     */
+    private static boolean isOcean(ServerWorld world, Vec3d pos) {
+        return OceanNavigationGraph.isOceanColumn(world, MathHelper.floor(pos.x), MathHelper.floor(pos.z));
+    }
+
+    private static MigrationState getState(ServerWorld world) {
+        return world.getPersistentStateManager().getOrCreate(MigrationState.TYPE, STATE_ID);
+    }
+
+    private static boolean isEnabled() {
+        return AethelonConfig.INSTANCE == null || AethelonConfig.INSTANCE.enable_far_field_migration;
+    }
+
+    private static double getMigrationDistance() {
+        return AethelonConfig.INSTANCE != null ? AethelonConfig.INSTANCE.migration_distance : 128.0;
+    }
+}
@@ -0,0 +1,26 @@
+package com.bvhfve.aethelon.mixin;
+
+import com.bvhfve.aethelon.util.EntityHookFlags;
+import net.minecraft.entity.EntityType;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+/**
+ * Stores the precomputed hook flags on each entity type
+ */
+@Mixin(EntityType.class)
+public class EntityTypeMixin implements EntityHookFlags.Holder {
+
+    @Unique
+    private int aethelon$hookFlags = 0;
+
+    @Override
+    public int aethelon$getHookFlags() {
+        return aethelon$hookFlags;
+    }
+
+    @Override
+    public void aethelon$setHookFlags(int flags) {
+        this.aethelon$hookFlags = flags;
+    }
+}
@@ -1,7 +1,7 @@
 package com.bvhfve.aethelon.mixin;
 
 import com.bvhfve.aethelon.compat.AlexsMobsCompat;
-import com.bvhfve.aethelon.compat.ModCompatibility;
+import com.bvhfve.aethelon.util.EntityHookFlags;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.damage.DamageSource;
@@ -18,38 +18,21 @@ public class LivingEntityMixin {
     
     /**
      * Reduce damage from Alex's Mobs when wearing turtle shell armor
+     * Gated on precomputed type flags: only players hit by a protected-against mob go further
      */
     @ModifyVariable(method = "damage", at = @At("HEAD"), argsOnly = true)
     private float reduceDamageFromAlexsMobs(float amount, net.minecraft.server.world.ServerWorld world, DamageSource source, float originalAmount) {
-        try {
-            // Only apply to players
-            if (!((Object) this instanceof PlayerEntity)) {
-                return amount;
-            }
-            
-            PlayerEntity player = (PlayerEntity) (Object) this;
-            
-            // Check if Alex's Mobs is loaded
-            if (!ModCompatibility.isModLoaded(ModCompatibility.ALEXS_MOBS)) {
-                return amount;
-            }
-            
-            // Check if damage is from an Alex's mob
-            Entity attacker = source.getAttacker();
-            if (attacker == null) {
-                return amount;
-            }
-            
-            // Apply turtle shell protection
-            if (AlexsMobsCompat.hasTurtleShellProtection(player, attacker)) {
-                float reduction = AlexsMobsCompat.getTurtleShellDamageReduction(player, attacker);
-                return amount * (1.0f - reduction);
-            }
-            
-        } catch (Exception e) {
-            // Silently handle any compatibility errors
+        if (!EntityHookFlags.has((Entity) (Object) this, EntityHookFlags.SHELL_ARMOR)) {
+            return amount;
         }
         
-        return amount;
+        Entity attacker = source.getAttacker();
+        if (attacker == null || !EntityHookFlags.has(attacker, EntityHookFlags.ALEXS_MOBS_HOSTILE)) {
+            return amount;
+        }
+        
+        // Apply turtle shell protection
+        PlayerEntity player = (PlayerEntity) (Object) this;
+        return amount * (1.0f - AlexsMobsCompat.getTurtleShellDamageReduction(player, attacker));
     }
 }
\ No newline at end of file
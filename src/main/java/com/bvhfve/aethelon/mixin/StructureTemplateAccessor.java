@@ -0,0 +1,29 @@
+package com.bvhfve.aethelon.mixin;
+
+import net.minecraft.structure.StructureTemplate;
+import net.minecraft.util.BlockMirror;
+import net.minecraft.util.BlockRotation;
+import net.minecraft.util.math.BlockBox;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.ServerWorldAccess;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+import org.spongepowered.asm.mixin.gen.Invoker;
+
+import java.util.List;
+
+/**
+ * Access to template internals so islands can be placed incrementally
+ * instead of through a single StructureTemplate.place call
+ */
+@Mixin(StructureTemplate.class)
+public interface StructureTemplateAccessor {
+
+    @Accessor("blockInfoLists")
+    List<StructureTemplate.PalettedBlockInfoList> aethelon$getBlockInfoLists();
+
+    @Invoker("spawnEntities")
+    void aethelon$invokeSpawnEntities(ServerWorldAccess world, BlockPos pos, BlockMirror mirror, BlockRotation rotation,
+                                      BlockPos pivot, @Nullable BlockBox area, boolean initializeMobs);
+}
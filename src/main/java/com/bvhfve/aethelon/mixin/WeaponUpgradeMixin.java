@@ -1,13 +1,17 @@
 package com.bvhfve.aethelon.mixin;
 
 import com.bvhfve.aethelon.upgrade.ElementalEffects;
+import com.bvhfve.aethelon.upgrade.WeaponUpgrade;
 import com.bvhfve.aethelon.upgrade.WeaponUpgradeSystem;
+import com.bvhfve.aethelon.util.EntityHookFlags;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.attribute.EntityAttributes;
+import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.tooltip.TooltipType;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 import org.spongepowered.asm.mixin.Mixin;
@@ -30,9 +34,12 @@ public class WeaponUpgradeMixin {
      */
     @Inject(method = "onAttacking", at = @At("TAIL"))
     private void applyUpgradeEffects(Entity target, CallbackInfo ci) {
-        LivingEntity attacker = (LivingEntity) (Object) this;
+        // Only types that can wield upgraded weapons go past this field read
+        if (!EntityHookFlags.has((Entity) (Object) this, EntityHookFlags.WEAPON_UPGRADES)) {
+            return;
+        }
         
-        if (attacker instanceof PlayerEntity player && target instanceof LivingEntity livingTarget) {
+        if ((Object) this instanceof PlayerEntity player && target instanceof LivingEntity livingTarget) {
             ItemStack weapon = player.getMainHandStack();
             
             if (WeaponUpgradeSystem.getUpgradeTier(weapon) > 0) {
@@ -42,13 +49,17 @@ public class WeaponUpgradeMixin {
     }
     
     /**
-     * Modify damage based on weapon upgrades
+     * Modify damage dealt by a player's melee hit with an upgraded weapon
      */
     @ModifyVariable(method = "damage", at = @At("HEAD"), argsOnly = true)
-    private float modifyDamageForUpgrades(float amount) {
-        LivingEntity entity = (LivingEntity) (Object) this;
+    private float modifyDamageForUpgrades(float amount, ServerWorld world, DamageSource source, float originalAmount) {
+        // Direct hits only: projectiles and indirect damage don't use the held weapon
+        Entity attacker = source.getAttacker();
+        if (attacker == null || attacker != source.getSource() || !EntityHookFlags.has(attacker, EntityHookFlags.WEAPON_UPGRADES)) {
+            return amount;
+        }
         
-        if (entity instanceof PlayerEntity player) {
+        if (attacker instanceof PlayerEntity player) {
             ItemStack weapon = player.getMainHandStack();
             float damageBonus = WeaponUpgradeSystem.getDamageBonus(weapon);
             
@@ -76,34 +87,33 @@ class ItemStackUpgradeMixin {
         List<Text> tooltip = cir.getReturnValue();
         
         if (WeaponUpgradeSystem.canUpgrade(stack)) {
-            int tier = WeaponUpgradeSystem.getUpgradeTier(stack);
+            WeaponUpgrade upgrade = WeaponUpgradeSystem.getUpgrade(stack);
             
-            if (tier > 0) {
-                WeaponUpgradeSystem.GemType upgradeType = WeaponUpgradeSystem.getUpgradeType(stack);
-                if (upgradeType != null) {
-                    tooltip.add(Text.literal(""));
-                    tooltip.add(Text.literal("Gem Enhancement:").formatted(Formatting.GOLD, Formatting.BOLD));
-                    
-                    String tierRoman = switch (tier) {
-                        case 1 -> "I";
-                        case 2 -> "II";
-                        case 3 -> "III";
-                        case 4 -> "IV";
-                        case 5 -> "V";
-                        default -> String.valueOf(tier);
-                    };
-                    
-                    tooltip.add(Text.literal("• " + upgradeType.getDisplayName() + " Tier " + tierRoman)
-                        .formatted(upgradeType.getColor()));
-                    
-                    float damageBonus = WeaponUpgradeSystem.getDamageBonus(stack);
-                    tooltip.add(Text.literal("• +" + (int)(damageBonus * 100) + "% Damage")
-                        .formatted(Formatting.RED));
-                    
-                    String effectDesc = ElementalEffects.getEffectDescription(upgradeType, tier);
-                    tooltip.add(Text.literal("• " + effectDesc)
-                        .formatted(Formatting.GRAY));
-                }
+            if (upgrade != null) {
+                WeaponUpgradeSystem.GemType upgradeType = upgrade.type();
+                int tier = upgrade.tier();
+                tooltip.add(Text.literal(""));
+                tooltip.add(Text.literal("Gem Enhancement:").formatted(Formatting.GOLD, Formatting.BOLD));
+                
+                String tierRoman = switch (tier) {
+                    case 1 -> "I";
+                    case 2 -> "II";
+                    case 3 -> "III";
+                    case 4 -> "IV";
+                    case 5 -> "V";
+                    default -> String.valueOf(tier);
+                };
+                
+                tooltip.add(Text.literal("• " + upgradeType.getDisplayName() + " Tier " + tierRoman)
+                    .formatted(upgradeType.getColor()));
+                
+                float damageBonus = upgrade.damageBonus();
+                tooltip.add(Text.literal("• +" + (int)(damageBonus * 100) + "% Damage")
+                    .formatted(Formatting.RED));
+                
+                String effectDesc = ElementalEffects.getEffectDescription(upgradeType, tier);
+                tooltip.add(Text.literal("• " + effectDesc)
+                    .formatted(Formatting.GRAY));
             } else {
                 // Show upgrade hint for unupgraded weapons
                 tooltip.add(Text.literal(""));
@@ -0,0 +1,44 @@
+package com.bvhfve.aethelon.mixin;
+
+import com.bvhfve.aethelon.entity.TurtleSleepManager;
+import com.bvhfve.aethelon.navigation.OceanNavigationGraph;
+import com.bvhfve.aethelon.ocean.OceanDepthField;
+import com.bvhfve.aethelon.ocean.SpawnSuitabilityMap;
+import com.llamalad7.mixinextras.injector.ModifyReturnValue;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.WorldChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+/**
+ * Keeps the ocean depth field, navigation graph and spawn suitability bits in step with block changes in loaded chunks
+ */
+@Mixin(WorldChunk.class)
+public abstract class WorldChunkMixin {
+
+    /**
+     * Clear cached data when a block actually changed (a null return means nothing changed)
+     * Runs for every block change in the game, so changes that keep air, solidity and fluid
+     * the same - everything the ocean caches and island wake checks look at - return at once.
+     * ModifyReturnValue passes the previous state straight through without a callback object.
+     */
+    @ModifyReturnValue(method = "setBlockState", at = @At("RETURN"))
+    private BlockState aethelon$onBlockChanged(BlockState previous, BlockPos pos, BlockState state, boolean moved) {
+        if (previous == null
+                || previous.isAir() == state.isAir()
+                && previous.blocksMovement() == state.blocksMovement()
+                && previous.getFluidState().isEmpty() == state.getFluidState().isEmpty()) {
+            return previous;
+        }
+        WorldChunk chunk = (WorldChunk) (Object) this;
+        if (chunk.getWorld() instanceof ServerWorld serverWorld) {
+            OceanDepthField.invalidate(serverWorld, pos);
+            SpawnSuitabilityMap.onBlockChanged(chunk, pos);
+            OceanNavigationGraph.invalidate(serverWorld, pos);
+            TurtleSleepManager.onBlockChanged(serverWorld, pos);
+        }
+        return previous;
+    }
+}
@@ -0,0 +1,153 @@
+package com.bvhfve.aethelon.navigation;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs ocean route searches on a small worker pool
+ *
+ * Features:
+ * - The server thread only copies the nodes of loaded chunks around the journey into an immutable snapshot
+ * - Workers estimate the remaining chunks from the biome source and run the A* search
+ * - Results are picked up by the requester on a later tick; cancelled requests are skipped, and
+ *   running searches stop at their next expansion
+ * - The pool is created on first use and shut down when the server stops, so no search outlives its world
+ */
+public class AsyncRoutePlanner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("AethelonRoutePlanner");
+
+    // Chunks around the start/goal rectangle the search may use for detours
+    private static final int SNAPSHOT_MARGIN = 8;
+
+    private static ExecutorService executor;
+
+    /**
+     * A pending route search
+     */
+    public static class RouteRequest {
+        private final Vec3d destination;
+        private final CompletableFuture<OceanNavigationGraph.Route> future;
+        private volatile boolean cancelled = false;
+
+        private RouteRequest(Vec3d destination, CompletableFuture<OceanNavigationGraph.Route> future) {
+            this.destination = destination;
+            this.future = future;
+        }
+
+        /**
+         * Destination the route was requested for
+         */
+        public Vec3d getDestination() {
+            return destination;
+        }
+
+        public boolean isDone() {
+            return future.isDone();
+        }
+
+        /**
+         * Finished route, or null if the request is still running, was cancelled or failed
+         */
+        public OceanNavigationGraph.Route getResult() {
+            if (cancelled || !future.isDone() || future.isCompletedExceptionally()) return null;
+            return future.getNow(null);
+        }
+
+        /**
+         * Drop the request (destination changed or the turtle stopped travelling)
+         */
+        public void cancel() {
+            cancelled = true;
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * Register server lifecycle hooks
+     */
+    public static void initialize() {
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> shutdown());
+        LOGGER.info("Async route planner initialized");
+    }
+
+    /**
+     * Stop the worker pool; queued searches are dropped and running ones interrupted
+     */
+    public static void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Snapshot the navigation data around a journey and plan the route off-thread (server thread)
+     */
+    public static RouteRequest request(ServerWorld world, Vec3d from, Vec3d to) {
+        Long2IntOpenHashMap snapshot = OceanNavigationGraph.snapshot(world, from, to, SNAPSHOT_MARGIN);
+        int minX = ChunkSectionPos.getSectionCoord(MathHelper.floor(Math.min(from.x, to.x))) - SNAPSHOT_MARGIN;
+        int maxX = ChunkSectionPos.getSectionCoord(MathHelper.floor(Math.max(from.x, to.x))) + SNAPSHOT_MARGIN;
+        int minZ = ChunkSectionPos.getSectionCoord(MathHelper.floor(Math.min(from.z, to.z))) - SNAPSHOT_MARGIN;
+        int maxZ = ChunkSectionPos.getSectionCoord(MathHelper.floor(Math.max(from.z, to.z))) + SNAPSHOT_MARGIN;
+
+        CompletableFuture<OceanNavigationGraph.Route> future = new CompletableFuture<>();
+        RouteRequest request = new RouteRequest(to, future);
+
+        if (executor == null) {
+            executor = createExecutor();
+        }
+        executor.execute(() -> {
+            if (request.cancelled) return;
+            try {
+                // Estimates are memoised per search; chunks outside the snapshot window are walls
+                Long2IntOpenHashMap estimates = new Long2IntOpenHashMap();
+                estimates.defaultReturnValue(OceanNavigationGraph.MISSING);
+                OceanNavigationGraph.Route route = OceanNavigationGraph.search(key -> {
+                    int node = snapshot.get(key);
+                    if (node != OceanNavigationGraph.MISSING) return node;
+
+                    int chunkX = ChunkPos.getPackedX(key);
+                    int chunkZ = ChunkPos.getPackedZ(key);
+                    if (chunkX < minX || chunkX > maxX || chunkZ < minZ || chunkZ > maxZ) return 0;
+
+                    node = estimates.get(key);
+                    if (node == OceanNavigationGraph.MISSING) {
+                        node = OceanNavigationGraph.estimateNode(world, key);
+                        estimates.put(key, node);
+                    }
+                    return node;
+                }, from, to, () -> request.cancelled || Thread.currentThread().isInterrupted());
+                future.complete(route);
+
+            } catch (Exception e) {
+                LOGGER.error("Route search from {} to {} failed", from, to, e);
+                future.completeExceptionally(e);
+            }
+        });
+        return request;
+    }
+
+    private static ExecutorService createExecutor() {
+        int threads = MathHelper.clamp(Runtime.getRuntime().availableProcessors() / 4, 1, 2);
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "Aethelon Route Planner #" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        });
+    }
+}
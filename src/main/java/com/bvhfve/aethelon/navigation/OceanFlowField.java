@@ -0,0 +1,181 @@
+package com.bvhfve.aethelon.navigation;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Shared steering field over the ocean, one vector per chunk pointing towards deeper, more open water
+ *
+ * Features:
+ * - Built lazily per 8x8 chunk region from the navigation graph's depth annotations
+ *   (depth gradient smoothed over a 5x5 chunk neighbourhood)
+ * - A region is dropped when a node it was built from changes and rebuilt on the next sample;
+ *   at most MAX_REGIONS per world are kept, the least recently sampled are evicted
+ * - Ocean chunks whose depth is only estimated are left out of the gradient, so turtles are
+ *   never pulled towards unloaded water
+ * - Sampling is O(1): bilinear interpolation of the four surrounding chunk vectors gives a per-column value
+ * - Open deep water has a near-zero vector, so the field only pushes turtles away from shallows and coasts
+ *
+ * Every turtle in a region reads the same field, so crowds cost about as much as a single turtle.
+ */
+public class OceanFlowField {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("AethelonFlowField");
+
+    // Regions of 8x8 chunks
+    private static final int REGION_SHIFT = 3;
+    private static final int REGION_SIZE = 1 << REGION_SHIFT;
+
+    // Neighbourhood radius in chunks used for the gradient
+    private static final int KERNEL_RADIUS = 2;
+
+    // Flow weaker than this counts as open water
+    private static final double SETTLED_FLOW = 0.05;
+
+    // Cached regions per world (256 regions cover as many chunks as the navigation node cache)
+    private static final int MAX_REGIONS = 256;
+
+    private static final Map<ServerWorld, Long2ObjectLinkedOpenHashMap<float[]>> REGIONS = new WeakHashMap<>();
+
+    /**
+     * Register server lifecycle hooks
+     */
+    public static void initialize() {
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> REGIONS.clear());
+        LOGGER.info("Ocean flow field initialized");
+    }
+
+    /**
+     * Flow at a column: horizontal vector towards deeper water, length 0 (open ocean) to 1 (steep shallows)
+     */
+    public static Vec3d getFlow(ServerWorld world, double x, double z) {
+        if (!world.getServer().isOnThread()) return Vec3d.ZERO;
+
+        // Lattice of chunk centres
+        double gridX = (x - 8.0) / 16.0;
+        double gridZ = (z - 8.0) / 16.0;
+        int x0 = MathHelper.floor(gridX);
+        int z0 = MathHelper.floor(gridZ);
+        double tx = gridX - x0;
+        double tz = gridZ - z0;
+
+        float[] v00 = getRegion(world, x0 >> REGION_SHIFT, z0 >> REGION_SHIFT);
+        int i00 = index(x0, z0);
+        float[] v10 = getRegion(world, (x0 + 1) >> REGION_SHIFT, z0 >> REGION_SHIFT);
+        int i10 = index(x0 + 1, z0);
+        float[] v01 = getRegion(world, x0 >> REGION_SHIFT, (z0 + 1) >> REGION_SHIFT);
+        int i01 = index(x0, z0 + 1);
+        float[] v11 = getRegion(world, (x0 + 1) >> REGION_SHIFT, (z0 + 1) >> REGION_SHIFT);
+        int i11 = index(x0 + 1, z0 + 1);
+
+        double flowX = MathHelper.lerp2(tx, tz, v00[i00], v10[i10], v01[i01], v11[i11]);
+        double flowZ = MathHelper.lerp2(tx, tz, v00[i00 + 1], v10[i10 + 1], v01[i01 + 1], v11[i11 + 1]);
+        return new Vec3d(flowX, 0.0, flowZ);
+    }
+
+    public static Vec3d getFlow(ServerWorld world, Vec3d pos) {
+        return getFlow(world, pos.x, pos.z);
+    }
+
+    /**
+     * Follow the field from a position until it reaches open water (or runs out of steps)
+     */
+    public static Vec3d settle(ServerWorld world, Vec3d pos, int maxSteps, double stepLength) {
+        Vec3d current = pos;
+        for (int step = 0; step < maxSteps; step++) {
+            Vec3d flow = getFlow(world, current);
+            double length = flow.horizontalLength();
+            if (length < SETTLED_FLOW) break;
+            current = current.add(flow.multiply(stepLength / length));
+        }
+        return current;
+    }
+
+    /**
+     * Drop the regions whose vectors depend on a chunk's node
+     */
+    static void invalidateAround(ServerWorld world, int chunkX, int chunkZ) {
+        Long2ObjectLinkedOpenHashMap<float[]> regions = REGIONS.get(world);
+        if (regions == null || regions.isEmpty()) return;
+
+        for (int regionX = (chunkX - KERNEL_RADIUS) >> REGION_SHIFT; regionX <= (chunkX + KERNEL_RADIUS) >> REGION_SHIFT; regionX++) {
+            for (int regionZ = (chunkZ - KERNEL_RADIUS) >> REGION_SHIFT; regionZ <= (chunkZ + KERNEL_RADIUS) >> REGION_SHIFT; regionZ++) {
+                regions.remove(ChunkPos.toLong(regionX, regionZ));
+            }
+        }
+    }
+
+    private static int index(int chunkX, int chunkZ) {
+        return ((chunkZ & (REGION_SIZE - 1)) << REGION_SHIFT | (chunkX & (REGION_SIZE - 1))) * 2;
+    }
+
+    private static float[] getRegion(ServerWorld world, int regionX, int regionZ) {
+        Long2ObjectLinkedOpenHashMap<float[]> regions = REGIONS.computeIfAbsent(world, w -> new Long2ObjectLinkedOpenHashMap<>());
+        long key = ChunkPos.toLong(regionX, regionZ);
+        float[] region = regions.getAndMoveToLast(key);
+        if (region == null) {
+            region = build(world, regionX, regionZ);
+            regions.putAndMoveToLast(key, region);
+            while (regions.size() > MAX_REGIONS) {
+                regions.removeFirst();
+            }
+        }
+        return region;
+    }
+
+    private static float[] build(ServerWorld world, int regionX, int regionZ) {
+        int span = REGION_SIZE + KERNEL_RADIUS * 2;
+        int baseX = (regionX << REGION_SHIFT) - KERNEL_RADIUS;
+        int baseZ = (regionZ << REGION_SHIFT) - KERNEL_RADIUS;
+
+        double[] scores = new double[span * span];
+        for (int z = 0; z < span; z++) {
+            for (int x = 0; x < span; x++) {
+                int node = OceanNavigationGraph.getNode(world, baseX + x, baseZ + z);
+                scores[z * span + x] = OceanNavigationGraph.hasDepth(node) ? OceanNavigationGraph.getDepthScore(node) : Double.NaN;
+            }
+        }
+
+        float[] vectors = new float[REGION_SIZE * REGION_SIZE * 2];
+        for (int lz = 0; lz < REGION_SIZE; lz++) {
+            for (int lx = 0; lx < REGION_SIZE; lx++) {
+                int cx = lx + KERNEL_RADIUS;
+                int cz = lz + KERNEL_RADIUS;
+                double center = scores[cz * span + cx];
+                double flowX = 0.0;
+                double flowZ = 0.0;
+                if (Double.isNaN(center)) continue;
+
+                // Inverse-square weighted gradient towards deeper neighbours
+                for (int dz = -KERNEL_RADIUS; dz <= KERNEL_RADIUS; dz++) {
+                    for (int dx = -KERNEL_RADIUS; dx <= KERNEL_RADIUS; dx++) {
+                        double neighbour = scores[(cz + dz) * span + cx + dx];
+                        if (dx == 0 && dz == 0 || Double.isNaN(neighbour)) continue;
+                        double weight = (neighbour - center) / (dx * dx + dz * dz);
+                        flowX += weight * dx;
+                        flowZ += weight * dz;
+                    }
+                }
+
+                double length = Math.sqrt(flowX * flowX + flowZ * flowZ);
+                if (length > 1.0) {
+                    flowX /= length;
+                    flowZ /= length;
+                }
+                int index = (lz << REGION_SHIFT | lx) * 2;
+                vectors[index] = (float) flowX;
+                vectors[index + 1] = (float) flowZ;
+            }
+        }
+        return vectors;
+    }
+}
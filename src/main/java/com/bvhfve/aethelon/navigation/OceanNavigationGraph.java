@@ -0,0 +1,443 @@
+package com.bvhfve.aethelon.navigation;
+
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntFunction;
+import it.unimi.dsi.fastutil.longs.Long2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectHeapPriorityQueue;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.minecraft.registry.tag.BiomeTags;
+import net.minecraft.registry.tag.FluidTags;
+import net.minecraft.server.world.ServerChunkManager;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.biome.source.BiomeCoords;
+import net.minecraft.world.chunk.WorldChunk;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Coarse ocean navigation layer: one node per chunk, A* over the chunk grid
+ *
+ * Features:
+ * - Loaded chunks are annotated once from heightmaps (ocean-ness, minimum and deep-column count
+ *   of 16 sampled columns below sea level) and cached until the chunk unloads or changes underwater
+ * - The node cache holds at most MAX_NODES per world; the least recently used nodes are evicted
+ * - Chunks that are not loaded are estimated from the biome source and never loaded or generated
+ * - Routes are chunk-centre waypoints; block-level pathing is left to the final local segment
+ * - Searches are capped at MAX_EXPANSIONS and fall back to the node closest to the goal
+ */
+public class OceanNavigationGraph {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("AethelonOceanNav");
+
+    // Water depth a turtle needs to swim freely
+    public static final int MIN_NAV_DEPTH = 10;
+
+    // Node expansions per search - a 500 block journey needs a few hundred
+    private static final int MAX_EXPANSIONS = 1024;
+
+    // Columns sampled per chunk (4x4 grid)
+    private static final int SAMPLES = 16;
+
+    // Packed node layout: bit 0 known (from chunk data), bit 1 ocean, bits 8-15 min depth, bits 16-23 deep samples
+    private static final int KNOWN = 1;
+    private static final int OCEAN = 1 << 1;
+    static final int MISSING = -1;
+
+    // Extra cost for chunks whose depth is only estimated
+    private static final double UNKNOWN_PENALTY = 0.5;
+
+    // Cached nodes per world - estimates for far-away chunks would otherwise pile up forever
+    private static final int MAX_NODES = 16384;
+
+    private static final Map<ServerWorld, Long2IntLinkedOpenHashMap> NODES = new WeakHashMap<>();
+
+    /**
+     * Result of a route search
+     *
+     * @param waypoints  chunk-centre waypoints after the start chunk (the destination itself when complete)
+     * @param complete   whether the destination chunk was reached; otherwise the route ends at the closest node found
+     * @param expansions nodes expanded by the search
+     */
+    public record Route(List<Vec3d> waypoints, boolean complete, int expansions) {
+        public Vec3d getEnd() {
+            return waypoints.isEmpty() ? null : waypoints.get(waypoints.size() - 1);
+        }
+    }
+
+    private record OpenNode(long key, double f) {
+    }
+
+    /**
+     * Register chunk and server lifecycle hooks
+     */
+    public static void initialize() {
+        // Loading replaces biome estimates with real data, unloading drops the annotation
+        ServerChunkEvents.CHUNK_LOAD.register((world, chunk) -> invalidateChunk(world, chunk.getPos().x, chunk.getPos().z));
+        ServerChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> invalidateChunk(world, chunk.getPos().x, chunk.getPos().z));
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> NODES.clear());
+        LOGGER.info("Ocean navigation graph initialized");
+    }
+
+    /**
+     * Plan a route between two positions (server thread)
+     */
+    public static Route findRoute(ServerWorld world, Vec3d from, Vec3d to) {
+        return search(key -> getNode(world, ChunkPos.getPackedX(key), ChunkPos.getPackedZ(key)), from, to, () -> false);
+    }
+
+    /**
+     * Nearest navigable chunk centre within a radius of chunks, or null
+     */
+    public static Vec3d findNearestNavigable(ServerWorld world, Vec3d center, int radiusChunks) {
+        int centerX = ChunkSectionPos.getSectionCoord(MathHelper.floor(center.x));
+        int centerZ = ChunkSectionPos.getSectionCoord(MathHelper.floor(center.z));
+
+        for (int radius = 0; radius <= radiusChunks; radius++) {
+            for (int dx = -radius; dx <= radius; dx++) {
+                for (int dz = -radius; dz <= radius; dz++) {
+                    if (Math.max(Math.abs(dx), Math.abs(dz)) != radius) continue; // Ring only
+                    if (isPassable(getNode(world, centerX + dx, centerZ + dz))) {
+                        return chunkCenter(ChunkPos.toLong(centerX + dx, centerZ + dz), center.y);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A destination in a new direction with open water on the straight line to it,
+     * away from a position the turtle got stuck heading for
+     *
+     * @param avoid previous destination to stay clear of (may be null)
+     */
+    public static Vec3d findAlternativeDestination(ServerWorld world, Vec3d from, Vec3d avoid, Random random) {
+        double startAngle = random.nextDouble() * Math.PI * 2;
+        for (int attempt = 0; attempt < 8; attempt++) {
+            double angle = startAngle + attempt * Math.PI / 4;
+            double distance = 96 + random.nextDouble() * 128;
+            Vec3d candidate = new Vec3d(from.x + Math.cos(angle) * distance, from.y, from.z + Math.sin(angle) * distance);
+            if (avoid != null && candidate.squaredDistanceTo(avoid) < 64 * 64) continue;
+
+            BlockPos pos = BlockPos.ofFloored(candidate);
+            if (!isPassable(getNode(world, ChunkSectionPos.getSectionCoord(pos.getX()), ChunkSectionPos.getSectionCoord(pos.getZ())))) continue;
+
+            // Line check only - the route itself is planned off-thread
+            if (isLineNavigable(world, from, candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Check if the chunk at a position is navigable ocean (estimated for unloaded chunks)
+     */
+    public static boolean isNavigable(ServerWorld world, Vec3d pos) {
+        return isPassable(getNode(world,
+                ChunkSectionPos.getSectionCoord(MathHelper.floor(pos.x)), ChunkSectionPos.getSectionCoord(MathHelper.floor(pos.z))));
+    }
+
+    /**
+     * Check that every chunk on the straight line between two positions is navigable
+     */
+    public static boolean isLineNavigable(ServerWorld world, Vec3d from, Vec3d to) {
+        double distance = Math.sqrt(MathHelper.square(to.x - from.x) + MathHelper.square(to.z - from.z));
+        int steps = Math.max(1, MathHelper.ceil(distance / 8.0));
+        long lastKey = Long.MIN_VALUE;
+        for (int i = 1; i <= steps; i++) {
+            double t = (double) i / steps;
+            long key = ChunkPos.toLong(
+                    ChunkSectionPos.getSectionCoord(MathHelper.floor(MathHelper.lerp(t, from.x, to.x))),
+                    ChunkSectionPos.getSectionCoord(MathHelper.floor(MathHelper.lerp(t, from.z, to.z))));
+            if (key == lastKey) continue;
+            lastKey = key;
+            if (!isPassable(getNode(world, ChunkPos.getPackedX(key), ChunkPos.getPackedZ(key)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Forget a node after an underwater block change
+     */
+    public static void invalidate(ServerWorld world, BlockPos pos) {
+        if (pos.getY() < world.getSeaLevel()) {
+            invalidateChunk(world, ChunkSectionPos.getSectionCoord(pos.getX()), ChunkSectionPos.getSectionCoord(pos.getZ()));
+        }
+    }
+
+    /**
+     * Forget a node (chunk loaded, unloaded or rewritten); flow field regions built from it go too
+     */
+    public static void invalidateChunk(ServerWorld world, int chunkX, int chunkZ) {
+        Long2IntLinkedOpenHashMap nodes = NODES.get(world);
+        if (nodes != null && world.getServer().isOnThread() && nodes.remove(ChunkPos.toLong(chunkX, chunkZ)) != MISSING) {
+            OceanFlowField.invalidateAround(world, chunkX, chunkZ);
+        }
+    }
+
+    /**
+     * Ocean test straight from the biome source - never loads or generates chunks
+     */
+    public static boolean isOceanColumn(ServerWorld world, int x, int z) {
+        ServerChunkManager chunkManager = world.getChunkManager();
+        return chunkManager.getChunkGenerator().getBiomeSource()
+                .getBiome(BiomeCoords.fromBlock(x), BiomeCoords.fromBlock(world.getSeaLevel()), BiomeCoords.fromBlock(z),
+                        chunkManager.getNoiseConfig().getMultiNoiseSampler())
+                .isIn(BiomeTags.IS_OCEAN);
+    }
+
+    /**
+     * Immutable copy of the nodes a search between two positions may visit (server thread)
+     * Loaded chunks are annotated now; unloaded ones are left out and estimated by the reader
+     *
+     * @param margin extra chunks around the start/goal rectangle
+     */
+    static Long2IntOpenHashMap snapshot(ServerWorld world, Vec3d from, Vec3d to, int margin) {
+        int minX = ChunkSectionPos.getSectionCoord(MathHelper.floor(Math.min(from.x, to.x))) - margin;
+        int maxX = ChunkSectionPos.getSectionCoord(MathHelper.floor(Math.max(from.x, to.x))) + margin;
+        int minZ = ChunkSectionPos.getSectionCoord(MathHelper.floor(Math.min(from.z, to.z))) - margin;
+        int maxZ = ChunkSectionPos.getSectionCoord(MathHelper.floor(Math.max(from.z, to.z))) + margin;
+
+        Long2IntLinkedOpenHashMap cached = NODES.get(world);
+        Long2IntOpenHashMap snapshot = new Long2IntOpenHashMap();
+        snapshot.defaultReturnValue(MISSING);
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                long key = ChunkPos.toLong(x, z);
+                if (cached != null && cached.containsKey(key)) {
+                    snapshot.put(key, cached.get(key));
+                } else if (world.getChunkManager().getWorldChunk(x, z) != null) {
+                    snapshot.put(key, getNode(world, x, z));
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Estimate for a chunk that is not in a snapshot (safe off the server thread)
+     */
+    static int estimateNode(ServerWorld world, long key) {
+        return estimate(world, ChunkPos.getPackedX(key), ChunkPos.getPackedZ(key));
+    }
+
+    /**
+     * Packed node for a chunk: annotated from chunk data when loaded, estimated otherwise
+     */
+    static int getNode(ServerWorld world, int chunkX, int chunkZ) {
+        long key = ChunkPos.toLong(chunkX, chunkZ);
+        Long2IntLinkedOpenHashMap nodes = NODES.computeIfAbsent(world, w -> {
+            Long2IntLinkedOpenHashMap map = new Long2IntLinkedOpenHashMap();
+            map.defaultReturnValue(MISSING);
+            return map;
+        });
+
+        int node = nodes.getAndMoveToLast(key);
+        if (node == MISSING) {
+            WorldChunk chunk = world.getChunkManager().getWorldChunk(chunkX, chunkZ);
+            node = chunk != null ? annotate(chunk) : estimate(world, chunkX, chunkZ);
+            nodes.putAndMoveToLast(key, node);
+            while (nodes.size() > MAX_NODES) {
+                nodes.removeFirstInt();
+            }
+        }
+        return node;
+    }
+
+    static boolean isPassable(int node) {
+        if ((node & OCEAN) == 0) return false;
+        return (node & KNOWN) == 0 || getDeepSamples(node) >= SAMPLES / 2;
+    }
+
+    /**
+     * Cost multiplier for entering a node (1.0 for open deep ocean)
+     */
+    static double getCost(int node) {
+        if ((node & KNOWN) == 0) return 1.0 + UNKNOWN_PENALTY;
+        double cost = 1.0 + (double) (SAMPLES - getDeepSamples(node)) / SAMPLES;
+        return getMinDepth(node) < MIN_NAV_DEPTH ? cost + 0.5 : cost;
+    }
+
+    /**
+     * How deep and open a node is, from 0 (land) to 1 (every sampled column deep, 40+ blocks minimum)
+     * Ocean chunks that are only estimated score 0, so nothing is drawn towards unexplored water
+     */
+    static double getDepthScore(int node) {
+        if ((node & OCEAN) == 0 || (node & KNOWN) == 0) return 0.0;
+        return 0.5 * getDeepSamples(node) / SAMPLES + 0.5 * Math.min(getMinDepth(node), 40) / 40.0;
+    }
+
+    /**
+     * Whether a node's depth score means anything: annotated from chunk data, or not ocean at all
+     */
+    static boolean hasDepth(int node) {
+        return (node & KNOWN) != 0 || (node & OCEAN) == 0;
+    }
+
+    static int getMinDepth(int node) {
+        return node >>> 8 & 0xFF;
+    }
+
+    static int getDeepSamples(int node) {
+        return node >>> 16 & 0xFF;
+    }
+
+    /**
+     * A* over chunk nodes, 8-connected without corner cutting
+     *
+     * @param cancelled checked before every expansion; the search gives up and returns null once it is true
+     */
+    static Route search(Long2IntFunction nodes, Vec3d from, Vec3d to, BooleanSupplier cancelled) {
+        long start = ChunkPos.toLong(ChunkSectionPos.getSectionCoord(MathHelper.floor(from.x)), ChunkSectionPos.getSectionCoord(MathHelper.floor(from.z)));
+        long goal = ChunkPos.toLong(ChunkSectionPos.getSectionCoord(MathHelper.floor(to.x)), ChunkSectionPos.getSectionCoord(MathHelper.floor(to.z)));
+        if (start == goal) {
+            return new Route(List.of(to), true, 0);
+        }
+
+        Long2DoubleOpenHashMap gScore = new Long2DoubleOpenHashMap();
+        gScore.defaultReturnValue(Double.MAX_VALUE);
+        Long2LongOpenHashMap cameFrom = new Long2LongOpenHashMap();
+        LongOpenHashSet closed = new LongOpenHashSet();
+        ObjectHeapPriorityQueue<OpenNode> open = new ObjectHeapPriorityQueue<>(Comparator.comparingDouble(OpenNode::f));
+
+        gScore.put(start, 0.0);
+        open.enqueue(new OpenNode(start, heuristic(start, goal)));
+        long best = start;
+        double bestH = heuristic(start, goal);
+        int expansions = 0;
+
+        while (!open.isEmpty() && expansions < MAX_EXPANSIONS) {
+            if (cancelled.getAsBoolean()) return null;
+            long current = open.dequeue().key();
+            if (!closed.add(current)) continue;
+            expansions++;
+
+            if (current == goal) {
+                return new Route(toWaypoints(cameFrom, start, goal, from.y, to), true, expansions);
+            }
+            double h = heuristic(current, goal);
+            if (h < bestH) {
+                bestH = h;
+                best = current;
+            }
+
+            int x = ChunkPos.getPackedX(current);
+            int z = ChunkPos.getPackedZ(current);
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dz = -1; dz <= 1; dz++) {
+                    if (dx == 0 && dz == 0) continue;
+                    long neighbor = ChunkPos.toLong(x + dx, z + dz);
+                    if (closed.contains(neighbor)) continue;
+
+                    int node = nodes.get(neighbor);
+                    if (!isPassable(node)) continue;
+                    if (dx != 0 && dz != 0 && (!isPassable(nodes.get(ChunkPos.toLong(x + dx, z))) || !isPassable(nodes.get(ChunkPos.toLong(x, z + dz))))) {
+                        continue; // A 32 block turtle can't squeeze between two blocked chunks
+                    }
+
+                    double tentative = gScore.get(current) + (dx != 0 && dz != 0 ? Math.sqrt(2) : 1.0) * getCost(node);
+                    if (tentative < gScore.get(neighbor)) {
+                        gScore.put(neighbor, tentative);
+                        cameFrom.put(neighbor, current);
+                        open.enqueue(new OpenNode(neighbor, tentative + heuristic(neighbor, goal)));
+                    }
+                }
+            }
+        }
+
+        // Goal unreachable or search budget spent - head for the closest node we found
+        return new Route(best == start ? List.of() : toWaypoints(cameFrom, start, best, from.y, null), false, expansions);
+    }
+
+    /**
+     * Octile distance in chunks (admissible: every step costs at least its length)
+     */
+    private static double heuristic(long a, long b) {
+        int dx = Math.abs(ChunkPos.getPackedX(a) - ChunkPos.getPackedX(b));
+        int dz = Math.abs(ChunkPos.getPackedZ(a) - ChunkPos.getPackedZ(b));
+        return Math.max(dx, dz) + (Math.sqrt(2) - 1) * Math.min(dx, dz);
+    }
+
+    /**
+     * Walk back from the end node, keeping only the chunks where the route changes direction
+     */
+    private static List<Vec3d> toWaypoints(Long2LongOpenHashMap cameFrom, long start, long end, double y, Vec3d destination) {
+        LongArrayList keys = new LongArrayList();
+        for (long key = end; key != start; key = cameFrom.get(key)) {
+            keys.add(key);
+        }
+
+        List<Vec3d> waypoints = new ArrayList<>();
+        long previous = start;
+        for (int i = keys.size() - 1; i >= 0; i--) {
+            long key = keys.getLong(i);
+            if (i > 0) {
+                long next = keys.getLong(i - 1);
+                boolean straight = ChunkPos.getPackedX(key) - ChunkPos.getPackedX(previous) == ChunkPos.getPackedX(next) - ChunkPos.getPackedX(key)
+                        && ChunkPos.getPackedZ(key) - ChunkPos.getPackedZ(previous) == ChunkPos.getPackedZ(next) - ChunkPos.getPackedZ(key);
+                if (!straight) {
+                    waypoints.add(chunkCenter(key, y));
+                }
+            }
+            previous = key;
+        }
+        waypoints.add(destination != null ? destination : chunkCenter(end, y));
+        return waypoints;
+    }
+
+    private static Vec3d chunkCenter(long key, double y) {
+        return new Vec3d(ChunkPos.getPackedX(key) * 16 + 8, y, ChunkPos.getPackedZ(key) * 16 + 8);
+    }
+
+    private static int annotate(WorldChunk chunk) {
+        Heightmap oceanFloor = chunk.getHeightmap(Heightmap.Type.OCEAN_FLOOR);
+        int seaLevel = chunk.getWorld().getSeaLevel();
+        int startX = chunk.getPos().getStartX();
+        int startZ = chunk.getPos().getStartZ();
+        BlockPos.Mutable mutable = new BlockPos.Mutable();
+
+        int minDepth = 255;
+        int deepSamples = 0;
+        for (int sample = 0; sample < SAMPLES; sample++) {
+            int lx = 2 + (sample & 3) * 4;
+            int lz = 2 + (sample >> 2) * 4;
+            // Depth below sea level, so islands floating on top don't hide the water
+            boolean water = chunk.getBlockState(mutable.set(startX + lx, seaLevel - 1, startZ + lz)).getFluidState().isIn(FluidTags.WATER);
+            int depth = water ? MathHelper.clamp(seaLevel - oceanFloor.get(lx, lz), 0, 255) : 0;
+            minDepth = Math.min(minDepth, depth);
+            if (depth >= MIN_NAV_DEPTH) {
+                deepSamples++;
+            }
+        }
+
+        boolean ocean = chunk.getBiomeForNoiseGen(BiomeCoords.fromBlock(startX + 8), BiomeCoords.fromBlock(seaLevel), BiomeCoords.fromBlock(startZ + 8))
+                .isIn(BiomeTags.IS_OCEAN);
+        return KNOWN | (ocean || deepSamples > 0 ? OCEAN : 0) | minDepth << 8 | deepSamples << 16;
+    }
+
+    private static int estimate(ServerWorld world, int chunkX, int chunkZ) {
+        return isOceanColumn(world, chunkX * 16 + 8, chunkZ * 16 + 8) ? OCEAN : 0;
+    }
+}
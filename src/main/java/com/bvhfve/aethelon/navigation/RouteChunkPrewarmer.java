@@ -0,0 +1,153 @@
+package com.bvhfve.aethelon.navigation;
+
+import com.bvhfve.aethelon.entity.AethelonEntity;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.minecraft.server.world.ChunkTicketType;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Chunk tickets along the route ahead of travelling turtles
+ *
+ * Features:
+ * - Chunks on the next LOOKAHEAD_DISTANCE blocks of a route (plus the turtle's own footprint) get a
+ *   ticket that loads them to FULL status through the normal asynchronous chunk pipeline
+ * - Tickets are released as soon as they fall behind, when the turtle stops travelling or unloads,
+ *   and expire on their own if never refreshed
+ * - Tickets only load chunk data; they do not make chunks tick, so turtles don't keep regions alive
+ */
+public class RouteChunkPrewarmer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("AethelonRoutePrewarm");
+
+    // Tickets expire after 15 seconds without a refresh
+    private static final ChunkTicketType<Integer> ROUTE_TICKET = ChunkTicketType.create("aethelon_route", Integer::compareTo, 20 * 15);
+
+    // Radius 0 = FULL chunk, not ticking
+    private static final int TICKET_RADIUS = 0;
+
+    // Blocks of route ahead of the turtle kept loaded
+    private static final double LOOKAHEAD_DISTANCE = 96.0;
+
+    // Route sampling step and half-width of the corridor (a turtle is 32 blocks wide)
+    private static final double SAMPLE_STEP = 8.0;
+    private static final double CORRIDOR_HALF_WIDTH = 16.0;
+
+    // Held tickets per world, keyed by turtle entity id (also the ticket argument)
+    private static final Map<ServerWorld, Int2ObjectOpenHashMap<LongOpenHashSet>> TICKETS = new WeakHashMap<>();
+
+    /**
+     * Register entity and server lifecycle hooks
+     */
+    public static void initialize() {
+        ServerEntityEvents.ENTITY_UNLOAD.register((entity, world) -> {
+            if (entity instanceof AethelonEntity turtle) {
+                release(world, turtle);
+            }
+        });
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> TICKETS.clear());
+        LOGGER.info("Route chunk prewarmer initialized");
+    }
+
+    /**
+     * Ticket the chunks ahead on a route and release the ones left behind
+     *
+     * @param waypoints remaining route points, nearest first
+     */
+    public static void update(ServerWorld world, AethelonEntity turtle, List<Vec3d> waypoints) {
+        LongOpenHashSet wanted = new LongOpenHashSet();
+        Vec3d from = turtle.getPos();
+
+        // Footprint: the island is written around the turtle when it stops
+        int chunkX = ChunkSectionPos.getSectionCoord(MathHelper.floor(from.x));
+        int chunkZ = ChunkSectionPos.getSectionCoord(MathHelper.floor(from.z));
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                wanted.add(ChunkPos.toLong(chunkX + dx, chunkZ + dz));
+            }
+        }
+
+        // Corridor along the route
+        double budget = LOOKAHEAD_DISTANCE;
+        for (Vec3d to : waypoints) {
+            if (budget <= 0) break;
+            double dx = to.x - from.x;
+            double dz = to.z - from.z;
+            double length = Math.sqrt(dx * dx + dz * dz);
+            if (length < 1.0e-3) continue;
+
+            double sideX = -dz / length * CORRIDOR_HALF_WIDTH;
+            double sideZ = dx / length * CORRIDOR_HALF_WIDTH;
+            double travel = Math.min(length, budget);
+            for (double t = 0; t <= travel; t += SAMPLE_STEP) {
+                double x = from.x + dx / length * t;
+                double z = from.z + dz / length * t;
+                addChunk(wanted, x, z);
+                addChunk(wanted, x + sideX, z + sideZ);
+                addChunk(wanted, x - sideX, z - sideZ);
+            }
+            budget -= travel;
+            from = to;
+        }
+
+        Int2ObjectOpenHashMap<LongOpenHashSet> tickets = TICKETS.computeIfAbsent(world, w -> new Int2ObjectOpenHashMap<>());
+        LongOpenHashSet held = tickets.get(turtle.getId());
+        int id = turtle.getId();
+
+        // Release what fell behind
+        if (held != null) {
+            for (LongIterator iterator = held.iterator(); iterator.hasNext(); ) {
+                long key = iterator.nextLong();
+                if (!wanted.contains(key)) {
+                    world.getChunkManager().removeTicket(ROUTE_TICKET, new ChunkPos(key), TICKET_RADIUS, id);
+                }
+            }
+        }
+
+        // Add or refresh what lies ahead
+        for (LongIterator iterator = wanted.iterator(); iterator.hasNext(); ) {
+            world.getChunkManager().addTicket(ROUTE_TICKET, new ChunkPos(iterator.nextLong()), TICKET_RADIUS, id);
+        }
+        tickets.put(id, wanted);
+    }
+
+    /**
+     * Drop every ticket held for a turtle
+     */
+    public static void release(ServerWorld world, AethelonEntity turtle) {
+        Int2ObjectOpenHashMap<LongOpenHashSet> tickets = TICKETS.get(world);
+        if (tickets == null) return;
+
+        LongOpenHashSet held = tickets.remove(turtle.getId());
+        if (held != null) {
+            for (LongIterator iterator = held.iterator(); iterator.hasNext(); ) {
+                world.getChunkManager().removeTicket(ROUTE_TICKET, new ChunkPos(iterator.nextLong()), TICKET_RADIUS, turtle.getId());
+            }
+        }
+    }
+
+    /**
+     * Whether the chunk at a position is loaded - never triggers a load
+     */
+    public static boolean isLoaded(ServerWorld world, Vec3d pos) {
+        return world.getChunkManager().isChunkLoaded(
+                ChunkSectionPos.getSectionCoord(MathHelper.floor(pos.x)), ChunkSectionPos.getSectionCoord(MathHelper.floor(pos.z)));
+    }
+
+    private static void addChunk(LongOpenHashSet chunks, double x, double z) {
+        chunks.add(ChunkPos.toLong(ChunkSectionPos.getSectionCoord(MathHelper.floor(x)), ChunkSectionPos.getSectionCoord(MathHelper.floor(z))));
+    }
+}
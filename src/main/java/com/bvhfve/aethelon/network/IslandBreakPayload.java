@@ -0,0 +1,30 @@
+package com.bvhfve.aethelon.network;
+
+import com.bvhfve.aethelon.Aethelon;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Client -> server block breaking on a virtual island
+ * Sent once when the player starts mining an island cell and once when mining finishes;
+ * the cell is in the island's capture frame, the server validates reach and mining time.
+ */
+public record IslandBreakPayload(int entityId, BlockPos cell, boolean finished) implements CustomPayload {
+
+    public static final CustomPayload.Id<IslandBreakPayload> ID = new CustomPayload.Id<>(Identifier.of(Aethelon.MOD_ID, "island_break"));
+    public static final PacketCodec<ByteBuf, IslandBreakPayload> CODEC = PacketCodec.tuple(
+            PacketCodecs.VAR_INT, IslandBreakPayload::entityId,
+            BlockPos.PACKET_CODEC, IslandBreakPayload::cell,
+            PacketCodecs.BOOL, IslandBreakPayload::finished,
+            IslandBreakPayload::new
+    );
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
@@ -0,0 +1,85 @@
+package com.bvhfve.aethelon.network;
+
+import com.bvhfve.aethelon.Aethelon;
+import com.bvhfve.aethelon.island.IslandVolume;
+import com.bvhfve.aethelon.island.VirtualIsland;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Server -> client sync of a turtle's virtual island
+ * A null island means the island is materialized (or gone) and clients should stop rendering it
+ *
+ * The volume is sent in its packed form: palette as raw block state ids plus the packed index words.
+ * Block entity data is not sent, clients only need the block states for rendering and collision.
+ */
+public record IslandSyncPayload(int entityId, @Nullable VirtualIsland island) implements CustomPayload {
+
+    public static final CustomPayload.Id<IslandSyncPayload> ID = new CustomPayload.Id<>(Identifier.of(Aethelon.MOD_ID, "island_sync"));
+    public static final PacketCodec<RegistryByteBuf, IslandSyncPayload> CODEC = PacketCodec.of(IslandSyncPayload::write, IslandSyncPayload::read);
+
+    private void write(RegistryByteBuf buf) {
+        buf.writeVarInt(entityId);
+        buf.writeBoolean(island != null);
+        if (island == null) return;
+
+        Vec3d capturePos = island.getCaptureTurtlePos();
+        buf.writeDouble(capturePos.x);
+        buf.writeDouble(capturePos.y);
+        buf.writeDouble(capturePos.z);
+
+        IslandVolume volume = island.getVolume();
+        buf.writeBlockPos(volume.getOrigin());
+        buf.writeVarInt(volume.getSizeX());
+        buf.writeVarInt(volume.getSizeY());
+        buf.writeVarInt(volume.getSizeZ());
+
+        List<BlockState> palette = volume.getPalette();
+        buf.writeVarInt(palette.size());
+        for (BlockState state : palette) {
+            buf.writeVarInt(Block.getRawIdFromState(state));
+        }
+        buf.writeByte(volume.getBitsPerEntry());
+        buf.writeLongArray(volume.getPackedData());
+    }
+
+    private static IslandSyncPayload read(RegistryByteBuf buf) {
+        int entityId = buf.readVarInt();
+        if (!buf.readBoolean()) {
+            return new IslandSyncPayload(entityId, null);
+        }
+
+        Vec3d capturePos = new Vec3d(buf.readDouble(), buf.readDouble(), buf.readDouble());
+        BlockPos origin = buf.readBlockPos();
+        int sizeX = buf.readVarInt();
+        int sizeY = buf.readVarInt();
+        int sizeZ = buf.readVarInt();
+
+        int paletteSize = buf.readVarInt();
+        List<BlockState> palette = new ArrayList<>(paletteSize);
+        for (int i = 0; i < paletteSize; i++) {
+            palette.add(Block.getStateFromRawId(buf.readVarInt()));
+        }
+        int bitsPerEntry = buf.readByte();
+        long[] packed = buf.readLongArray();
+
+        IslandVolume volume = IslandVolume.fromPacked(origin, sizeX, sizeY, sizeZ, palette, bitsPerEntry, packed);
+        return new IslandSyncPayload(entityId, new VirtualIsland(volume, Map.of(), capturePos));
+    }
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
@@ -0,0 +1,49 @@
+package com.bvhfve.aethelon.network;
+
+import com.bvhfve.aethelon.Aethelon;
+import com.bvhfve.aethelon.entity.AethelonEntity;
+import com.bvhfve.aethelon.island.IslandInteractionHandler;
+import com.bvhfve.aethelon.island.VirtualIsland;
+import net.fabricmc.fabric.api.networking.v1.PayloadTypeRegistry;
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+/**
+ * Registry and send helpers for Aethelon network payloads
+ */
+public class ModNetworking {
+
+    /**
+     * Registers all payload types
+     * Called during mod initialization on both sides
+     */
+    public static void initialize() {
+        Aethelon.LOGGER.info("Registering Aethelon network payloads...");
+
+        PayloadTypeRegistry.playS2C().register(IslandSyncPayload.ID, IslandSyncPayload.CODEC);
+        PayloadTypeRegistry.playC2S().register(IslandBreakPayload.ID, IslandBreakPayload.CODEC);
+
+        ServerPlayNetworking.registerGlobalReceiver(IslandBreakPayload.ID,
+                (payload, context) -> IslandInteractionHandler.handleBreak(context.player(), payload));
+
+        Aethelon.LOGGER.info("Successfully registered {} network payloads", 2);
+    }
+
+    /**
+     * Send a turtle's virtual island state to every player tracking it
+     */
+    public static void sendIslandSync(AethelonEntity turtle, VirtualIsland island) {
+        IslandSyncPayload payload = new IslandSyncPayload(turtle.getId(), island);
+        for (ServerPlayerEntity player : PlayerLookup.tracking(turtle)) {
+            ServerPlayNetworking.send(player, payload);
+        }
+    }
+
+    /**
+     * Send a turtle's virtual island state to one player (e.g. when it starts tracking the turtle)
+     */
+    public static void sendIslandSync(ServerPlayerEntity player, AethelonEntity turtle, VirtualIsland island) {
+        ServerPlayNetworking.send(player, new IslandSyncPayload(turtle.getId(), island));
+    }
+}
@@ -0,0 +1,218 @@
+package com.bvhfve.aethelon.ocean;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.minecraft.block.BlockState;
+import net.minecraft.registry.tag.FluidTags;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.WorldAccess;
+import net.minecraft.world.chunk.WorldChunk;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Per-column water depth and surface clearance, derived from heightmaps
+ *
+ * Features:
+ * - Each column is read from the OCEAN_FLOOR and WORLD_SURFACE heightmaps plus one block lookup
+ *   (is the top block water), then cached on its chunk
+ * - Block changes clear just the changed column; unloaded chunks are dropped
+ * - Open-water queries are answered in O(1); columns the heightmaps can't describe
+ *   (ice, overhangs, caves) and off-thread queries fall back to probing blocks
+ * - Probes never load chunks: an unloaded column has no water depth and no clearance
+ */
+public class OceanDepthField {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("AethelonOceanDepth");
+
+    private static final Map<ServerWorld, Long2ObjectOpenHashMap<ChunkColumns>> FIELDS = new WeakHashMap<>();
+
+    /**
+     * Cached columns of one loaded chunk
+     */
+    private static class ChunkColumns {
+        final WorldChunk chunk;
+        final short[] floorY = new short[256];   // First non-solid y above the ocean floor
+        final short[] surfaceY = new short[256]; // First air y above the highest non-air block
+        final long[] computed = new long[4];
+        final long[] water = new long[4];        // Top block of the column is water
+
+        ChunkColumns(WorldChunk chunk) {
+            this.chunk = chunk;
+        }
+
+        int index(int x, int z) {
+            return (z & 15) << 4 | (x & 15);
+        }
+
+        boolean isComputed(int index) {
+            return (computed[index >> 6] & 1L << index) != 0;
+        }
+
+        boolean isWater(int index) {
+            return (water[index >> 6] & 1L << index) != 0;
+        }
+
+        void invalidate(int index) {
+            computed[index >> 6] &= ~(1L << index);
+        }
+
+        void compute(int index, BlockPos.Mutable scratch) {
+            int lx = index & 15;
+            int lz = index >> 4;
+            int floor = chunk.getHeightmap(Heightmap.Type.OCEAN_FLOOR).get(lx, lz);
+            int surface = chunk.getHeightmap(Heightmap.Type.WORLD_SURFACE).get(lx, lz);
+            boolean isWater = surface > floor && chunk.getBlockState(
+                    scratch.set(chunk.getPos().getStartX() + lx, surface - 1, chunk.getPos().getStartZ() + lz))
+                    .getFluidState().isIn(FluidTags.WATER);
+
+            floorY[index] = (short) floor;
+            surfaceY[index] = (short) surface;
+            long bit = 1L << index;
+            water[index >> 6] = isWater ? water[index >> 6] | bit : water[index >> 6] & ~bit;
+            computed[index >> 6] |= bit;
+        }
+    }
+
+    /**
+     * Register chunk and server lifecycle hooks
+     */
+    public static void initialize() {
+        ServerChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> {
+            Long2ObjectOpenHashMap<ChunkColumns> field = FIELDS.get(world);
+            if (field != null) {
+                field.remove(chunk.getPos().toLong());
+            }
+        });
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> FIELDS.clear());
+        LOGGER.info("Ocean depth field initialized");
+    }
+
+    /**
+     * Check for at least `required` water blocks from pos downwards (pos included)
+     */
+    public static boolean hasWaterDepth(WorldAccess world, BlockPos pos, int required) {
+        return getWaterDepth(world, pos, required) >= required;
+    }
+
+    /**
+     * Consecutive water blocks from pos downwards (pos included), counted up to limit
+     */
+    public static int getWaterDepth(WorldAccess world, BlockPos pos, int limit) {
+        ChunkColumns columns = getColumns(world, pos);
+        if (columns != null) {
+            int index = columns.index(pos.getX(), pos.getZ());
+            int y = pos.getY();
+            if (y >= columns.surfaceY[index]) {
+                return 0; // Open air above the column
+            }
+            if (columns.isWater(index) && y >= columns.floorY[index]) {
+                return Math.min(limit, y - columns.floorY[index] + 1);
+            }
+        }
+        return probeWaterDepth(world, pos, limit);
+    }
+
+    /**
+     * Check that the `required` blocks above pos are all air or water
+     */
+    public static boolean hasClearance(WorldAccess world, BlockPos pos, int required) {
+        ChunkColumns columns = getColumns(world, pos);
+        if (columns != null) {
+            int index = columns.index(pos.getX(), pos.getZ());
+            int y = pos.getY();
+            // Above the surface there is only air; inside an open water column only water and then air
+            if (y + 1 >= columns.surfaceY[index] || columns.isWater(index) && y >= columns.floorY[index]) {
+                return true;
+            }
+        }
+        return probeClearance(world, pos, required);
+    }
+
+    /**
+     * Forget a column after a block change (called for every chunk block write, so it must stay cheap)
+     */
+    public static void invalidate(ServerWorld world, BlockPos pos) {
+        Long2ObjectOpenHashMap<ChunkColumns> field = FIELDS.get(world);
+        if (field == null || !world.getServer().isOnThread()) return;
+        ChunkColumns columns = field.get(ChunkPos.toLong(ChunkSectionPos.getSectionCoord(pos.getX()), ChunkSectionPos.getSectionCoord(pos.getZ())));
+        if (columns != null) {
+            columns.invalidate(columns.index(pos.getX(), pos.getZ()));
+        }
+    }
+
+    /**
+     * Forget a whole chunk (bulk writes that bypass World.setBlockState)
+     */
+    public static void invalidateChunk(ServerWorld world, int chunkX, int chunkZ) {
+        Long2ObjectOpenHashMap<ChunkColumns> field = FIELDS.get(world);
+        if (field != null) {
+            field.remove(ChunkPos.toLong(chunkX, chunkZ));
+        }
+    }
+
+    /**
+     * Up-to-date cached columns for the chunk at pos, or null if the fast path is unavailable
+     */
+    private static ChunkColumns getColumns(WorldAccess world, BlockPos pos) {
+        if (!(world instanceof ServerWorld serverWorld) || !serverWorld.getServer().isOnThread()) return null;
+
+        int chunkX = ChunkSectionPos.getSectionCoord(pos.getX());
+        int chunkZ = ChunkSectionPos.getSectionCoord(pos.getZ());
+        long key = ChunkPos.toLong(chunkX, chunkZ);
+
+        Long2ObjectOpenHashMap<ChunkColumns> field = FIELDS.computeIfAbsent(serverWorld, w -> new Long2ObjectOpenHashMap<>());
+        ChunkColumns columns = field.get(key);
+        if (columns == null) {
+            WorldChunk chunk = serverWorld.getChunkManager().getWorldChunk(chunkX, chunkZ);
+            if (chunk == null) return null;
+            columns = new ChunkColumns(chunk);
+            field.put(key, columns);
+        }
+
+        int index = columns.index(pos.getX(), pos.getZ());
+        if (!columns.isComputed(index)) {
+            columns.compute(index, new BlockPos.Mutable());
+        }
+        return columns;
+    }
+
+    private static int probeWaterDepth(WorldAccess world, BlockPos pos, int limit) {
+        if (!isChunkLoaded(world, pos)) return 0;
+        
+        BlockPos.Mutable mutable = pos.mutableCopy();
+        int depth = 0;
+        while (depth < limit && mutable.getY() >= world.getBottomY()
+                && world.getBlockState(mutable).getFluidState().isIn(FluidTags.WATER)) {
+            depth++;
+            mutable.move(0, -1, 0);
+        }
+        return depth;
+    }
+
+    private static boolean probeClearance(WorldAccess world, BlockPos pos, int required) {
+        if (!isChunkLoaded(world, pos)) return false;
+        
+        BlockPos.Mutable mutable = pos.mutableCopy();
+        for (int i = 1; i <= required; i++) {
+            mutable.move(0, 1, 0);
+            BlockState state = world.getBlockState(mutable);
+            if (!state.isAir() && !state.getFluidState().isIn(FluidTags.WATER)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean isChunkLoaded(WorldAccess world, BlockPos pos) {
+        return world.isChunkLoaded(ChunkSectionPos.getSectionCoord(pos.getX()), ChunkSectionPos.getSectionCoord(pos.getZ()));
+    }
+}
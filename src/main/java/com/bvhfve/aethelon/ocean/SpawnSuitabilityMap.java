@@ -0,0 +1,164 @@
+package com.bvhfve.aethelon.ocean;
+
+import com.bvhfve.aethelon.Aethelon;
+import com.bvhfve.aethelon.config.AethelonConfig;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.fabricmc.fabric.api.attachment.v1.AttachmentRegistry;
+import net.fabricmc.fabric.api.attachment.v1.AttachmentType;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.tag.BiomeTags;
+import net.minecraft.registry.tag.FluidTags;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.WorldAccess;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.biome.source.BiomeCoords;
+import net.minecraft.world.chunk.WorldChunk;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+/**
+ * Per-chunk bitmap of columns that could ever host a turtle spawn
+ *
+ * A column qualifies when its biome is an ocean, its top block is water (open sky above)
+ * and the water between ocean floor and surface is at least water_depth_required deep.
+ * The bitmap is computed once per chunk on load, stored as a persistent chunk attachment and
+ * consulted before any other spawn work, so attempts in dry or shallow chunks end in O(1).
+ * Block changes that touch what a column is judged on (air, solidity, fluid) recompute that
+ * column's bit, so stored bitmaps follow player edits.
+ * Bits only pre-filter: suitable columns still go through the full spawn checks.
+ */
+public class SpawnSuitabilityMap {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("AethelonSpawnSuitability");
+
+    // Bump when the suitability rules change, so stored bitmaps are recomputed
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * Suitable columns of one chunk (bit index = z * 16 + x), tagged with the rules they were computed under
+     */
+    public record Suitability(int version, int requiredDepth, long[] columns) {
+        public static final Codec<Suitability> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+                Codec.INT.fieldOf("version").forGetter(Suitability::version),
+                Codec.INT.fieldOf("required_depth").forGetter(Suitability::requiredDepth),
+                Codec.LONG_STREAM.xmap(LongStream::toArray, Arrays::stream).fieldOf("columns").forGetter(Suitability::columns)
+        ).apply(instance, Suitability::new));
+
+        public boolean isSuitable(int x, int z) {
+            int index = (z & 15) << 4 | (x & 15);
+            return columns.length == 4 && (columns[index >> 6] & 1L << index) != 0;
+        }
+
+        boolean isCurrent(int depth) {
+            return version == FORMAT_VERSION && requiredDepth == depth;
+        }
+    }
+
+    public static final AttachmentType<Suitability> SUITABILITY = AttachmentRegistry.<Suitability>builder()
+            .persistent(Suitability.CODEC)
+            .buildAndRegister(Identifier.of(Aethelon.MOD_ID, "spawn_suitability"));
+
+    /**
+     * Compute bitmaps for chunks as they load (kept from disk when still current)
+     */
+    public static void initialize() {
+        ServerChunkEvents.CHUNK_LOAD.register((world, chunk) -> getOrCompute(chunk));
+        LOGGER.info("Spawn suitability map initialized");
+    }
+
+    /**
+     * Constant-time pre-check for a spawn attempt
+     * Unknown chunks (world generation regions, unloaded chunks) are let through to the full checks
+     */
+    public static boolean isSuitable(WorldAccess world, BlockPos pos) {
+        if (!(world instanceof ServerWorld serverWorld)) return true;
+
+        WorldChunk chunk = serverWorld.getChunkManager().getWorldChunk(
+                ChunkSectionPos.getSectionCoord(pos.getX()), ChunkSectionPos.getSectionCoord(pos.getZ()));
+        if (chunk == null) return true;
+
+        return getOrCompute(chunk).isSuitable(pos.getX(), pos.getZ());
+    }
+
+    /**
+     * Recompute one column after a block change in a loaded chunk (called from the chunk block-change hook)
+     * Chunks without a bitmap yet are left alone - the bitmap is computed in full when first needed
+     */
+    public static void onBlockChanged(WorldChunk chunk, BlockPos pos) {
+        Suitability suitability = chunk.getAttached(SUITABILITY);
+        if (suitability == null || suitability.columns().length != 4) return;
+
+        int index = (pos.getZ() & 15) << 4 | (pos.getX() & 15);
+        boolean suitable = isColumnSuitable(chunk, pos.getX() & 15, pos.getZ() & 15, suitability.requiredDepth(), new BlockPos.Mutable());
+        if (suitable == suitability.isSuitable(pos.getX(), pos.getZ())) return;
+
+        // Attachments are replaced, not mutated, so the chunk is marked for saving
+        long[] columns = suitability.columns().clone();
+        columns[index >> 6] ^= 1L << index;
+        chunk.setAttached(SUITABILITY, new Suitability(suitability.version(), suitability.requiredDepth(), columns));
+    }
+
+    private static Suitability getOrCompute(WorldChunk chunk) {
+        int requiredDepth = AethelonConfig.getWaterDepthRequired();
+        Suitability suitability = chunk.getAttached(SUITABILITY);
+        if (suitability == null || !suitability.isCurrent(requiredDepth)) {
+            suitability = compute(chunk, requiredDepth);
+            chunk.setAttached(SUITABILITY, suitability);
+        }
+        return suitability;
+    }
+
+    private static Suitability compute(WorldChunk chunk, int requiredDepth) {
+        long[] columns = new long[4];
+        int seaLevel = chunk.getWorld().getSeaLevel();
+        int startX = chunk.getPos().getStartX();
+        int startZ = chunk.getPos().getStartZ();
+        BlockPos.Mutable mutable = new BlockPos.Mutable();
+
+        // Biomes are stored per 4x4 column cell
+        boolean[] oceanCells = new boolean[16];
+        for (int cell = 0; cell < 16; cell++) {
+            RegistryEntry<Biome> biome = chunk.getBiomeForNoiseGen(
+                    BiomeCoords.fromBlock(startX) + (cell & 3), BiomeCoords.fromBlock(seaLevel), BiomeCoords.fromBlock(startZ) + (cell >> 2));
+            oceanCells[cell] = biome.isIn(BiomeTags.IS_OCEAN);
+        }
+
+        for (int lz = 0; lz < 16; lz++) {
+            for (int lx = 0; lx < 16; lx++) {
+                if (!oceanCells[(lz >> 2) << 2 | lx >> 2]) continue;
+                if (!isWaterColumn(chunk, lx, lz, requiredDepth, mutable)) continue;
+
+                int index = lz << 4 | lx;
+                columns[index >> 6] |= 1L << index;
+            }
+        }
+        return new Suitability(FORMAT_VERSION, requiredDepth, columns);
+    }
+
+    private static boolean isColumnSuitable(WorldChunk chunk, int lx, int lz, int requiredDepth, BlockPos.Mutable mutable) {
+        RegistryEntry<Biome> biome = chunk.getBiomeForNoiseGen(
+                BiomeCoords.fromBlock(chunk.getPos().getStartX() + lx), BiomeCoords.fromBlock(chunk.getWorld().getSeaLevel()),
+                BiomeCoords.fromBlock(chunk.getPos().getStartZ() + lz));
+        return biome.isIn(BiomeTags.IS_OCEAN) && isWaterColumn(chunk, lx, lz, requiredDepth, mutable);
+    }
+
+    /**
+     * Open water at the top of the column, at least requiredDepth deep
+     */
+    private static boolean isWaterColumn(WorldChunk chunk, int lx, int lz, int requiredDepth, BlockPos.Mutable mutable) {
+        int floor = chunk.getHeightmap(Heightmap.Type.OCEAN_FLOOR).get(lx, lz);
+        int surface = chunk.getHeightmap(Heightmap.Type.WORLD_SURFACE).get(lx, lz);
+        if (surface - floor < requiredDepth) return false;
+        return chunk.getBlockState(mutable.set(chunk.getPos().getStartX() + lx, surface - 1, chunk.getPos().getStartZ() + lz))
+                .getFluidState().isIn(FluidTags.WATER);
+    }
+}
@@ -0,0 +1,31 @@
+package com.bvhfve.aethelon.registry;
+
+import com.bvhfve.aethelon.Aethelon;
+import com.bvhfve.aethelon.upgrade.WeaponUpgrade;
+import net.minecraft.component.ComponentType;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.Registry;
+import net.minecraft.util.Identifier;
+
+/**
+ * Item data components added by the Aethelon mod
+ */
+public class ModDataComponents {
+
+    /**
+     * Gem upgrade of a weapon (type and tier), saved with the stack and synced to clients
+     */
+    public static final ComponentType<WeaponUpgrade> WEAPON_UPGRADE = Registry.register(Registries.DATA_COMPONENT_TYPE,
+            Identifier.of(Aethelon.MOD_ID, "weapon_upgrade"),
+            ComponentType.<WeaponUpgrade>builder()
+                    .codec(WeaponUpgrade.CODEC)
+                    .packetCodec(WeaponUpgrade.PACKET_CODEC)
+                    .build());
+
+    /**
+     * Loads the class so components register before items and data use them
+     */
+    public static void initialize() {
+        Aethelon.LOGGER.info("Registering data components for {}", Aethelon.MOD_ID);
+    }
+}
@@ -1,15 +1,17 @@
 package com.bvhfve.aethelon.structure;
 
 import com.bvhfve.aethelon.Aethelon;
+import com.bvhfve.aethelon.entity.AethelonEntity;
+import com.bvhfve.aethelon.island.IslandPlacementJob;
+import com.bvhfve.aethelon.island.IslandWorkQueue;
+import com.bvhfve.aethelon.util.WeightedAliasSampler;
 import net.minecraft.server.world.ServerWorld;
-import net.minecraft.structure.StructurePlacementData;
-import net.minecraft.structure.StructureTemplate;
-import net.minecraft.structure.StructureTemplateManager;
 import net.minecraft.util.BlockMirror;
 import net.minecraft.util.BlockRotation;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.math.random.Random;
 import net.minecraft.world.World;
 
 import java.util.*;
@@ -22,6 +24,9 @@ public class DatapackStructureManager {
     
     private static final Map<String, IslandStructureDefinition> REGISTERED_STRUCTURES = new HashMap<>();
     
+    // Alias samplers keyed by size category, then biome category - replaced as a whole on every registration
+    private static volatile Map<String, Map<String, WeightedAliasSampler<IslandStructureDefinition>>> SAMPLERS = Map.of();
+    
     /**
      * Simple structure definition for datapack-based structures
      */
@@ -33,6 +38,7 @@ public class DatapackStructureManager {
         public final Set<String> biomeCategories;
         public final boolean allowRotation;
         public final boolean allowMirroring;
+        public final String sizeCategory;
         
         public IslandStructureDefinition(String name, Identifier structureId, Vec3d size, 
                                        int weight, Set<String> biomeCategories, 
@@ -44,6 +50,7 @@ public class DatapackStructureManager {
             this.biomeCategories = biomeCategories;
             this.allowRotation = allowRotation;
             this.allowMirroring = allowMirroring;
+            this.sizeCategory = categorizeBySize(size);
         }
     }
     
@@ -55,21 +62,33 @@ public class DatapackStructureManager {
         public final BlockPos position;
         public final IslandStructureDefinition definition;
         public final String errorMessage;
+        public final IslandPlacementJob placementJob; // Queued placement, null if placed immediately or failed
+        public final BlockRotation rotation;
+        public final BlockMirror mirror;
         
         private StructureSpawnResult(boolean success, BlockPos position, 
-                                   IslandStructureDefinition definition, String errorMessage) {
+                                   IslandStructureDefinition definition, String errorMessage,
+                                   IslandPlacementJob placementJob, BlockRotation rotation, BlockMirror mirror) {
             this.success = success;
             this.position = position;
             this.definition = definition;
             this.errorMessage = errorMessage;
+            this.placementJob = placementJob;
+            this.rotation = rotation;
+            this.mirror = mirror;
         }
         
         public static StructureSpawnResult success(BlockPos position, IslandStructureDefinition definition) {
-            return new StructureSpawnResult(true, position, definition, null);
+            return new StructureSpawnResult(true, position, definition, null, null, BlockRotation.NONE, BlockMirror.NONE);
+        }
+        
+        public static StructureSpawnResult queued(BlockPos position, IslandStructureDefinition definition, IslandPlacementJob job,
+                                                  BlockRotation rotation, BlockMirror mirror) {
+            return new StructureSpawnResult(true, position, definition, null, job, rotation, mirror);
         }
         
         public static StructureSpawnResult failure(String errorMessage) {
-            return new StructureSpawnResult(false, null, null, errorMessage);
+            return new StructureSpawnResult(false, null, null, errorMessage, null, BlockRotation.NONE, BlockMirror.NONE);
         }
     }
     
@@ -206,8 +225,9 @@ public class DatapackStructureManager {
     /**
      * Register a structure definition
      */
-    public static void registerStructure(IslandStructureDefinition definition) {
+    public static synchronized void registerStructure(IslandStructureDefinition definition) {
         REGISTERED_STRUCTURES.put(definition.name, definition);
+        rebuildSamplers();
         Aethelon.LOGGER.debug("Registered datapack structure: {} -> {}", definition.name, definition.structureId);
     }
     
@@ -215,49 +235,52 @@ public class DatapackStructureManager {
      * Spawn a structure using Minecraft's built-in structure system
      */
     public static StructureSpawnResult spawnStructure(ServerWorld world, String structureName, BlockPos position) {
+        return spawnStructure(world, structureName, position, null);
+    }
+    
+    /**
+     * Spawn a structure by name for a turtle (placement is prioritised by the turtle's distance to players)
+     */
+    public static StructureSpawnResult spawnStructure(ServerWorld world, String structureName, BlockPos position, AethelonEntity owner) {
         IslandStructureDefinition definition = REGISTERED_STRUCTURES.get(structureName);
         if (definition == null) {
             return StructureSpawnResult.failure("Structure not found: " + structureName);
         }
         
-        return spawnStructure(world, definition, position);
+        return spawnStructure(world, definition, position, owner);
     }
     
     /**
      * Spawn a structure using its definition
      */
     public static StructureSpawnResult spawnStructure(ServerWorld world, IslandStructureDefinition definition, BlockPos position) {
+        return spawnStructure(world, definition, position, null);
+    }
+    
+    /**
+     * Spawn a structure using its definition
+     * Placement is queued on the island work queue and completes over the following ticks
+     */
+    public static StructureSpawnResult spawnStructure(ServerWorld world, IslandStructureDefinition definition, BlockPos position, AethelonEntity owner) {
         try {
-            StructureTemplateManager templateManager = world.getStructureTemplateManager();
-            Optional<StructureTemplate> templateOpt = templateManager.getTemplate(definition.structureId);
+            // Cached template with all allowed rotation/mirror variants precomputed
+            IslandTemplateLibrary.CachedTemplate cached = IslandTemplateLibrary.get(world.getStructureTemplateManager(), definition);
             
-            if (templateOpt.isEmpty()) {
+            if (cached == null) {
                 Aethelon.LOGGER.warn("Structure template not found: {}", definition.structureId);
                 return StructureSpawnResult.failure("Template not found: " + definition.structureId);
             }
             
-            StructureTemplate template = templateOpt.get();
-            
-            // Determine rotation and mirroring
-            BlockRotation rotation = definition.allowRotation ? 
-                BlockRotation.values()[world.getRandom().nextInt(BlockRotation.values().length)] : 
-                BlockRotation.NONE;
-                
-            BlockMirror mirror = definition.allowMirroring ? 
-                (world.getRandom().nextBoolean() ? BlockMirror.FRONT_BACK : BlockMirror.NONE) : 
-                BlockMirror.NONE;
-            
-            // Create placement data
-            StructurePlacementData placementData = new StructurePlacementData()
-                    .setRotation(rotation)
-                    .setMirror(mirror)
-                    .setIgnoreEntities(false);
+            // Random rotation and mirroring among the definition's allowed variants (precomputed)
+            IslandTemplateLibrary.TemplateVariant variant = cached.getRandomVariant(world.getRandom(),
+                    definition.allowRotation, definition.allowMirroring);
             
-            // Place the structure using Minecraft's built-in system
-            template.place(world, position, position, placementData, world.getRandom(), 2);
+            // Queue the placement instead of placing the whole template in this tick
+            IslandPlacementJob job = IslandPlacementJob.fromVariant(owner, cached, variant, position);
+            IslandWorkQueue.enqueue(world, job);
             
-            Aethelon.LOGGER.info("Successfully spawned datapack structure: {} at {}", definition.name, position);
-            return StructureSpawnResult.success(position, definition);
+            Aethelon.LOGGER.info("Queued datapack structure: {} at {} ({} blocks)", definition.name, position, job.getTotal());
+            return StructureSpawnResult.queued(position, definition, job, variant.rotation, variant.mirror);
             
         } catch (Exception e) {
             String errorMsg = "Failed to spawn structure: " + definition.name + " - " + e.getMessage();
@@ -266,34 +289,75 @@ public class DatapackStructureManager {
         }
     }
     
+    /**
+     * Rebuild the (size category, biome category) samplers from the registered structures
+     * Readers keep using the previous map until the new one is published
+     */
+    private static void rebuildSamplers() {
+        // Name order keeps seeded selection stable regardless of registration order
+        List<IslandStructureDefinition> definitions = new ArrayList<>(REGISTERED_STRUCTURES.values());
+        definitions.sort(Comparator.comparing(def -> def.name));
+        
+        Map<String, Map<String, List<IslandStructureDefinition>>> grouped = new HashMap<>();
+        for (IslandStructureDefinition definition : definitions) {
+            for (String biomeCategory : definition.biomeCategories) {
+                grouped.computeIfAbsent(definition.sizeCategory, key -> new HashMap<>())
+                       .computeIfAbsent(biomeCategory, key -> new ArrayList<>())
+                       .add(definition);
+            }
+        }
+        
+        Map<String, Map<String, WeightedAliasSampler<IslandStructureDefinition>>> samplers = new HashMap<>();
+        grouped.forEach((sizeCategory, byBiome) -> {
+            Map<String, WeightedAliasSampler<IslandStructureDefinition>> biomeSamplers = new HashMap<>();
+            byBiome.forEach((biomeCategory, candidates) ->
+                biomeSamplers.put(biomeCategory, WeightedAliasSampler.create(candidates, def -> def.weight)));
+            samplers.put(sizeCategory, Map.copyOf(biomeSamplers));
+        });
+        SAMPLERS = Map.copyOf(samplers);
+    }
+    
+    /**
+     * Get the sampler for a size and biome category (empty if nothing matches)
+     */
+    public static WeightedAliasSampler<IslandStructureDefinition> getSampler(String sizeCategory, String biomeCategory) {
+        Map<String, WeightedAliasSampler<IslandStructureDefinition>> byBiome = SAMPLERS.get(sizeCategory);
+        WeightedAliasSampler<IslandStructureDefinition> sampler = byBiome != null ? byBiome.get(biomeCategory) : null;
+        return sampler != null ? sampler : WeightedAliasSampler.empty();
+    }
+    
+    /**
+     * Pick a weighted random structure for a size and biome category, or null if none match
+     */
+    public static IslandStructureDefinition selectRandomStructure(String sizeCategory, String biomeCategory, Random random) {
+        return getSampler(sizeCategory, biomeCategory).sample(random);
+    }
+    
     /**
      * Spawn a random structure from a category
      */
     public static StructureSpawnResult spawnRandomStructure(ServerWorld world, String sizeCategory, 
                                                           BlockPos position, String biomeCategory) {
-        List<IslandStructureDefinition> candidates = REGISTERED_STRUCTURES.values().stream()
-                .filter(def -> categorizeBySize(def.size).equals(sizeCategory))
-                .filter(def -> def.biomeCategories.contains(biomeCategory))
-                .toList();
+        return spawnRandomStructure(world, sizeCategory, position, biomeCategory, world.getRandom());
+    }
+    
+    /**
+     * Spawn a random structure from a category with a fixed seed (same seed, same structure)
+     */
+    public static StructureSpawnResult spawnRandomStructure(ServerWorld world, String sizeCategory, 
+                                                          BlockPos position, String biomeCategory, long seed) {
+        return spawnRandomStructure(world, sizeCategory, position, biomeCategory, Random.create(seed));
+    }
+    
+    private static StructureSpawnResult spawnRandomStructure(ServerWorld world, String sizeCategory, 
+                                                           BlockPos position, String biomeCategory, Random random) {
+        IslandStructureDefinition definition = selectRandomStructure(sizeCategory, biomeCategory, random);
         
-        if (candidates.isEmpty()) {
+        if (definition == null) {
             return StructureSpawnResult.failure("No structures found for category: " + sizeCategory + " in biome: " + biomeCategory);
         }
         
-        // Weighted random selection
-        int totalWeight = candidates.stream().mapToInt(def -> def.weight).sum();
-        int randomWeight = world.getRandom().nextInt(totalWeight);
-        
-        int currentWeight = 0;
-        for (IslandStructureDefinition definition : candidates) {
-            currentWeight += definition.weight;
-            if (randomWeight < currentWeight) {
-                return spawnStructure(world, definition, position);
-            }
-        }
-        
-        // Fallback to first candidate
-        return spawnStructure(world, candidates.get(0), position);
+        return spawnStructure(world, definition, position);
     }
     
     /**
@@ -313,6 +377,13 @@ public class DatapackStructureManager {
         return new HashSet<>(REGISTERED_STRUCTURES.keySet());
     }
     
+    /**
+     * Get all registered structure definitions
+     */
+    public static Collection<IslandStructureDefinition> getStructureDefinitions() {
+        return Collections.unmodifiableCollection(REGISTERED_STRUCTURES.values());
+    }
+    
     /**
      * Get structure definition by name
      */
@@ -0,0 +1,157 @@
+package com.bvhfve.aethelon.structure;
+
+import com.bvhfve.aethelon.island.IslandVolume;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Clearable;
+import net.minecraft.util.math.BlockPos;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Section-batched island block mover
+ *
+ * Moves every block of an island volume by one integer displacement:
+ * - Blocks are processed in a sweep order (descending along the displacement) so a
+ *   block is always lifted before anything is written on top of it
+ * - Writes go through SectionBlockWriter: no neighbour/observer updates, consistent
+ *   heightmaps and lighting, one ChunkDeltaUpdateS2CPacket per touched section
+ * - A move touching an unloaded chunk is not started at all, so an island is never left half moved;
+ *   the caller keeps its old anchor and retries once the chunks are loaded
+ * - Block entity data (chest contents, signs...) is captured before the move, containers are
+ *   emptied so nothing scatters, and the data is read back into the block entities at the target
+ */
+public class IslandBlockMover {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("AethelonIslandBlockMover");
+
+    /**
+     * Result of a batched move
+     */
+    public static class MoveResult {
+        public final int blocksMoved;
+        public final int sectionsTouched;
+        public final long durationNanos;
+        public final boolean deferred;
+
+        private MoveResult(int blocksMoved, int sectionsTouched, long durationNanos, boolean deferred) {
+            this.blocksMoved = blocksMoved;
+            this.sectionsTouched = sectionsTouched;
+            this.durationNanos = durationNanos;
+            this.deferred = deferred;
+        }
+
+        public static final MoveResult NONE = new MoveResult(0, 0, 0L, false);
+
+        // Nothing moved because a source or target chunk is not loaded
+        public static final MoveResult DEFERRED = new MoveResult(0, 0, 0L, true);
+    }
+
+    /**
+     * Move all island blocks from oldAnchor + relative to newAnchor + relative
+     * Cells whose world block was removed by players are dropped from the volume
+     * Returns MoveResult.DEFERRED without writing anything if any cell's source or target chunk is unloaded
+     */
+    public static MoveResult moveIsland(ServerWorld world, IslandVolume volume, BlockPos oldAnchor, BlockPos newAnchor) {
+        if (volume == null || volume.isEmpty() || oldAnchor.equals(newAnchor)) {
+            return MoveResult.NONE;
+        }
+
+        long start = System.nanoTime();
+        int dx = newAnchor.getX() - oldAnchor.getX();
+        int dy = newAnchor.getY() - oldAnchor.getY();
+        int dz = newAnchor.getZ() - oldAnchor.getZ();
+
+        // Compute the full displacement set
+        List<BlockPos> relativeCells = new ArrayList<>(volume.getBlockCount());
+        volume.forEachBlock((relativePos, state) -> relativeCells.add(relativePos.toImmutable()));
+
+        // Sweep order: a cell's destination is the source of the cell one displacement ahead,
+        // which has a larger dot product with the displacement and is therefore moved first
+        relativeCells.sort((a, b) -> Long.compare(
+            (long) b.getX() * dx + (long) b.getY() * dy + (long) b.getZ() * dz,
+            (long) a.getX() * dx + (long) a.getY() * dy + (long) a.getZ() * dz));
+
+        SectionBlockWriter writer = new SectionBlockWriter(world);
+        BlockPos.Mutable source = new BlockPos.Mutable();
+        BlockPos.Mutable target = new BlockPos.Mutable();
+        BlockPos.Mutable neighbour = new BlockPos.Mutable();
+        int moved = 0;
+
+        // All or nothing: the writer caches chunk lookups, so this costs one lookup per chunk
+        for (BlockPos relative : relativeCells) {
+            source.set(oldAnchor.getX() + relative.getX(), oldAnchor.getY() + relative.getY(), oldAnchor.getZ() + relative.getZ());
+            target.set(source.getX() + dx, source.getY() + dy, source.getZ() + dz);
+            if (!writer.isChunkLoaded(source) || !writer.isChunkLoaded(target)) {
+                LOGGER.debug("Deferred island move by ({}, {}, {}): chunk at {} not loaded", dx, dy, dz, source);
+                return MoveResult.DEFERRED;
+            }
+        }
+
+        Map<BlockPos, NbtCompound> blockEntityNbt = new HashMap<>();
+        for (BlockPos relative : relativeCells) {
+            source.set(oldAnchor.getX() + relative.getX(), oldAnchor.getY() + relative.getY(), oldAnchor.getZ() + relative.getZ());
+            if (!writer.getBlockState(source).hasBlockEntity()) continue;
+            BlockEntity blockEntity = world.getBlockEntity(source);
+            if (blockEntity != null) {
+                blockEntityNbt.put(relative, blockEntity.createNbtWithIdentifyingData(world.getRegistryManager()));
+                Clearable.clear(blockEntity);
+            }
+        }
+
+        for (BlockPos relative : relativeCells) {
+            source.set(oldAnchor.getX() + relative.getX(), oldAnchor.getY() + relative.getY(), oldAnchor.getZ() + relative.getZ());
+            target.set(source.getX() + dx, source.getY() + dy, source.getZ() + dz);
+
+            BlockState state = writer.getBlockState(source);
+            if (state.isAir()) {
+                // Block was broken since the last move - stop tracking it, and clear the
+                // destination the cell ahead of it left behind expecting this block to land there
+                volume.set(relative, Blocks.AIR.getDefaultState());
+                neighbour.set(relative.getX() + dx, relative.getY() + dy, relative.getZ() + dz);
+                if (volume.hasBlock(neighbour)) {
+                    writer.setBlockState(target, Blocks.AIR.getDefaultState());
+                }
+                continue;
+            }
+
+            writer.setBlockState(target, state);
+
+            // Only clear the source if no other island block moves into it
+            neighbour.set(relative.getX() - dx, relative.getY() - dy, relative.getZ() - dz);
+            if (!volume.hasBlock(neighbour)) {
+                writer.setBlockState(source, Blocks.AIR.getDefaultState());
+            }
+            moved++;
+        }
+
+        int sections = writer.flush();
+
+        // Block entities at the target were created empty by the state writes
+        for (Map.Entry<BlockPos, NbtCompound> entry : blockEntityNbt.entrySet()) {
+            BlockPos relative = entry.getKey();
+            target.set(oldAnchor.getX() + relative.getX() + dx, oldAnchor.getY() + relative.getY() + dy, oldAnchor.getZ() + relative.getZ() + dz);
+            BlockEntity blockEntity = world.getBlockEntity(target);
+            if (blockEntity != null) {
+                blockEntity.read(entry.getValue(), world.getRegistryManager());
+                blockEntity.markDirty();
+                BlockState state = world.getBlockState(target);
+                world.updateListeners(target, state, state, Block.NOTIFY_LISTENERS);
+            }
+        }
+        long duration = System.nanoTime() - start;
+
+        LOGGER.debug("Moved {} island blocks by ({}, {}, {}) across {} sections in {} us",
+                   moved, dx, dy, dz, sections, duration / 1000L);
+        return new MoveResult(moved, sections, duration, false);
+    }
+}
@@ -0,0 +1,312 @@
+package com.bvhfve.aethelon.structure;
+
+import com.bvhfve.aethelon.island.IslandManager;
+import com.bvhfve.aethelon.mixin.StructureTemplateAccessor;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.minecraft.block.BlockState;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.structure.StructurePlacementData;
+import net.minecraft.structure.StructureTemplate;
+import net.minecraft.structure.StructureTemplateManager;
+import net.minecraft.util.BlockMirror;
+import net.minecraft.util.BlockRotation;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockBox;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.random.Random;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of island templates and their rotation/mirror variants
+ *
+ * Features:
+ * - Each template is read from the StructureTemplateManager once, at server start
+ *   (datapack structures and the built-in fallback islands)
+ * - Variants are cached per template and (rotation, mirror); the allowed variants of datapack
+ *   structures are precomputed, any other variant is built once on first use
+ * - Variants hold transformed offsets and states, so spawns never re-transform a template
+ * - Block lists are stored as compact parallel arrays (packed offsets, states, sparse NBT)
+ * - The cache is rebuilt on datapack reload and dropped when the server stops
+ */
+public class IslandTemplateLibrary {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("AethelonTemplateLibrary");
+
+    private static final String FALLBACK_PATH = "islands/";
+
+    private static final BlockRotation[] NO_ROTATION = { BlockRotation.NONE };
+    private static final BlockMirror[] NO_MIRROR = { BlockMirror.NONE };
+    private static final BlockMirror[] MIRRORS = { BlockMirror.NONE, BlockMirror.FRONT_BACK };
+
+    private static final Map<Identifier, CachedTemplate> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * One rotation/mirror variant of a template palette, relative to the placement position
+     */
+    public static class TemplateVariant {
+        public final BlockRotation rotation;
+        public final BlockMirror mirror;
+        public final BlockBox bounds; // Relative, inclusive
+        private final long[] offsets;
+        private final BlockState[] states;
+        private final NbtCompound[] blockEntityNbt; // Null entries for plain blocks
+        private final List<BlockPos> blockEntityOffsets;
+
+        private TemplateVariant(BlockRotation rotation, BlockMirror mirror, BlockBox bounds,
+                                long[] offsets, BlockState[] states, NbtCompound[] blockEntityNbt) {
+            this.rotation = rotation;
+            this.mirror = mirror;
+            this.bounds = bounds;
+            this.offsets = offsets;
+            this.states = states;
+            this.blockEntityNbt = blockEntityNbt;
+
+            List<BlockPos> blockEntities = new ArrayList<>();
+            for (int i = 0; i < offsets.length; i++) {
+                if (blockEntityNbt[i] != null) {
+                    blockEntities.add(BlockPos.fromLong(offsets[i]));
+                }
+            }
+            this.blockEntityOffsets = Collections.unmodifiableList(blockEntities);
+        }
+
+        public int size() {
+            return offsets.length;
+        }
+
+        public BlockPos getOffset(int index) {
+            return BlockPos.fromLong(offsets[index]);
+        }
+
+        public BlockState getState(int index) {
+            return states[index];
+        }
+
+        /**
+         * Block entity data for a block (a fresh copy, safe to modify), or null
+         */
+        public NbtCompound getBlockEntityNbt(int index) {
+            NbtCompound nbt = blockEntityNbt[index];
+            return nbt != null ? nbt.copy() : null;
+        }
+
+        /**
+         * Relative positions of all blocks with block entity data
+         */
+        public List<BlockPos> getBlockEntityOffsets() {
+            return blockEntityOffsets;
+        }
+
+        /**
+         * Bounds in the world for a placement position
+         */
+        public BlockBox getWorldBounds(BlockPos pos) {
+            return bounds.offset(pos.getX(), pos.getY(), pos.getZ());
+        }
+
+        /**
+         * Placement data matching this variant (entities are spawned with it)
+         */
+        public StructurePlacementData createPlacementData() {
+            return new StructurePlacementData()
+                    .setRotation(rotation)
+                    .setMirror(mirror)
+                    .setIgnoreEntities(false);
+        }
+    }
+
+    private record VariantKey(BlockRotation rotation, BlockMirror mirror) {
+    }
+
+    /**
+     * One template and the variants built from it so far (one per palette for each rotation/mirror)
+     */
+    public static class CachedTemplate {
+        public final Identifier id;
+        public final StructureTemplate template;
+        private final List<List<StructureTemplate.StructureBlockInfo>> palettes;
+        private final Map<VariantKey, List<TemplateVariant>> variants = new ConcurrentHashMap<>();
+
+        private CachedTemplate(Identifier id, StructureTemplate template, List<List<StructureTemplate.StructureBlockInfo>> palettes) {
+            this.id = id;
+            this.template = template;
+            this.palettes = palettes;
+        }
+
+        /**
+         * Pick a random palette and a random allowed rotation/mirror
+         */
+        public TemplateVariant getRandomVariant(Random random, boolean allowRotation, boolean allowMirroring) {
+            BlockRotation[] rotations = allowRotation ? BlockRotation.values() : NO_ROTATION;
+            BlockMirror[] mirrors = allowMirroring ? MIRRORS : NO_MIRROR;
+            return getVariant(random, rotations[random.nextInt(rotations.length)], mirrors[random.nextInt(mirrors.length)]);
+        }
+
+        /**
+         * Get a specific variant (random palette), building it on first use
+         */
+        public TemplateVariant getVariant(Random random, BlockRotation rotation, BlockMirror mirror) {
+            List<TemplateVariant> byPalette = getVariants(rotation, mirror);
+            return byPalette.get(random.nextInt(byPalette.size()));
+        }
+
+        public int getVariantCount() {
+            return variants.size() * palettes.size();
+        }
+
+        private List<TemplateVariant> getVariants(BlockRotation rotation, BlockMirror mirror) {
+            return variants.computeIfAbsent(new VariantKey(rotation, mirror), key -> {
+                List<TemplateVariant> byPalette = new ArrayList<>(palettes.size());
+                for (List<StructureTemplate.StructureBlockInfo> palette : palettes) {
+                    byPalette.add(createVariant(template, palette, rotation, mirror));
+                }
+                return Collections.unmodifiableList(byPalette);
+            });
+        }
+
+        private void precompute(boolean allowRotation, boolean allowMirroring) {
+            for (BlockRotation rotation : allowRotation ? BlockRotation.values() : NO_ROTATION) {
+                for (BlockMirror mirror : allowMirroring ? MIRRORS : NO_MIRROR) {
+                    getVariants(rotation, mirror);
+                }
+            }
+        }
+    }
+
+    /**
+     * Register lifecycle hooks
+     */
+    public static void initialize() {
+        ServerLifecycleEvents.SERVER_STARTED.register(IslandTemplateLibrary::preload);
+        ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, resourceManager, success) -> {
+            if (success) {
+                CACHE.clear();
+                preload(server);
+            }
+        });
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> CACHE.clear());
+        LOGGER.info("Island template library initialized");
+    }
+
+    /**
+     * Load and transform every registered island structure and every fallback island template
+     */
+    public static void preload(MinecraftServer server) {
+        long start = System.nanoTime();
+        StructureTemplateManager templateManager = server.getStructureTemplateManager();
+        int loaded = 0;
+        int variants = 0;
+
+        for (DatapackStructureManager.IslandStructureDefinition definition : DatapackStructureManager.getStructureDefinitions()) {
+            CachedTemplate cached = get(templateManager, definition);
+            if (cached != null) {
+                loaded++;
+                variants += cached.getVariantCount();
+            }
+        }
+
+        // Islands without a datapack definition are placed untransformed from aethelon:islands/<name>
+        for (IslandManager.IslandType type : IslandManager.IslandType.values()) {
+            if (DatapackStructureManager.hasStructure(type.structureName)) continue;
+            Identifier id = Identifier.of("aethelon", FALLBACK_PATH + type.structureName);
+            if (CACHE.containsKey(id) || templateManager.getTemplate(id).isEmpty()) continue;
+            CachedTemplate cached = get(templateManager, id);
+            if (cached != null) {
+                loaded++;
+                variants += cached.getVariantCount();
+            }
+        }
+
+        LOGGER.info("Preloaded {} island templates ({} variants) in {} ms",
+                   loaded, variants, (System.nanoTime() - start) / 1_000_000L);
+    }
+
+    /**
+     * Get a cached template for a registered structure, loading it on a cache miss
+     */
+    public static CachedTemplate get(StructureTemplateManager templateManager, DatapackStructureManager.IslandStructureDefinition definition) {
+        CachedTemplate cached = get(templateManager, definition.structureId);
+        if (cached != null) {
+            cached.precompute(definition.allowRotation, definition.allowMirroring);
+        }
+        return cached;
+    }
+
+    /**
+     * Get a cached template by id with its untransformed variant built, loading it on a cache miss
+     */
+    public static CachedTemplate get(StructureTemplateManager templateManager, Identifier id) {
+        CachedTemplate cached = CACHE.get(id);
+        return cached != null ? cached : load(templateManager, id);
+    }
+
+    /**
+     * Number of cached templates
+     */
+    public static int getCachedCount() {
+        return CACHE.size();
+    }
+
+    private static CachedTemplate load(StructureTemplateManager templateManager, Identifier id) {
+        try {
+            StructureTemplate template = templateManager.getTemplate(id).orElse(null);
+            if (template == null) {
+                LOGGER.warn("Island template not found: {}", id);
+                return null;
+            }
+
+            List<StructureTemplate.PalettedBlockInfoList> palettes = ((StructureTemplateAccessor) template).aethelon$getBlockInfoLists();
+            if (palettes.isEmpty()) {
+                LOGGER.warn("Island template has no blocks: {}", id);
+                return null;
+            }
+
+            List<List<StructureTemplate.StructureBlockInfo>> blockLists = new ArrayList<>(palettes.size());
+            for (StructureTemplate.PalettedBlockInfoList palette : palettes) {
+                blockLists.add(palette.getAll());
+            }
+
+            CachedTemplate cached = new CachedTemplate(id, template, Collections.unmodifiableList(blockLists));
+            cached.getVariants(BlockRotation.NONE, BlockMirror.NONE);
+            CachedTemplate existing = CACHE.putIfAbsent(id, cached);
+            return existing != null ? existing : cached;
+
+        } catch (Exception e) {
+            LOGGER.error("Failed to cache island template: {}", id, e);
+            return null;
+        }
+    }
+
+    /**
+     * Transform a palette the same way StructureTemplate.process does for processor-less placement
+     */
+    private static TemplateVariant createVariant(StructureTemplate template, List<StructureTemplate.StructureBlockInfo> infos,
+                                                 BlockRotation rotation, BlockMirror mirror) {
+        StructurePlacementData placementData = new StructurePlacementData()
+                .setRotation(rotation)
+                .setMirror(mirror);
+
+        int count = infos.size();
+        long[] offsets = new long[count];
+        BlockState[] states = new BlockState[count];
+        NbtCompound[] blockEntityNbt = new NbtCompound[count];
+
+        for (int i = 0; i < count; i++) {
+            StructureTemplate.StructureBlockInfo info = infos.get(i);
+            offsets[i] = StructureTemplate.transform(placementData, info.pos()).asLong();
+            states[i] = info.state().mirror(mirror).rotate(rotation);
+            blockEntityNbt[i] = info.nbt() != null ? info.nbt().copy() : null;
+        }
+
+        BlockBox bounds = template.calculateBoundingBox(placementData, BlockPos.ORIGIN);
+        return new TemplateVariant(rotation, mirror, bounds, offsets, states, blockEntityNbt);
+    }
+}
@@ -2,8 +2,12 @@ package com.bvhfve.aethelon.structure;
 
 import com.bvhfve.aethelon.Aethelon;
 import com.bvhfve.aethelon.entity.AethelonEntity;
+import com.bvhfve.aethelon.island.IslandJob;
+import com.bvhfve.aethelon.island.IslandRemovalJob;
+import com.bvhfve.aethelon.island.IslandVolume;
+import com.bvhfve.aethelon.island.IslandWorkQueue;
+import com.bvhfve.aethelon.util.PerformanceGovernor;
 import net.minecraft.block.BlockState;
-import net.minecraft.block.Blocks;
 import net.minecraft.entity.Entity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
@@ -29,8 +33,8 @@ public class MovingIslandManager {
     private Vec3d islandSize = Vec3d.ZERO;
     private Vec3d lastTurtlePosition = Vec3d.ZERO;
     
-    // Virtual island tracking - blocks relative to turtle position
-    private Map<Vec3d, BlockState> relativeIslandBlocks = new HashMap<>();
+    // Virtual island tracking - blocks relative to turtle position (volume origin is a turtle-relative offset)
+    private IslandVolume relativeIslandBlocks = null;
     private List<Entity> islandEntities = new ArrayList<>();
     private Box islandBounds = null;
     
@@ -89,7 +93,7 @@ public class MovingIslandManager {
             
             // Spawn structure using datapack system
             DatapackStructureManager.StructureSpawnResult result = 
-                DatapackStructureManager.spawnStructure(serverWorld, structureName, spawnPos);
+                DatapackStructureManager.spawnStructure(serverWorld, structureName, spawnPos, turtle);
             
             if (result.success) {
                 this.currentStructureName = structureName;
@@ -97,8 +101,8 @@ public class MovingIslandManager {
                 this.hasIsland = true;
                 this.lastTurtlePosition = turtlePos;
                 
-                // Capture the island blocks in relative coordinates
-                captureIslandBlocks(serverWorld, spawnPos, result.definition.size);
+                // Capture the island blocks in relative coordinates once placement is done
+                captureWhenPlaced(serverWorld, result, spawnPos);
                 
                 LOGGER.info("Successfully spawned moving island: {} at {}", structureName, spawnPos);
                 return true;
@@ -145,8 +149,8 @@ public class MovingIslandManager {
                 this.hasIsland = true;
                 this.lastTurtlePosition = turtlePos;
                 
-                // Capture the island blocks in relative coordinates
-                captureIslandBlocks(serverWorld, spawnPos, result.definition.size);
+                // Capture the island blocks in relative coordinates once placement is done
+                captureWhenPlaced(serverWorld, result, spawnPos);
                 
                 LOGGER.info("Successfully spawned random moving island: {} at {}", 
                           result.definition.name, spawnPos);
@@ -162,28 +166,48 @@ public class MovingIslandManager {
         }
     }
     
+    /**
+     * Capture island blocks now, or when a queued placement finishes
+     */
+    private void captureWhenPlaced(ServerWorld world, DatapackStructureManager.StructureSpawnResult result, BlockPos spawnPos) {
+        if (result.placementJob == null) {
+            captureIslandBlocks(world, spawnPos, result.definition.size);
+            return;
+        }
+        
+        result.placementJob.addListener(new IslandJob.Listener() {
+            @Override
+            public void onComplete(IslandJob job) {
+                if (hasIsland) {
+                    captureIslandBlocks(world, spawnPos, result.definition.size);
+                }
+            }
+        });
+    }
+    
     /**
      * Capture island blocks in relative coordinates to the turtle
      */
     private void captureIslandBlocks(ServerWorld world, BlockPos centerPos, Vec3d size) {
-        relativeIslandBlocks.clear();
-        
-        Vec3d turtlePos = turtle.getPos();
         int halfWidth = (int) (size.x / 2);
         int halfLength = (int) (size.z / 2);
-        int height = (int) size.y;
+        int height = Math.max(1, (int) size.y);
+        
+        // Relative grid starts one block above the turtle (+1 offset) and spans the structure footprint
+        relativeIslandBlocks = new IslandVolume(new BlockPos(-halfWidth, 1, -halfLength),
+                halfWidth * 2 + 1, height, halfLength * 2 + 1);
         
         // Scan the structure area and store blocks relative to turtle
+        BlockPos.Mutable worldPos = new BlockPos.Mutable();
         for (int x = -halfWidth; x <= halfWidth; x++) {
             for (int y = 0; y < height; y++) {
                 for (int z = -halfLength; z <= halfLength; z++) {
-                    BlockPos worldPos = centerPos.add(x, y, z);
+                    worldPos.set(centerPos.getX() + x, centerPos.getY() + y, centerPos.getZ() + z);
                     BlockState state = world.getBlockState(worldPos);
                     
                     if (!state.isAir()) {
                         // Store relative to turtle position
-                        Vec3d relativePos = new Vec3d(x, y + 1, z); // +1 for offset above turtle
-                        relativeIslandBlocks.put(relativePos, state);
+                        relativeIslandBlocks.set(x, y + 1, z, state); // +1 for offset above turtle
                     }
                 }
             }
@@ -192,7 +216,8 @@ public class MovingIslandManager {
         // Update bounds
         updateIslandBounds();
         
-        LOGGER.debug("Captured {} blocks for moving island", relativeIslandBlocks.size());
+        LOGGER.debug("Captured {} blocks for moving island ({})", 
+                   relativeIslandBlocks.getBlockCount(), relativeIslandBlocks.getMemoryReport());
     }
     
     /**
@@ -221,9 +246,12 @@ public class MovingIslandManager {
         // Only update if turtle moved significantly
         if (movement.length() < 0.1) return;
         
+        // Hold the island while the server is overloaded, the next move catches up the whole displacement
+        if (PerformanceGovernor.shouldPauseIslandMoves()) return;
+        
         try {
-            // Move all island blocks
-            moveIslandBlocks(world, movement);
+            // Move all island blocks; hold everything while a chunk the island touches is unloaded
+            if (!moveIslandBlocks(world, movement)) return;
             
             // Update entity positions
             moveIslandEntities(movement);
@@ -240,36 +268,23 @@ public class MovingIslandManager {
     
     /**
      * Move all island blocks with the turtle
+     * Uses the section-batched mover so a block-step is one sweep with one packet per section
+     * Returns false if the move was deferred because a chunk it touches is not loaded
      */
-    private void moveIslandBlocks(World world, Vec3d movement) {
-        if (!(world instanceof ServerWorld serverWorld)) return;
+    private boolean moveIslandBlocks(World world, Vec3d movement) {
+        if (!(world instanceof ServerWorld serverWorld) || relativeIslandBlocks == null) return true;
         
-        // Calculate old and new world positions for all blocks
-        Map<BlockPos, BlockPos> blockMoves = new HashMap<>();
-        Vec3d oldTurtlePos = lastTurtlePosition;
-        Vec3d newTurtlePos = turtle.getPos();
-        
-        for (Vec3d relativePos : relativeIslandBlocks.keySet()) {
-            BlockPos oldWorldPos = BlockPos.ofFloored(oldTurtlePos.add(relativePos));
-            BlockPos newWorldPos = BlockPos.ofFloored(newTurtlePos.add(relativePos));
-            blockMoves.put(oldWorldPos, newWorldPos);
-        }
+        // Island cells sit at floor(turtlePos) + relative, so the whole island shifts by one integer displacement
+        BlockPos oldAnchor = BlockPos.ofFloored(lastTurtlePosition);
+        BlockPos newAnchor = BlockPos.ofFloored(turtle.getPos());
+        if (oldAnchor.equals(newAnchor)) return true;
         
-        // Move blocks efficiently
-        for (Map.Entry<BlockPos, BlockPos> move : blockMoves.entrySet()) {
-            BlockPos oldPos = move.getKey();
-            BlockPos newPos = move.getValue();
-            
-            if (!oldPos.equals(newPos)) {
-                BlockState state = serverWorld.getBlockState(oldPos);
-                if (!state.isAir()) {
-                    // Remove old block
-                    serverWorld.setBlockState(oldPos, Blocks.AIR.getDefaultState());
-                    // Place at new position
-                    serverWorld.setBlockState(newPos, state);
-                }
-            }
+        IslandBlockMover.MoveResult result = IslandBlockMover.moveIsland(serverWorld, relativeIslandBlocks, oldAnchor, newAnchor);
+        if (result.blocksMoved > 0) {
+            LOGGER.debug("Island step moved {} blocks in {} sections ({} us)", 
+                       result.blocksMoved, result.sectionsTouched, result.durationNanos / 1000L);
         }
+        return !result.deferred;
     }
     
     /**
@@ -289,30 +304,32 @@ public class MovingIslandManager {
     
     /**
      * Remove the moving island
+     * Blocks are cleared incrementally by IslandWorkQueue; returns the queued removal job or null
      */
-    public void removeMovingIsland(World world) {
-        if (!hasIsland || world.isClient) return;
+    public IslandJob removeMovingIsland(World world) {
+        if (!hasIsland || world.isClient) return null;
         
         LOGGER.info("Removing moving island from turtle");
         
-        if (world instanceof ServerWorld serverWorld) {
-            // Remove all island blocks
-            Vec3d turtlePos = turtle.getPos();
-            for (Vec3d relativePos : relativeIslandBlocks.keySet()) {
-                BlockPos worldPos = BlockPos.ofFloored(turtlePos.add(relativePos));
-                serverWorld.setBlockState(worldPos, Blocks.AIR.getDefaultState());
-            }
+        IslandJob removalJob = null;
+        if (world instanceof ServerWorld serverWorld && relativeIslandBlocks != null && !relativeIslandBlocks.isEmpty()) {
+            // Shift the relative volume to the island's current world position
+            BlockPos anchor = BlockPos.ofFloored(turtle.getPos());
+            IslandVolume worldBlocks = relativeIslandBlocks.copyWithOrigin(relativeIslandBlocks.getOrigin().add(anchor));
+            removalJob = new IslandRemovalJob(anchor, worldBlocks);
+            IslandWorkQueue.enqueue(serverWorld, removalJob);
         }
         
         // Clear data
         clearIslandData();
+        return removalJob;
     }
     
     /**
      * Clear all island data
      */
     private void clearIslandData() {
-        relativeIslandBlocks.clear();
+        relativeIslandBlocks = null;
         islandEntities.clear();
         islandBounds = null;
         hasIsland = false;
@@ -337,6 +354,42 @@ public class MovingIslandManager {
         return islandBounds;
     }
     
+    /**
+     * Get the turtle-relative block volume of the island (null when no island)
+     */
+    public IslandVolume getRelativeIslandBlocks() {
+        return relativeIslandBlocks;
+    }
+    
+    /**
+     * Check if a world block position is part of the island
+     */
+    public boolean isIslandBlock(BlockPos worldPos) {
+        if (!hasIsland || relativeIslandBlocks == null) return false;
+        // floor(turtlePos + relative) == floor(turtlePos) + relative for integer offsets
+        return relativeIslandBlocks.hasBlock(worldPos.subtract(turtle.getBlockPos()));
+    }
+    
+    /**
+     * Get all island block positions in world coordinates
+     */
+    public Set<BlockPos> getIslandBlockPositions() {
+        Set<BlockPos> positions = new HashSet<>();
+        if (relativeIslandBlocks == null) return positions;
+        
+        Vec3d turtlePos = turtle.getPos();
+        relativeIslandBlocks.forEachBlock((relativePos, state) -> positions.add(
+            BlockPos.ofFloored(turtlePos.add(relativePos.getX(), relativePos.getY(), relativePos.getZ()))));
+        return positions;
+    }
+    
+    /**
+     * Get a memory usage summary for the island block storage
+     */
+    public String getIslandMemoryReport() {
+        return relativeIslandBlocks != null ? relativeIslandBlocks.getMemoryReport() : "No island volume";
+    }
+    
     /**
      * Get entities on the island
      */
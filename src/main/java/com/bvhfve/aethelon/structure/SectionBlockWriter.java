@@ -0,0 +1,170 @@
+package com.bvhfve.aethelon.structure;
+
+import com.bvhfve.aethelon.navigation.OceanNavigationGraph;
+import com.bvhfve.aethelon.ocean.OceanDepthField;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.ShortOpenHashSet;
+import it.unimi.dsi.fastutil.shorts.ShortSet;
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.network.packet.s2c.play.ChunkDeltaUpdateS2CPacket;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+import net.minecraft.world.chunk.light.LightingProvider;
+
+/**
+ * Direct ChunkSection writer that accumulates changed positions per section
+ *
+ * Shared by the island mover and island materialization:
+ * - Writes go straight into ChunkSections with no neighbour/observer updates
+ * - Heightmaps and lighting are kept consistent per written block
+ * - flush() sends one ChunkDeltaUpdateS2CPacket per touched section
+ *
+ * Blocks with block entities fall back to World.setBlockState with neighbour updates
+ * suppressed so their block entity lifecycle stays correct.
+ *
+ * Unloaded chunks are never written: setBlockState reports them as not written and the
+ * caller keeps those cells pending until the chunk is loaded again.
+ */
+public class SectionBlockWriter {
+
+    // Flags for block entity writes: sync to clients, but no neighbour/observer updates or drops
+    private static final int FALLBACK_FLAGS = Block.NOTIFY_LISTENERS | Block.FORCE_STATE | Block.SKIP_DROPS;
+
+    private static final Heightmap.Type[] TRACKED_HEIGHTMAPS = {
+        Heightmap.Type.MOTION_BLOCKING,
+        Heightmap.Type.MOTION_BLOCKING_NO_LEAVES,
+        Heightmap.Type.OCEAN_FLOOR,
+        Heightmap.Type.WORLD_SURFACE
+    };
+
+    private final ServerWorld world;
+    private final LightingProvider lightingProvider;
+    private final Long2ObjectMap<WorldChunk> chunks = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectMap<ShortSet> changedBySection = new Long2ObjectOpenHashMap<>();
+
+    public SectionBlockWriter(ServerWorld world) {
+        this.world = world;
+        this.lightingProvider = world.getChunkManager().getLightingProvider();
+    }
+
+    public ServerWorld getWorld() {
+        return world;
+    }
+
+    /**
+     * Get a block state from a loaded chunk, or null if the chunk is not loaded
+     */
+    public BlockState getBlockState(BlockPos pos) {
+        if (world.isOutOfHeightLimit(pos)) {
+            return Blocks.AIR.getDefaultState();
+        }
+        WorldChunk chunk = getLoadedChunk(pos);
+        if (chunk == null) {
+            return null;
+        }
+        return chunk.getBlockState(pos);
+    }
+
+    /**
+     * Check if the chunk containing a position is loaded (and may be written)
+     */
+    public boolean isChunkLoaded(BlockPos pos) {
+        return getLoadedChunk(pos) != null;
+    }
+
+    /**
+     * Write a block state without neighbour updates
+     *
+     * @return false if the chunk is not loaded - nothing was written and the caller must keep the cell pending
+     */
+    public boolean setBlockState(BlockPos pos, BlockState state) {
+        if (world.isOutOfHeightLimit(pos)) return true;
+
+        WorldChunk chunk = getLoadedChunk(pos);
+        if (chunk == null) {
+            return false;
+        }
+
+        ChunkSection section = chunk.getSection(chunk.getSectionIndex(pos.getY()));
+        int lx = pos.getX() & 15;
+        int ly = pos.getY() & 15;
+        int lz = pos.getZ() & 15;
+
+        BlockState previous = section.getBlockState(lx, ly, lz);
+        if (previous == state) return true;
+
+        // Block entities need the regular lifecycle (creation, removal, syncing); the chunk is loaded, so this never loads one
+        if (previous.hasBlockEntity() || state.hasBlockEntity()) {
+            world.setBlockState(pos, state, FALLBACK_FLAGS);
+            return true;
+        }
+
+        boolean wasEmpty = section.isEmpty();
+        section.setBlockState(lx, ly, lz, state, false);
+        if (wasEmpty != section.isEmpty()) {
+            lightingProvider.setSectionStatus(pos, section.isEmpty());
+        }
+
+        for (Heightmap.Type type : TRACKED_HEIGHTMAPS) {
+            chunk.getHeightmap(type).trackUpdate(lx, pos.getY(), lz, state);
+        }
+        lightingProvider.checkBlock(pos);
+        chunk.markNeedsSaving();
+
+        long sectionKey = ChunkSectionPos.asLong(chunk.getPos().x, ChunkSectionPos.getSectionCoord(pos.getY()), chunk.getPos().z);
+        changedBySection.computeIfAbsent(sectionKey, key -> new ShortOpenHashSet())
+                .add(ChunkSectionPos.packLocal(pos));
+        return true;
+    }
+
+    /**
+     * Send one delta packet per touched section, returns the number of sections
+     */
+    public int flush() {
+        for (Long2ObjectMap.Entry<ShortSet> entry : changedBySection.long2ObjectEntrySet()) {
+            ChunkSectionPos sectionPos = ChunkSectionPos.from(entry.getLongKey());
+            WorldChunk chunk = chunks.get(ChunkPos.toLong(sectionPos.getSectionX(), sectionPos.getSectionZ()));
+            if (chunk == null) continue;
+
+            // Direct section writes skip WorldChunk.setBlockState, so the depth field and nav graph are told here
+            OceanDepthField.invalidateChunk(world, sectionPos.getSectionX(), sectionPos.getSectionZ());
+            if (sectionPos.getMinY() < world.getSeaLevel()) {
+                OceanNavigationGraph.invalidateChunk(world, sectionPos.getSectionX(), sectionPos.getSectionZ());
+            }
+            
+            ChunkSection section = chunk.getSection(chunk.sectionCoordToIndex(sectionPos.getSectionY()));
+            ChunkDeltaUpdateS2CPacket packet = new ChunkDeltaUpdateS2CPacket(sectionPos, entry.getValue(), section);
+            for (ServerPlayerEntity player : PlayerLookup.tracking(world, sectionPos.toChunkPos())) {
+                player.networkHandler.sendPacket(packet);
+            }
+        }
+
+        int sections = changedBySection.size();
+        changedBySection.clear();
+        return sections;
+    }
+
+    private WorldChunk getLoadedChunk(BlockPos pos) {
+        int chunkX = ChunkSectionPos.getSectionCoord(pos.getX());
+        int chunkZ = ChunkSectionPos.getSectionCoord(pos.getZ());
+        long key = ChunkPos.toLong(chunkX, chunkZ);
+
+        WorldChunk chunk = chunks.get(key);
+        if (chunk == null && !chunks.containsKey(key)) {
+            // Never force a synchronous load from a batched writer
+            chunk = world.getChunkManager().getWorldChunk(chunkX, chunkZ);
+            chunks.put(key, chunk);
+        }
+        return chunk;
+    }
+}
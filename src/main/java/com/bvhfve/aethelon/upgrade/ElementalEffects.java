@@ -25,10 +25,11 @@ public class ElementalEffects {
      * Applies elemental effects when hitting an entity with an upgraded weapon
      */
     public static void applyElementalEffect(World world, ItemStack weapon, LivingEntity attacker, LivingEntity target) {
-        WeaponUpgradeSystem.GemType upgradeType = WeaponUpgradeSystem.getUpgradeType(weapon);
-        if (upgradeType == null) return;
+        WeaponUpgrade upgrade = WeaponUpgradeSystem.getUpgrade(weapon);
+        if (upgrade == null) return;
         
-        int tier = WeaponUpgradeSystem.getUpgradeTier(weapon);
+        WeaponUpgradeSystem.GemType upgradeType = upgrade.type();
+        int tier = upgrade.tier();
         float effectStrength = tier * 0.2f; // 20% per tier
         
         switch (upgradeType) {
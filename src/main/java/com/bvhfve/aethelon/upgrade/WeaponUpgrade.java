@@ -0,0 +1,34 @@
+package com.bvhfve.aethelon.upgrade;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.util.dynamic.Codecs;
+
+/**
+ * Gem upgrade state of a weapon, stored in the weapon_upgrade data component
+ *
+ * Reading it is a plain component lookup on the stack - no NBT copy or parsing per hit or tooltip.
+ */
+public record WeaponUpgrade(WeaponUpgradeSystem.GemType type, int tier) {
+
+    public static final Codec<WeaponUpgrade> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            WeaponUpgradeSystem.GemType.CODEC.fieldOf("type").forGetter(WeaponUpgrade::type),
+            Codecs.rangedInt(1, WeaponUpgradeSystem.MAX_UPGRADE_TIER).fieldOf("tier").forGetter(WeaponUpgrade::tier)
+    ).apply(instance, WeaponUpgrade::new));
+
+    public static final PacketCodec<ByteBuf, WeaponUpgrade> PACKET_CODEC = PacketCodec.tuple(
+            WeaponUpgradeSystem.GemType.PACKET_CODEC, WeaponUpgrade::type,
+            PacketCodecs.VAR_INT, WeaponUpgrade::tier,
+            WeaponUpgrade::new
+    );
+
+    /**
+     * Damage bonus as a fraction (0.2 per tier)
+     */
+    public float damageBonus() {
+        return tier * WeaponUpgradeSystem.DAMAGE_INCREASE_PER_TIER;
+    }
+}
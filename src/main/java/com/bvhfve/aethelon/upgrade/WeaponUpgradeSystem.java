@@ -2,14 +2,23 @@ package com.bvhfve.aethelon.upgrade;
 
 import com.bvhfve.aethelon.Aethelon;
 import com.bvhfve.aethelon.items.ModItems;
+import com.bvhfve.aethelon.registry.ModDataComponents;
+import com.mojang.serialization.Codec;
+import io.netty.buffer.ByteBuf;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.minecraft.component.DataComponentTypes;
 import net.minecraft.component.type.NbtComponent;
+import net.minecraft.inventory.Inventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
 import net.minecraft.nbt.NbtCompound;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.StringIdentifiable;
 
 /**
  * Weapon Upgrade System using existing crafting ingredients as gems
@@ -27,7 +36,7 @@ public class WeaponUpgradeSystem {
     public static final float DAMAGE_INCREASE_PER_TIER = 0.2f; // 20% per tier
     public static final int TOTAL_GEMS_NEEDED = 15; // 1+2+3+4+5
     
-    // NBT keys for storing upgrade data
+    // Legacy custom data keys, read only to migrate stacks upgraded before the weapon_upgrade component
     private static final String UPGRADE_TIER_KEY = "aethelon_upgrade_tier";
     private static final String UPGRADE_TYPE_KEY = "aethelon_upgrade_type";
     private static final String UPGRADE_DAMAGE_KEY = "aethelon_upgrade_damage";
@@ -35,7 +44,7 @@ public class WeaponUpgradeSystem {
     /**
      * Gem types and their corresponding elemental effects
      */
-    public enum GemType {
+    public enum GemType implements StringIdentifiable {
         TURTLE_SCALE("turtle_scale", "Aquatic", Formatting.AQUA, ModItems.ANCIENT_TURTLE_SCALE),
         TURTLE_HEART("turtle_heart", "Vitality", Formatting.RED, ModItems.TURTLE_HEART),
         CRYSTALLIZED_WATER("crystallized_water", "Frost", Formatting.BLUE, ModItems.CRYSTALLIZED_WATER),
@@ -47,6 +56,10 @@ public class WeaponUpgradeSystem {
         private final Formatting color;
         private final Object gemItem;
         
+        public static final Codec<GemType> CODEC = StringIdentifiable.createCodec(GemType::values);
+        public static final PacketCodec<ByteBuf, GemType> PACKET_CODEC = PacketCodecs.indexed(
+                index -> values()[index], GemType::ordinal);
+        
         GemType(String id, String displayName, Formatting color, Object gemItem) {
             this.id = id;
             this.displayName = displayName;
@@ -59,6 +72,18 @@ public class WeaponUpgradeSystem {
         public Formatting getColor() { return color; }
         public Object getGemItem() { return gemItem; }
         
+        @Override
+        public String asString() { return id; }
+        
+        public static GemType fromId(String id) {
+            for (GemType type : values()) {
+                if (type.id.equals(id)) {
+                    return type;
+                }
+            }
+            return null;
+        }
+        
         public static GemType fromItem(ItemStack stack) {
             if (stack.getItem() == ModItems.ANCIENT_TURTLE_SCALE) return TURTLE_SCALE;
             if (stack.getItem() == ModItems.TURTLE_HEART) return TURTLE_HEART;
@@ -83,38 +108,92 @@ public class WeaponUpgradeSystem {
                weapon.getItem() == Items.TRIDENT || weapon.getItem() == ModItems.ANCIENT_TRIDENT;
     }
     
+    /**
+     * Register the join hook that migrates legacy upgraded weapons in player inventories
+     */
+    public static void initialize() {
+        ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> {
+            ServerPlayerEntity player = handler.getPlayer();
+            int migrated = migrateInventory(player.getInventory()) + migrateInventory(player.getEnderChestInventory());
+            if (migrated > 0) {
+                Aethelon.LOGGER.info("Migrated {} legacy upgraded weapons for {}", migrated, player.getName().getString());
+            }
+        });
+    }
+    
+    /**
+     * Gets the upgrade of a weapon, or null if it has none
+     */
+    public static WeaponUpgrade getUpgrade(ItemStack weapon) {
+        WeaponUpgrade upgrade = weapon.get(ModDataComponents.WEAPON_UPGRADE);
+        return upgrade != null ? upgrade : readLegacyUpgrade(weapon);
+    }
+    
     /**
      * Gets the current upgrade tier of a weapon
      */
     public static int getUpgradeTier(ItemStack weapon) {
-        if (!weapon.contains(DataComponentTypes.CUSTOM_DATA)) {
-            return 0;
-        }
-        
-        NbtComponent customData = weapon.get(DataComponentTypes.CUSTOM_DATA);
-        if (customData == null) return 0;
-        
-        return customData.copyNbt().getInt(UPGRADE_TIER_KEY);
+        WeaponUpgrade upgrade = getUpgrade(weapon);
+        return upgrade != null ? upgrade.tier() : 0;
     }
     
     /**
      * Gets the upgrade type of a weapon
      */
     public static GemType getUpgradeType(ItemStack weapon) {
-        if (!weapon.contains(DataComponentTypes.CUSTOM_DATA)) {
-            return null;
-        }
+        WeaponUpgrade upgrade = getUpgrade(weapon);
+        return upgrade != null ? upgrade.type() : null;
+    }
+    
+    /**
+     * Moves legacy aethelon_upgrade_* custom data into the weapon_upgrade component
+     *
+     * @return whether the stack was changed
+     */
+    public static boolean migrateLegacyUpgrade(ItemStack stack) {
+        NbtComponent customData = stack.get(DataComponentTypes.CUSTOM_DATA);
+        if (customData == null || !customData.contains(UPGRADE_TIER_KEY)) return false;
         
+        WeaponUpgrade upgrade = getUpgrade(stack);
+        NbtCompound nbt = customData.copyNbt();
+        nbt.remove(UPGRADE_TIER_KEY);
+        nbt.remove(UPGRADE_TYPE_KEY);
+        nbt.remove(UPGRADE_DAMAGE_KEY);
+        if (nbt.isEmpty()) {
+            stack.remove(DataComponentTypes.CUSTOM_DATA);
+        } else {
+            stack.set(DataComponentTypes.CUSTOM_DATA, NbtComponent.of(nbt));
+        }
+        if (upgrade != null) {
+            stack.set(ModDataComponents.WEAPON_UPGRADE, upgrade);
+        }
+        return true;
+    }
+    
+    /**
+     * Reads an upgrade from the legacy custom data keys; only stacks carrying them pay for the NBT copy
+     */
+    private static WeaponUpgrade readLegacyUpgrade(ItemStack weapon) {
         NbtComponent customData = weapon.get(DataComponentTypes.CUSTOM_DATA);
-        if (customData == null) return null;
+        if (customData == null || !customData.contains(UPGRADE_TIER_KEY)) return null;
         
-        String typeId = customData.copyNbt().getString(UPGRADE_TYPE_KEY);
-        for (GemType type : GemType.values()) {
-            if (type.getId().equals(typeId)) {
-                return type;
+        NbtCompound nbt = customData.copyNbt();
+        GemType type = GemType.fromId(nbt.getString(UPGRADE_TYPE_KEY));
+        int tier = Math.min(nbt.getInt(UPGRADE_TIER_KEY), MAX_UPGRADE_TIER);
+        return type != null && tier > 0 ? new WeaponUpgrade(type, tier) : null;
+    }
+    
+    private static int migrateInventory(Inventory inventory) {
+        int migrated = 0;
+        for (int slot = 0; slot < inventory.size(); slot++) {
+            if (migrateLegacyUpgrade(inventory.getStack(slot))) {
+                migrated++;
             }
         }
-        return null;
+        if (migrated > 0) {
+            inventory.markDirty();
+        }
+        return migrated;
     }
     
     /**
@@ -162,22 +241,10 @@ public class WeaponUpgradeSystem {
         int newTier = currentTier + 1;
         int gemsUsed = getGemsNeededForNextTier(weapon);
         
-        // Create upgraded weapon
+        // Create upgraded weapon, dropping any legacy upgrade keys
         ItemStack upgraded = weapon.copy();
-        
-        // Get or create custom data
-        NbtCompound nbt = new NbtCompound();
-        if (upgraded.contains(DataComponentTypes.CUSTOM_DATA)) {
-            nbt = upgraded.get(DataComponentTypes.CUSTOM_DATA).copyNbt();
-        }
-        
-        // Set upgrade data
-        nbt.putInt(UPGRADE_TIER_KEY, newTier);
-        nbt.putString(UPGRADE_TYPE_KEY, gemType.getId());
-        nbt.putFloat(UPGRADE_DAMAGE_KEY, newTier * DAMAGE_INCREASE_PER_TIER);
-        
-        // Apply custom data
-        upgraded.set(DataComponentTypes.CUSTOM_DATA, NbtComponent.of(nbt));
+        migrateLegacyUpgrade(upgraded);
+        upgraded.set(ModDataComponents.WEAPON_UPGRADE, new WeaponUpgrade(gemType, newTier));
         
         // Update weapon name
         String tierRoman = getRomanNumeral(newTier);
@@ -199,14 +266,8 @@ public class WeaponUpgradeSystem {
      * Gets the total damage bonus for an upgraded weapon
      */
     public static float getDamageBonus(ItemStack weapon) {
-        if (!weapon.contains(DataComponentTypes.CUSTOM_DATA)) {
-            return 0.0f;
-        }
-        
-        NbtComponent customData = weapon.get(DataComponentTypes.CUSTOM_DATA);
-        if (customData == null) return 0.0f;
-        
-        return customData.copyNbt().getFloat(UPGRADE_DAMAGE_KEY);
+        WeaponUpgrade upgrade = getUpgrade(weapon);
+        return upgrade != null ? upgrade.damageBonus() : 0.0f;
     }
     
     /**
@@ -227,14 +288,10 @@ public class WeaponUpgradeSystem {
      * Gets upgrade information for tooltips
      */
     public static String getUpgradeInfo(ItemStack weapon) {
-        int tier = getUpgradeTier(weapon);
-        if (tier == 0) return null;
-        
-        GemType type = getUpgradeType(weapon);
-        if (type == null) return null;
+        WeaponUpgrade upgrade = getUpgrade(weapon);
+        if (upgrade == null) return null;
         
-        float damageBonus = getDamageBonus(weapon);
         return String.format("%s Enhancement %s (+%.0f%% damage)", 
-            type.getDisplayName(), getRomanNumeral(tier), damageBonus * 100);
+            upgrade.type().getDisplayName(), getRomanNumeral(upgrade.tier()), upgrade.damageBonus() * 100);
     }
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+package com.bvhfve.aethelon.util;
+
+import com.bvhfve.aethelon.compat.AlexsMobsCompat;
+import com.bvhfve.aethelon.compat.ModCompatibility;
+import com.bvhfve.aethelon.registry.ModEntityTypes;
+import net.fabricmc.fabric.api.event.registry.RegistryEntryAddedCallback;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.Identifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Precomputed per-entity-type flags for the mod's global Entity/LivingEntity hooks
+ *
+ * Hooks that run for every entity read one int stored on the entity's EntityType and return
+ * straight away when no flag they care about is set, so vanilla mobs skip all mod logic.
+ * Flags are assigned once per type: on initialization for known types, and as modded types register.
+ */
+public class EntityHookFlags {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("AethelonHookFlags");
+
+    // Aethelon turtles (block collision throttling)
+    public static final int TURTLE = 1;
+
+    // Can attack with upgraded weapons (damage bonus and elemental effects)
+    public static final int WEAPON_UPGRADES = 1 << 1;
+
+    // Protected by turtle shell armor against Alex's Mobs (only while Alex's Mobs is loaded)
+    public static final int SHELL_ARMOR = 1 << 2;
+
+    // Alex's Mobs creatures turtle shell armor protects against
+    public static final int ALEXS_MOBS_HOSTILE = 1 << 3;
+
+    /**
+     * Implemented on EntityType by EntityTypeMixin
+     */
+    public interface Holder {
+        int aethelon$getHookFlags();
+
+        void aethelon$setHookFlags(int flags);
+    }
+
+    /**
+     * Assign flags to registered types and to types registered later (call after ModCompatibility)
+     */
+    public static void initialize() {
+        for (EntityType<?> type : Registries.ENTITY_TYPE) {
+            assign(Registries.ENTITY_TYPE.getId(type), type);
+        }
+        RegistryEntryAddedCallback.event(Registries.ENTITY_TYPE).register((rawId, id, type) -> assign(id, type));
+        LOGGER.info("Entity hook flags initialized");
+    }
+
+    public static int get(EntityType<?> type) {
+        return ((Holder) type).aethelon$getHookFlags();
+    }
+
+    /**
+     * Whether an entity's type has any of the given flags
+     */
+    public static boolean has(Entity entity, int flags) {
+        return (get(entity.getType()) & flags) != 0;
+    }
+
+    private static void assign(Identifier id, EntityType<?> type) {
+        int flags = 0;
+        if (type == ModEntityTypes.AETHELON) {
+            flags |= TURTLE;
+        }
+        if (type == EntityType.PLAYER) {
+            flags |= WEAPON_UPGRADES;
+            if (ModCompatibility.isModLoaded(ModCompatibility.ALEXS_MOBS)) {
+                flags |= SHELL_ARMOR;
+            }
+        }
+        if (AlexsMobsCompat.isHostileAlexsMob(id)) {
+            flags |= ALEXS_MOBS_HOSTILE;
+        }
+        ((Holder) type).aethelon$setHookFlags(flags);
+    }
+}
@@ -0,0 +1,189 @@
+package com.bvhfve.aethelon.util;
+
+import com.bvhfve.aethelon.config.AethelonConfig;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.server.MinecraftServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adaptive performance governor driven by server tick time (MSPT)
+ *
+ * Features:
+ * - Measures every server tick and keeps a smoothed MSPT average
+ * - Steps through load levels relative to target_mspt from the config
+ * - Under load: LOD bands shrink, tick dividers grow, island block work gets a smaller budget,
+ *   island moves pause and optional compat effects are skipped
+ * - Escalates quickly, relaxes one level at a time after headroom has held for a while (hysteresis)
+ */
+public class PerformanceGovernor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("AethelonPerformanceGovernor");
+
+    // Smoothing factor for the MSPT average (roughly a one second window)
+    private static final double SMOOTHING = 0.1;
+
+    // MSPT must fall this far below a level's threshold before the level is left
+    private static final double RELAX_MARGIN = 0.85;
+
+    // Minimum ticks between level changes
+    private static final int ESCALATE_DWELL_TICKS = 20;  // 1 second
+    private static final int RELAX_DWELL_TICKS = 200;    // 10 seconds
+
+    /**
+     * Load levels, ordered from no load to overload
+     */
+    public enum LoadLevel {
+        //         threshold  bandScale  dividerMultiplier  workBudgetScale
+        NORMAL(    0.0,       1.0f,      1,                 1.0),
+        ELEVATED(  0.8,       0.75f,     2,                 0.75),
+        HIGH(      1.0,       0.5f,      3,                 0.5),
+        CRITICAL(  1.25,      0.35f,     4,                 0.25);
+
+        /** Fraction of target MSPT at which this level is entered */
+        public final double threshold;
+        /** Multiplier for the LOD distance bands */
+        public final float bandScale;
+        /** Multiplier for the LOD tick dividers */
+        public final int dividerMultiplier;
+        /** Multiplier for the island work queue's per-tick budget */
+        public final double workBudgetScale;
+
+        LoadLevel(double threshold, float bandScale, int dividerMultiplier, double workBudgetScale) {
+            this.threshold = threshold;
+            this.bandScale = bandScale;
+            this.dividerMultiplier = dividerMultiplier;
+            this.workBudgetScale = workBudgetScale;
+        }
+    }
+
+    private static volatile LoadLevel level = LoadLevel.NORMAL;
+    private static double averageMspt = 0.0;
+    private static long tickStartNanos = 0L;
+    private static int ticksAtLevel = 0;
+
+    /**
+     * Register tick time sampling
+     */
+    public static void initialize() {
+        ServerTickEvents.START_SERVER_TICK.register(server -> tickStartNanos = System.nanoTime());
+        ServerTickEvents.END_SERVER_TICK.register(PerformanceGovernor::sample);
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> reset());
+        LOGGER.info("Performance governor initialized");
+    }
+
+    private static void sample(MinecraftServer server) {
+        if (tickStartNanos == 0L) return;
+        double mspt = (System.nanoTime() - tickStartNanos) / 1_000_000.0;
+        averageMspt = averageMspt == 0.0 ? mspt : averageMspt + (mspt - averageMspt) * SMOOTHING;
+        ticksAtLevel++;
+
+        if (!isEnabled()) {
+            if (level != LoadLevel.NORMAL) {
+                setLevel(LoadLevel.NORMAL);
+            }
+            return;
+        }
+
+        double load = averageMspt / getTargetMspt();
+        LoadLevel[] levels = LoadLevel.values();
+
+        // Escalate straight to the level the load calls for
+        LoadLevel target = LoadLevel.NORMAL;
+        for (LoadLevel candidate : levels) {
+            if (load >= candidate.threshold) {
+                target = candidate;
+            }
+        }
+        if (target.ordinal() > level.ordinal()) {
+            if (ticksAtLevel >= ESCALATE_DWELL_TICKS) {
+                setLevel(target);
+            }
+            return;
+        }
+
+        // Relax one level once the load is clearly below the current threshold
+        if (level != LoadLevel.NORMAL && load < level.threshold * RELAX_MARGIN && ticksAtLevel >= RELAX_DWELL_TICKS) {
+            setLevel(levels[level.ordinal() - 1]);
+        }
+    }
+
+    private static void setLevel(LoadLevel newLevel) {
+        LoadLevel previous = level;
+        level = newLevel;
+        ticksAtLevel = 0;
+        if (newLevel.ordinal() > previous.ordinal()) {
+            LOGGER.info("Server load {} -> {} (average {} ms/tick, target {} ms)",
+                       previous, newLevel, String.format("%.1f", averageMspt), getTargetMspt());
+        } else {
+            LOGGER.info("Server load relaxed {} -> {} (average {} ms/tick)",
+                       previous, newLevel, String.format("%.1f", averageMspt));
+        }
+    }
+
+    private static void reset() {
+        level = LoadLevel.NORMAL;
+        averageMspt = 0.0;
+        tickStartNanos = 0L;
+        ticksAtLevel = 0;
+    }
+
+    /**
+     * Current load level
+     */
+    public static LoadLevel getLevel() {
+        return level;
+    }
+
+    /**
+     * Smoothed server tick time in milliseconds
+     */
+    public static double getAverageMspt() {
+        return averageMspt;
+    }
+
+    /**
+     * Multiplier for LOD distance bands (1.0 without load, smaller under load)
+     */
+    public static float getBandScale() {
+        return level.bandScale;
+    }
+
+    /**
+     * Multiplier for LOD tick dividers (1 without load)
+     */
+    public static int getDividerMultiplier() {
+        return level.dividerMultiplier;
+    }
+
+    /**
+     * Multiplier for the island work queue's per-tick budget (1.0 without load)
+     */
+    public static double getWorkBudgetScale() {
+        return level.workBudgetScale;
+    }
+
+    /**
+     * Whether optional ambient compat effects should be skipped this time
+     */
+    public static boolean shouldDeferCompatEffects() {
+        return level.ordinal() >= LoadLevel.ELEVATED.ordinal();
+    }
+
+    /**
+     * Whether island block moves (capture, write-back, real-block carrying) should wait for now
+     * Moves resume with the accumulated displacement once load drops
+     */
+    public static boolean shouldPauseIslandMoves() {
+        return level.ordinal() >= LoadLevel.HIGH.ordinal();
+    }
+
+    private static boolean isEnabled() {
+        return AethelonConfig.INSTANCE == null || AethelonConfig.INSTANCE.enable_performance_governor;
+    }
+
+    private static double getTargetMspt() {
+        return AethelonConfig.INSTANCE != null ? AethelonConfig.INSTANCE.target_mspt : 40.0;
+    }
+}
@@ -1,6 +1,7 @@
 package com.bvhfve.aethelon.util;
 
 import com.bvhfve.aethelon.config.AethelonConfig;
+import com.bvhfve.aethelon.entity.AethelonEntity;
 import net.minecraft.entity.Entity;
 import net.minecraft.util.math.Vec3d;
 
@@ -26,15 +27,17 @@ public class PerformanceManager {
     
     /**
      * Determine performance level based on distance to player
+     * On the server the bands shrink with the governor's load level, so detail drops off sooner under lag
      */
     public static PerformanceLevel getPerformanceLevel(Entity entity) {
         float distance = getDistanceToPlayer(entity);
+        float scale = getBandScale(entity);
         
-        if (distance <= NEAR_DISTANCE) {
+        if (distance <= NEAR_DISTANCE * scale) {
             return PerformanceLevel.HIGH;
-        } else if (distance <= MID_DISTANCE) {
+        } else if (distance <= MID_DISTANCE * scale) {
             return PerformanceLevel.MEDIUM;
-        } else if (distance <= FAR_DISTANCE) {
+        } else if (distance <= FAR_DISTANCE * scale) {
             return PerformanceLevel.LOW;
         } else {
             return PerformanceLevel.MINIMAL;
@@ -69,18 +72,32 @@ public class PerformanceManager {
      */
     public static int getTickRateDivider(Entity entity) {
         PerformanceLevel level = getPerformanceLevel(entity);
-        return switch (level) {
+        int divider = switch (level) {
             case HIGH -> 1;     // Full tick rate
             case MEDIUM -> 2;   // Half tick rate
             case LOW -> 4;      // Quarter tick rate
             case MINIMAL -> 8;  // Eighth tick rate
         };
+        return entity.getWorld().isClient ? divider : divider * PerformanceGovernor.getDividerMultiplier();
+    }
+    
+    /**
+     * Distance band multiplier from the governor (client rendering always uses the full bands)
+     */
+    private static float getBandScale(Entity entity) {
+        return entity.getWorld().isClient ? 1.0f : PerformanceGovernor.getBandScale();
     }
     
     /**
      * Get efficient distance to player
      */
     private static float getDistanceToPlayer(Entity entity) {
+        // Turtles share one cached lookup per tick
+        if (entity instanceof AethelonEntity turtle) {
+            PlayerProximityService.Proximity proximity = PlayerProximityService.get(turtle);
+            return proximity.getDistance() <= MAX_DISTANCE ? proximity.getHorizontalManhattanDistance() : Float.MAX_VALUE;
+        }
+        
         // Find closest player (works on both client and server)
         var closestPlayer = entity.getWorld().getClosestPlayer(entity, MAX_DISTANCE);
         if (closestPlayer != null) {
@@ -0,0 +1,145 @@
+package com.bvhfve.aethelon.util;
+
+import com.bvhfve.aethelon.entity.AethelonEntity;
+import com.bvhfve.aethelon.entity.TurtleRegistry;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.World;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Shared nearest-player lookup for turtles, computed once per tick
+ *
+ * LOD, mixin and AI code all used to call getClosestPlayer (a loop over every player) several
+ * times per turtle per tick. Instead:
+ * - At the start of each server world tick, every registered turtle gets one pass over the players
+ * - Results are cached on the turtle and stamped with the tick they belong to
+ * - Turtles not covered by the pass (client worlds) are computed lazily, still at most once per tick
+ */
+public class PlayerProximityService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("AethelonPlayerProximity");
+
+    // Players closer than this count towards playersInRange
+    public static final double TRACKING_RANGE = 256.0;
+    private static final double TRACKING_RANGE_SQUARED = TRACKING_RANGE * TRACKING_RANGE;
+
+    /**
+     * Cached nearest-player data for one turtle
+     */
+    public static class Proximity {
+        private long stamp = Long.MIN_VALUE;
+        private PlayerEntity nearestPlayer = null;
+        private double distance = Double.MAX_VALUE;
+        private float horizontalManhattanDistance = Float.MAX_VALUE;
+        private int playersInRange = 0;
+
+        /**
+         * Nearest non-spectator player, or null if the world has none
+         */
+        public PlayerEntity getNearestPlayer() {
+            return nearestPlayer;
+        }
+
+        /**
+         * Euclidean distance to the nearest player (Double.MAX_VALUE if none)
+         */
+        public double getDistance() {
+            return distance;
+        }
+
+        /**
+         * |dx| + |dz| to the nearest player (Float.MAX_VALUE if none), used by the LOD thresholds
+         */
+        public float getHorizontalManhattanDistance() {
+            return horizontalManhattanDistance;
+        }
+
+        /**
+         * Number of players within TRACKING_RANGE
+         */
+        public int getPlayersInRange() {
+            return playersInRange;
+        }
+    }
+
+    /**
+     * Register the per-tick update
+     */
+    public static void initialize() {
+        ServerTickEvents.START_WORLD_TICK.register(PlayerProximityService::updateWorld);
+        LOGGER.info("Player proximity service initialized");
+    }
+
+    /**
+     * Get the cached proximity for this tick
+     */
+    public static Proximity get(AethelonEntity turtle) {
+        Proximity proximity = turtle.getProximity();
+        long stamp = getStamp(turtle.getWorld());
+        if (proximity.stamp != stamp) {
+            update(turtle, turtle.getWorld().getPlayers(), stamp);
+        }
+        return proximity;
+    }
+
+    /**
+     * Nearest player within a range, or null (cached replacement for getClosestPlayer(turtle, range))
+     */
+    public static PlayerEntity getNearestPlayer(AethelonEntity turtle, double range) {
+        Proximity proximity = get(turtle);
+        return proximity.distance <= range ? proximity.nearestPlayer : null;
+    }
+
+    private static void updateWorld(ServerWorld world) {
+        List<? extends PlayerEntity> players = world.getPlayers();
+        long stamp = getStamp(world);
+        for (AethelonEntity turtle : TurtleRegistry.getTurtles(world)) {
+            // Sleeping turtles are woken by TurtleSleepManager's own player check; get() still works on demand
+            if (turtle.isAsleep()) continue;
+            update(turtle, players, stamp);
+        }
+    }
+
+    private static void update(AethelonEntity turtle, List<? extends PlayerEntity> players, long stamp) {
+        PlayerEntity nearest = null;
+        double nearestSquared = Double.MAX_VALUE;
+        int inRange = 0;
+
+        for (PlayerEntity player : players) {
+            if (player.isSpectator()) continue;
+            double squared = turtle.squaredDistanceTo(player);
+            if (squared < nearestSquared) {
+                nearestSquared = squared;
+                nearest = player;
+            }
+            if (squared <= TRACKING_RANGE_SQUARED) {
+                inRange++;
+            }
+        }
+
+        Proximity proximity = turtle.getProximity();
+        proximity.stamp = stamp;
+        proximity.nearestPlayer = nearest;
+        proximity.playersInRange = inRange;
+        if (nearest != null) {
+            proximity.distance = Math.sqrt(nearestSquared);
+            proximity.horizontalManhattanDistance = (float) (Math.abs(turtle.getX() - nearest.getX()) + Math.abs(turtle.getZ() - nearest.getZ()));
+        } else {
+            proximity.distance = Double.MAX_VALUE;
+            proximity.horizontalManhattanDistance = Float.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Tick stamp: the server tick counter is constant for a whole server tick (all worlds),
+     * client worlds use their own time
+     */
+    private static long getStamp(World world) {
+        return world instanceof ServerWorld serverWorld ? serverWorld.getServer().getTicks() : world.getTime();
+    }
+}
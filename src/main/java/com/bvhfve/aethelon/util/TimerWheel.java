@@ -0,0 +1,106 @@
+package com.bvhfve.aethelon.util;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timer wheel keyed by game tick
+ *
+ * Each timer sits in the slot of its deadline (deadline mod slot count); advancing one tick
+ * only visits that slot, so thousands of long timers cost a handful of checks per tick.
+ * Timers further out than one turn of the wheel simply stay in their slot for later rounds.
+ * Cancelled timers are dropped lazily when their slot comes round.
+ */
+public class TimerWheel<T> {
+
+    private static final int SLOT_BITS = 10; // 1024 slots
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+
+    private static class Timer<T> {
+        final T value;
+        final long deadline;
+        boolean cancelled = false;
+
+        Timer(T value, long deadline) {
+            this.value = value;
+            this.deadline = deadline;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private final List<Timer<T>>[] slots = new List[1 << SLOT_BITS];
+    private final Reference2ObjectOpenHashMap<T, Timer<T>> active = new Reference2ObjectOpenHashMap<>();
+    private long currentTick = Long.MIN_VALUE;
+
+    /**
+     * Schedule (or reschedule) a value to fire at a tick
+     */
+    public void schedule(T value, long deadline) {
+        cancel(value);
+        // Never into the past: a deadline already passed fires on the next advance
+        long tick = currentTick == Long.MIN_VALUE ? deadline : Math.max(deadline, currentTick + 1);
+        Timer<T> timer = new Timer<>(value, tick);
+        int slot = (int) (tick & SLOT_MASK);
+        if (slots[slot] == null) {
+            slots[slot] = new ArrayList<>(4);
+        }
+        slots[slot].add(timer);
+        active.put(value, timer);
+    }
+
+    /**
+     * Cancel a value's timer, if any
+     */
+    public void cancel(T value) {
+        Timer<T> timer = active.remove(value);
+        if (timer != null) {
+            timer.cancelled = true;
+        }
+    }
+
+    public boolean isScheduled(T value) {
+        return active.containsKey(value);
+    }
+
+    public int size() {
+        return active.size();
+    }
+
+    /**
+     * Advance to a tick, firing every timer due on the way (at most one full turn of slots)
+     */
+    public void advance(long now, Consumer<T> onFire) {
+        if (currentTick == Long.MIN_VALUE) {
+            currentTick = now - 1;
+        } else if (now - currentTick > SLOT_MASK + 1) {
+            currentTick = now - (SLOT_MASK + 1); // One full turn visits every slot
+        }
+        while (currentTick < now) {
+            currentTick++;
+            List<Timer<T>> slot = slots[(int) (currentTick & SLOT_MASK)];
+            if (slot == null || slot.isEmpty()) continue;
+
+            List<T> fired = null;
+            for (int i = slot.size() - 1; i >= 0; i--) {
+                Timer<T> timer = slot.get(i);
+                if (timer.cancelled || timer.deadline <= currentTick) {
+                    // Swap-remove: order inside a slot doesn't matter
+                    slot.set(i, slot.get(slot.size() - 1));
+                    slot.remove(slot.size() - 1);
+                    if (!timer.cancelled) {
+                        active.remove(timer.value);
+                        if (fired == null) fired = new ArrayList<>(2);
+                        fired.add(timer.value);
+                    }
+                }
+            }
+            // Fire after the slot is consistent, callbacks may schedule new timers
+            if (fired != null) {
+                fired.forEach(onFire);
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.bvhfve.aethelon.util;
+
+import net.minecraft.util.math.random.Random;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Immutable weighted sampler using Vose's alias method
+ *
+ * Building the tables is O(n); every sample afterwards is O(1) and uses exactly
+ * one nextInt and one nextDouble call, so a seeded Random gives reproducible picks.
+ * Entries with a weight of zero or less are never selected.
+ */
+public final class WeightedAliasSampler<T> {
+
+    private static final WeightedAliasSampler<?> EMPTY = new WeightedAliasSampler<>(List.of(), new double[0], new int[0], 0);
+
+    private final List<T> entries;
+    private final double[] probability;
+    private final int[] alias;
+    private final long totalWeight;
+
+    private WeightedAliasSampler(List<T> entries, double[] probability, int[] alias, long totalWeight) {
+        this.entries = entries;
+        this.probability = probability;
+        this.alias = alias;
+        this.totalWeight = totalWeight;
+    }
+
+    /**
+     * Build a sampler from entries and a weight function
+     */
+    public static <T> WeightedAliasSampler<T> create(Collection<T> candidates, ToIntFunction<T> weightFunction) {
+        List<T> entries = new ArrayList<>(candidates.size());
+        List<Integer> weights = new ArrayList<>(candidates.size());
+        long totalWeight = 0;
+        for (T candidate : candidates) {
+            int weight = weightFunction.applyAsInt(candidate);
+            if (weight > 0) {
+                entries.add(candidate);
+                weights.add(weight);
+                totalWeight += weight;
+            }
+        }
+
+        int n = entries.size();
+        if (n == 0) {
+            return empty();
+        }
+
+        // Scale weights so the average is 1, then pair small and large columns
+        double[] probability = new double[n];
+        int[] alias = new int[n];
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights.get(i) * (double) n / totalWeight;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // Leftovers are full columns (only off by floating point error)
+        while (largeCount > 0) {
+            int index = large[--largeCount];
+            probability[index] = 1.0;
+            alias[index] = index;
+        }
+        while (smallCount > 0) {
+            int index = small[--smallCount];
+            probability[index] = 1.0;
+            alias[index] = index;
+        }
+
+        return new WeightedAliasSampler<>(Collections.unmodifiableList(entries), probability, alias, totalWeight);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> WeightedAliasSampler<T> empty() {
+        return (WeightedAliasSampler<T>) EMPTY;
+    }
+
+    /**
+     * Pick a weighted random entry, or null if the sampler is empty
+     */
+    public T sample(Random random) {
+        if (entries.isEmpty()) return null;
+        int column = random.nextInt(entries.size());
+        return random.nextDouble() < probability[column] ? entries.get(column) : entries.get(alias[column]);
+    }
+
+    /**
+     * Deterministic pick for a seed (same seed, same entry)
+     */
+    public T sample(long seed) {
+        return sample(Random.create(seed));
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public List<T> getEntries() {
+        return entries;
+    }
+
+    public long getTotalWeight() {
+        return totalWeight;
+    }
+}